@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.alias;
+
+import com.liferay.vulcan.resource.identifier.Identifier;
+
+import java.io.InputStream;
+
+import java.util.function.Function;
+
+/**
+ * Defines a type alias for a function that receives the {@link Identifier} of
+ * a model, and returns a binary representation of that model in an {@code
+ * InputStream}, without having to retrieve the model first.
+ *
+ * <p>
+ * Because the model isn't retrieved, Vulcan doesn't check that it exists or
+ * that the user can access it. The function must do both checks, throwing a
+ * {@code javax.ws.rs.NotFoundException} if the model doesn't exist or the
+ * user can't access it, before returning the binary.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@FunctionalInterface
+public interface IdentifierBinaryFunction<U extends Identifier>
+	extends Function<U, InputStream> {
+}
\ No newline at end of file
@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.context;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Memoizes values for the duration of a request, so resources, routes, and
+ * writers can reuse them instead of calculating them again. A context stores
+ * the instances provided for each class, and the models loaded for each pair
+ * of model class and identifier.
+ *
+ * <p>
+ * Only one context exists for each request. Use {@link
+ * #from(HttpServletRequest)} to obtain it.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class RequestContext {
+
+	/**
+	 * Returns the context of the request, creating it if it doesn't exist yet.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return the context of the request
+	 */
+	public static RequestContext from(HttpServletRequest httpServletRequest) {
+		synchronized (httpServletRequest) {
+			Object requestContext = httpServletRequest.getAttribute(
+				_ATTRIBUTE_NAME);
+
+			if (requestContext instanceof RequestContext) {
+				return (RequestContext)requestContext;
+			}
+
+			RequestContext newRequestContext = new RequestContext();
+
+			httpServletRequest.setAttribute(_ATTRIBUTE_NAME, newRequestContext);
+
+			return newRequestContext;
+		}
+	}
+
+	/**
+	 * Removes every memoized model and provided instance. Call this method
+	 * after an operation that modifies models, like an operation of a batch
+	 * request, so the operations that follow don't reuse stale values.
+	 */
+	public void clear() {
+		_models.clear();
+		_provided.clear();
+	}
+
+	/**
+	 * Returns the model of the class with the identifier. The function is only
+	 * called the first time a model is requested for the pair of model class
+	 * and identifier. Subsequent calls return the memoized result, even if it
+	 * is {@code Optional#empty()}.
+	 *
+	 * <p>
+	 * The function may request other models from this context, even of the
+	 * same class. If two threads request the same model at the same time,
+	 * both may call the function, but both return the first memoized result.
+	 * </p>
+	 *
+	 * @param  modelClass the model's class
+	 * @param  identifier the model's identifier
+	 * @param  modelFunction the function used to get the model
+	 * @return the model, if present; {@code Optional#empty()} otherwise
+	 */
+	public <K, S> Optional<S> getModelOptional(
+		Class<S> modelClass, K identifier,
+		Function<K, Optional<S>> modelFunction) {
+
+		Map<Object, Optional<?>> models = _getModels(modelClass);
+
+		Optional<?> optional = models.get(identifier);
+
+		if (optional == null) {
+			optional = modelFunction.apply(identifier);
+
+			Optional<?> previousOptional = models.putIfAbsent(
+				identifier, optional);
+
+			if (previousOptional != null) {
+				optional = previousOptional;
+			}
+		}
+
+		return (Optional<S>)optional;
+	}
+
+	/**
+	 * Returns the models of the class with the identifiers, mapped by
+	 * identifier. The batch function is called once, only with the
+	 * identifiers that don't have a memoized model yet. Identifiers without
+	 * model aren't included in the map.
+	 *
+	 * @param  modelClass the models' class
+	 * @param  identifiers the models' identifiers
+	 * @param  batchFunction the function used to get the models of a
+	 *         collection of identifiers, mapped by identifier
+	 * @return the models, mapped by identifier
+	 */
+	public <K, S> Map<K, S> getModels(
+		Class<S> modelClass, Collection<K> identifiers,
+		Function<Collection<K>, Map<K, S>> batchFunction) {
+
+		Map<Object, Optional<?>> models = _getModels(modelClass);
+
+		Set<K> missingIdentifiers = new LinkedHashSet<>();
+
+		for (K identifier : identifiers) {
+			if (!models.containsKey(identifier)) {
+				missingIdentifiers.add(identifier);
+			}
+		}
+
+		if (!missingIdentifiers.isEmpty()) {
+			Map<K, S> loadedModels = batchFunction.apply(missingIdentifiers);
+
+			for (K identifier : missingIdentifiers) {
+				models.putIfAbsent(
+					identifier,
+					Optional.ofNullable(loadedModels.get(identifier)));
+			}
+		}
+
+		Map<K, S> map = new HashMap<>();
+
+		for (K identifier : identifiers) {
+			Optional<S> optional = (Optional<S>)models.get(identifier);
+
+			optional.ifPresent(model -> map.put(identifier, model));
+		}
+
+		return map;
+	}
+
+	/**
+	 * Returns the instance provided for the class. The supplier is only called
+	 * the first time an instance is requested for the class. Subsequent calls
+	 * return the memoized result, even if it is {@code Optional#empty()}. As
+	 * with {@link #getModelOptional(Class, Object, Function)}, concurrent
+	 * callers always return the first memoized instance.
+	 *
+	 * @param  clazz the provided class
+	 * @param  supplier the supplier of the instance
+	 * @return the instance, if present; {@code Optional#empty()} otherwise
+	 */
+	public <T> Optional<T> provide(
+		Class<T> clazz, Supplier<Optional<T>> supplier) {
+
+		Optional<?> optional = _provided.get(clazz);
+
+		if (optional == null) {
+			optional = supplier.get();
+
+			Optional<?> previousOptional = _provided.putIfAbsent(
+				clazz, optional);
+
+			if (previousOptional != null) {
+				optional = previousOptional;
+			}
+		}
+
+		return (Optional<T>)optional;
+	}
+
+	private Map<Object, Optional<?>> _getModels(Class<?> modelClass) {
+		return _models.computeIfAbsent(
+			modelClass, clazz -> new ConcurrentHashMap<>());
+	}
+
+	private static final String _ATTRIBUTE_NAME =
+		RequestContext.class.getName();
+
+	private final Map<Class<?>, Map<Object, Optional<?>>> _models =
+		new ConcurrentHashMap<>();
+	private final Map<Class<?>, Optional<?>> _provided =
+		new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.context;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import java.util.function.Function;
+
+/**
+ * Defines propagators of the request thread's state (for example, the current
+ * user and its permissions) to the threads that write parts of a response in
+ * parallel.
+ *
+ * @author Alejandro Hernández
+ */
+@ConsumerType
+public interface ThreadContextPropagator {
+
+	/**
+	 * Returns a function that applies the provided function with the context
+	 * of the thread calling this method. The returned function can be applied
+	 * in any thread, and restores that thread's previous context afterward.
+	 *
+	 * @param  function the function
+	 * @return the function that applies the provided one with the calling
+	 *         thread's context
+	 */
+	public <T, R> Function<T, R> propagate(Function<T, R> function);
+
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.endpoint;
+
+import com.liferay.vulcan.result.Try;
+
+import java.util.List;
+
+/**
+ * Holds the results of the operations sent in a batch request to {@link
+ * RootEndpoint}, in the same order as the operations were sent. Every
+ * operation has already run when the batch result is created, so the
+ * response's status and headers never depend on operations that haven't run
+ * yet.
+ *
+ * <p>
+ * Each result is a {@code Try} whose value is a {@link
+ * com.liferay.vulcan.pagination.SingleModel}, a {@link
+ * com.liferay.vulcan.pagination.Page}, or a {@code javax.ws.rs.core.Response}
+ * without entity; or whose exception is the reason the operation failed.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class BatchResult {
+
+	public BatchResult(List<Try<Object>> resultTries) {
+		_resultTries = resultTries;
+	}
+
+	/**
+	 * Returns the results of the batch's operations, in the same order as the
+	 * operations.
+	 *
+	 * @return the results of the batch's operations
+	 */
+	public List<Try<Object>> getResultTries() {
+		return _resultTries;
+	}
+
+	private final List<Try<Object>> _resultTries;
+
+}
\ No newline at end of file
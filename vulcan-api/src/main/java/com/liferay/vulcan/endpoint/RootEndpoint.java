@@ -81,7 +81,8 @@ public interface RootEndpoint {
 	 *
 	 * @param  name the name of the resource to delete, extracted from the URL
 	 * @param  id the ID of the resource to delete
-	 * @return the operation's {@code javax.ws.rs.core.Response}, or an
+	 * @return the operation's {@code javax.ws.rs.core.Response}, or a
+	 *         response whose entity is the {@code Try.Failure} with the
 	 *         exception if an error occurred
 	 */
 	@DELETE
@@ -90,7 +91,35 @@ public interface RootEndpoint {
 		@PathParam("name") String name, @PathParam("id") String id);
 
 	/**
-	 * Returns the {@code InputStream} for the specified resource.
+	 * Executes a batch of operations in a single request, and returns their
+	 * results in the same order. The body must have an {@code operations}
+	 * list, where each operation has a case-insensitive {@code method}
+	 * ({@code GET}, {@code POST}, {@code PUT}, or {@code DELETE}), a {@code
+	 * path} starting with {@code /p/}, and, for {@code POST} and {@code PUT},
+	 * a {@code body}.
+	 *
+	 * <p>
+	 * The operations are executed one after another through the same routes
+	 * as their standalone requests, sharing this request's context and query
+	 * parameters, and all of them run before the response is written. A
+	 * failed operation doesn't stop the next ones. The routes run on the
+	 * request thread; the items of each page result are still written in
+	 * parallel, like the items of a standalone page.
+	 * </p>
+	 *
+	 * @param  body the request's body
+	 * @return the results of the batch's operations, or an exception if the
+	 *         body isn't a valid batch
+	 */
+	@Consumes(MediaType.APPLICATION_JSON)
+	@Path("/batch")
+	@POST
+	public Try<BatchResult> executeBatch(Map<String, Object> body);
+
+	/**
+	 * Returns the {@code InputStream} for the specified resource. {@code HEAD}
+	 * requests get the binary through the same function as {@code GET}
+	 * requests, so they have the same headers, but the binary isn't read.
 	 *
 	 * @param  name the resource's name, extracted from the URL
 	 * @param  id the resource's ID
@@ -118,7 +147,12 @@ public interface RootEndpoint {
 		@PathParam("name") String name, @PathParam("id") String id);
 
 	/**
-	 * Returns the collection {@link Page} for the specified resource.
+	 * Returns the collection {@link Page} for the specified resource. If the
+	 * request has {@code id} query parameters (e.g., {@code
+	 * /p/people?id=1&id=2}), the page instead contains the single models with
+	 * those IDs, obtained in one call to the resource's batch getter. Batch
+	 * pages don't have pagination links, and requests with more IDs than the
+	 * configured maximum fail with a {@code 400} status.
 	 *
 	 * @param  name the resource's name, extracted from the URL
 	 * @return the collection {@link Page} for the specified resource, or an
@@ -14,11 +14,10 @@
 
 package com.liferay.vulcan.list;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 import java.util.stream.Stream;
 
 /**
@@ -27,6 +26,13 @@ import java.util.stream.Stream;
  * methods this interface defines to take different elements from the list.
  * Instances of {@code FunctionalList} should always have at least one element.
  *
+ * <p>
+ * Lists are persistent: appending an element creates a new list that shares
+ * the elements of the previous one, so appending takes constant time no matter
+ * how long the list is. The array and path views of a list are computed once
+ * and then reused.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés§
  * @author Jorge Ferrer
@@ -34,21 +40,31 @@ import java.util.stream.Stream;
 public class FunctionalList<T> {
 
 	public FunctionalList(FunctionalList<T> functionalList, T last) {
+		_parent = functionalList;
+		_element = last;
+
 		if (functionalList == null) {
 			_first = last;
-			_tail = Collections.emptyList();
+			_size = 1;
 		}
 		else {
-			_first = functionalList.head();
-
-			Stream<T> stream = functionalList.tailStream();
-
-			List<T> tail = stream.collect(Collectors.toList());
-
-			tail.add(last);
+			_first = functionalList._first;
+			_size = functionalList._size + 1;
+		}
+	}
 
-			_tail = tail;
+	/**
+	 * Performs the action for each element of the list, in order, without
+	 * creating intermediate collections.
+	 *
+	 * @param consumer the action to perform for each element
+	 */
+	public void forEach(Consumer<? super T> consumer) {
+		if (_parent != null) {
+			_parent.forEach(consumer);
 		}
+
+		consumer.accept(_element);
 	}
 
 	/**
@@ -67,19 +83,11 @@ public class FunctionalList<T> {
 	 *         list
 	 */
 	public Stream<T> initStream() {
-		if (_init == null) {
-			List<T> init = new ArrayList<>();
-
-			init.add(_first);
-
-			Stream<T> stream = middleStream();
-
-			init.addAll(stream.collect(Collectors.toList()));
-
-			_init = init;
+		if (_parent == null) {
+			return Stream.of(_element);
 		}
 
-		return _init.stream();
+		return Arrays.stream(_getElements(), 0, _size - 1);
 	}
 
 	/**
@@ -88,15 +96,33 @@ public class FunctionalList<T> {
 	 * @return the last element of the list; {@code Optional.empty()} otherwise
 	 */
 	public Optional<T> lastOptional() {
-		if (_last == null) {
-			if (_tail.size() == 0) {
-				return Optional.empty();
-			}
+		if (_parent == null) {
+			return Optional.empty();
+		}
+
+		return Optional.of(_element);
+	}
+
+	/**
+	 * Returns all elements of the list except the first and last, as an array.
+	 * The array is created the first time this method is called and is shared
+	 * by later calls, so it must not be modified.
+	 *
+	 * @param  generator the function that creates an array of the requested
+	 *         length
+	 * @return an array that contains all list elements except the first and
+	 *         last
+	 */
+	public T[] middleArray(IntFunction<T[]> generator) {
+		T[] middleArray = _middleArray;
+
+		if (middleArray == null) {
+			middleArray = _copyElements(generator, 1, Math.max(1, _size - 1));
 
-			_last = _tail.get(_tail.size() - 1);
+			_middleArray = middleArray;
 		}
 
-		return Optional.of(_last);
+		return middleArray;
 	}
 
 	/**
@@ -106,16 +132,65 @@ public class FunctionalList<T> {
 	 *         and last
 	 */
 	public Stream<T> middleStream() {
-		if (_middle == null) {
-			if (_tail.size() == 0) {
-				_middle = Collections.emptyList();
+		if (_size < 3) {
+			return Stream.empty();
+		}
+
+		return Arrays.stream(_getElements(), 1, _size - 1);
+	}
+
+	/**
+	 * Returns the elements of the list joined with dots (e.g., {@code
+	 * "element1.element2"}). The path is computed from the path of the list
+	 * this list extends, the first time this method is called.
+	 *
+	 * @return the elements of the list joined with dots
+	 */
+	public String path() {
+		String path = _path;
+
+		if (path == null) {
+			if (_parent == null) {
+				path = String.valueOf(_element);
 			}
 			else {
-				_middle = _tail.subList(0, _tail.size() - 1);
+				path = _parent.path() + "." + _element;
 			}
+
+			_path = path;
+		}
+
+		return path;
+	}
+
+	/**
+	 * Returns the number of elements in the list.
+	 *
+	 * @return the number of elements in the list
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Returns all elements of the list except the first, as an array. The
+	 * array is created the first time this method is called and is shared by
+	 * later calls, so it must not be modified.
+	 *
+	 * @param  generator the function that creates an array of the requested
+	 *         length
+	 * @return an array that contains all list elements except the first
+	 */
+	public T[] tailArray(IntFunction<T[]> generator) {
+		T[] tailArray = _tailArray;
+
+		if (tailArray == null) {
+			tailArray = _copyElements(generator, 1, _size);
+
+			_tailArray = tailArray;
 		}
 
-		return _middle.stream();
+		return tailArray;
 	}
 
 	/**
@@ -124,13 +199,50 @@ public class FunctionalList<T> {
 	 * @return a {@code Stream} that contains all list elements except the first
 	 */
 	public Stream<T> tailStream() {
-		return _tail.stream();
+		if (_parent == null) {
+			return Stream.empty();
+		}
+
+		return Arrays.stream(_getElements(), 1, _size);
+	}
+
+	private T[] _copyElements(IntFunction<T[]> generator, int from, int to) {
+		T[] array = generator.apply(to - from);
+
+		if (array.length > 0) {
+			System.arraycopy(_getElements(), from, array, 0, array.length);
+		}
+
+		return array;
+	}
+
+	@SuppressWarnings("unchecked")
+	private T[] _getElements() {
+		T[] elements = _elements;
+
+		if (elements == null) {
+			if (_parent == null) {
+				elements = (T[])new Object[] {_element};
+			}
+			else {
+				elements = Arrays.copyOf(_parent._getElements(), _size);
+
+				elements[_size - 1] = _element;
+			}
+
+			_elements = elements;
+		}
+
+		return elements;
 	}
 
+	private final T _element;
+	private volatile T[] _elements;
 	private final T _first;
-	private List<T> _init;
-	private T _last;
-	private List<T> _middle;
-	private final List<T> _tail;
+	private volatile T[] _middleArray;
+	private final FunctionalList<T> _parent;
+	private volatile String _path;
+	private final int _size;
+	private volatile T[] _tailArray;
 
 }
\ No newline at end of file
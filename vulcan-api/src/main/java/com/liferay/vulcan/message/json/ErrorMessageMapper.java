@@ -45,6 +45,20 @@ public interface ErrorMessageMapper {
 	 */
 	public String getMediaType();
 
+	/**
+	 * Returns {@code true} if the mapper's representation of an API error only
+	 * depends on the error's description, status code, title, and type, and
+	 * not on the current request. The representations written by these
+	 * mappers are reused for API errors without description that have equal
+	 * status codes, titles, and types.
+	 *
+	 * @return {@code true} if the mapper's representations can be reused;
+	 *         {@code false} otherwise
+	 */
+	public default boolean isCacheable() {
+		return false;
+	}
+
 	/**
 	 * Maps an error description to its JSON object representation.
 	 *
@@ -20,6 +20,7 @@ import com.liferay.vulcan.list.FunctionalList;
 import com.liferay.vulcan.pagination.Page;
 
 import java.util.List;
+import java.util.Optional;
 
 import javax.ws.rs.core.HttpHeaders;
 
@@ -42,6 +43,14 @@ import javax.ws.rs.core.HttpHeaders;
  * Otherwise, the page message mapper's methods aren't called in a particular
  * order.
  *
+ * <p>
+ * Mappers that only add finished items to a single JSON array of the page can
+ * return that array's path from {@link #getItemsPath(Page)}. The writer then
+ * streams the items to the response one by one, instead of keeping the whole
+ * page in memory. In that case, the page JSON object builder received by the
+ * item methods only contains the current item.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -50,6 +59,21 @@ import javax.ws.rs.core.HttpHeaders;
 @SuppressWarnings("unused")
 public interface PageMessageMapper<T> {
 
+	/**
+	 * Returns the path of the JSON array where {@link
+	 * #onFinishItem(JSONObjectBuilder, JSONObjectBuilder, Object, Class,
+	 * HttpHeaders)} adds the page items, if the mapper doesn't need to access
+	 * the page items once they've been added. Returns {@code Optional#empty()}
+	 * otherwise, which makes the writer build the whole page in memory.
+	 *
+	 * @param  page the page
+	 * @return the path of the items JSON array, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public default Optional<List<String>> getItemsPath(Page<T> page) {
+		return Optional.empty();
+	}
+
 	/**
 	 * Returns the media type the mapper represents.
 	 *
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.pagination;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Provides the information needed by {@link
+ * com.liferay.vulcan.endpoint.RootEndpoint} to construct a valid cursor-based
+ * {@link Page}. An empty cursor refers to the collection's first page.
+ *
+ * @author Alejandro Hernández
+ * @see    CursorPagination
+ */
+public class CursorPageItems<T> {
+
+	public CursorPageItems(Collection<T> items, String nextCursor) {
+		this(items, nextCursor, null);
+	}
+
+	public CursorPageItems(
+		Collection<T> items, String nextCursor, String previousCursor) {
+
+		_items = items;
+		_nextCursor = nextCursor;
+		_previousCursor = previousCursor;
+	}
+
+	/**
+	 * Returns the page's items.
+	 *
+	 * @return the page's items
+	 */
+	public Collection<T> getItems() {
+		return _items;
+	}
+
+	/**
+	 * Returns the cursor of the next page, if present. Returns {@code
+	 * Optional#empty()} if this is the collection's last page.
+	 *
+	 * @return the cursor of the next page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<String> getNextCursorOptional() {
+		return Optional.ofNullable(_nextCursor);
+	}
+
+	/**
+	 * Returns the cursor of the previous page, if present. Returns {@code
+	 * Optional#empty()} if this is the collection's first page, or if the
+	 * resource can't go backward.
+	 *
+	 * @return the cursor of the previous page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<String> getPreviousCursorOptional() {
+		return Optional.ofNullable(_previousCursor);
+	}
+
+	private final Collection<T> _items;
+	private final String _nextCursor;
+	private final String _previousCursor;
+
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.pagination;
+
+import aQute.bnd.annotation.ProviderType;
+
+import java.util.Optional;
+
+/**
+ * Defines cursor-based pagination for a collection endpoint. An instance of
+ * this interface is handed to resources that page their collections with a
+ * cursor instead of a page number.
+ *
+ * <p>
+ * A cursor is an opaque string created by the resource, that identifies the
+ * position in the collection where a page starts (e.g., the key of the last
+ * item of the previous page). Resources can use it to seek directly to the
+ * page's first item, so requesting a page costs the same no matter how deep it
+ * is in the collection.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @see    CursorPageItems
+ */
+@ProviderType
+public interface CursorPagination {
+
+	/**
+	 * Returns the cursor of the requested page, if present. Returns {@code
+	 * Optional#empty()} if the first page is requested.
+	 *
+	 * @return the cursor of the requested page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<String> getCursorOptional();
+
+	/**
+	 * Returns the selected number of items per page.
+	 *
+	 * @return the selected number of items per page
+	 */
+	public int getItemsPerPage();
+
+}
\ No newline at end of file
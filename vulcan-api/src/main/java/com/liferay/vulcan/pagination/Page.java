@@ -19,6 +19,7 @@ import aQute.bnd.annotation.ProviderType;
 import com.liferay.vulcan.uri.Path;
 
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Represents a page in a collection. Writers can use instances of this
@@ -31,6 +32,19 @@ import java.util.Collection;
 @ProviderType
 public interface Page<T> {
 
+	/**
+	 * Returns the cursor used to request the page, if the page is
+	 * cursor-based and isn't the collection's first page. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the cursor used to request the page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @see    CursorPagination
+	 */
+	public default Optional<String> getCursorOptional() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Returns the page's items.
 	 *
@@ -46,9 +60,11 @@ public interface Page<T> {
 	public int getItemsPerPage();
 
 	/**
-	 * Returns the number of the collection's last page.
+	 * Returns the number of the collection's last page. This method should
+	 * only be called if {@link #hasTotalCount()} returns {@code true}.
 	 *
 	 * @return the number of the collection's last page
+	 * @throws IllegalStateException if the page has no total count
 	 */
 	public int getLastPageNumber();
 
@@ -59,6 +75,19 @@ public interface Page<T> {
 	 */
 	public Class<T> getModelClass();
 
+	/**
+	 * Returns the cursor of the next page, if the page is cursor-based and
+	 * isn't the collection's last page. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the cursor of the next page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @see    CursorPagination
+	 */
+	public default Optional<String> getNextCursorOptional() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Returns the page number in the collection.
 	 *
@@ -74,9 +103,23 @@ public interface Page<T> {
 	public Path getPath();
 
 	/**
-	 * Returns the total number of elements in the collection.
+	 * Returns the cursor of the previous page, if the page is cursor-based and
+	 * the resource provided it. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the cursor of the previous page, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @see    CursorPagination
+	 */
+	public default Optional<String> getPreviousCursorOptional() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the total number of elements in the collection. This method
+	 * should only be called if {@link #hasTotalCount()} returns {@code true}.
 	 *
 	 * @return the total number of elements in the collection
+	 * @throws IllegalStateException if the page has no total count
 	 */
 	public int getTotalCount();
 
@@ -97,4 +140,47 @@ public interface Page<T> {
 	 */
 	public boolean hasPrevious();
 
+	/**
+	 * Returns {@code true} if the total number of elements in the collection
+	 * is available for this page. This is {@code false} for cursor-based
+	 * pages, for pages whose resource didn't provide a total count, and for
+	 * pages whose resource deferred it if the client didn't request it.
+	 *
+	 * @return {@code true} if the total number of elements is available;
+	 *         {@code false} otherwise
+	 * @see    PageItems
+	 */
+	public default boolean hasTotalCount() {
+		if (isCursorBased()) {
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Returns {@code true} if the page was created from a batch request that
+	 * selected its items by identifier. Batch pages aren't part of a
+	 * paginated collection, so writers shouldn't link them to other pages.
+	 *
+	 * @return {@code true} if the page is a batch page; {@code false}
+	 *         otherwise
+	 */
+	public default boolean isBatch() {
+		return false;
+	}
+
+	/**
+	 * Returns {@code true} if the page was created with a cursor-based
+	 * pagination. Cursor-based pages don't have page numbers nor a total
+	 * number of elements, and link to other pages through their cursors.
+	 *
+	 * @return {@code true} if the page is cursor-based; {@code false}
+	 *         otherwise
+	 * @see    CursorPagination
+	 */
+	public default boolean isCursorBased() {
+		return false;
+	}
+
 }
\ No newline at end of file
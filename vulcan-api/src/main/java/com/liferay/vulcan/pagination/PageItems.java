@@ -15,22 +15,65 @@
 package com.liferay.vulcan.pagination;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.function.IntSupplier;
 
 /**
  * Provides the information needed by {@link
  * com.liferay.vulcan.endpoint.RootEndpoint} to construct a valid {@link Page}.
  *
+ * <p>
+ * The collection's total number of elements can be provided in three ways:
+ * </p>
+ *
+ * <ul>
+ * <li>
+ * As a number, if it's already known or cheap to calculate.
+ * </li>
+ * <li>
+ * As an {@code IntSupplier} that is only called if the client requests the
+ * total count (see {@link Pagination#isTotalCountRequested()}).
+ * </li>
+ * <li>
+ * Not at all.
+ * </li>
+ * </ul>
+ *
+ * <p>
+ * When using a supplier, or no total count at all, the page function must
+ * fetch one item more than {@link Pagination#getItemsPerPage()}. The extra item
+ * is never returned to the client, but its presence tells whether there is a
+ * next page.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 public class PageItems<T> {
 
+	public PageItems(Collection<T> items) {
+		_items = items;
+
+		_totalCountCalculated = false;
+		_totalCountSupplierOptional = Optional.empty();
+	}
+
 	public PageItems(Collection<T> items, int totalCount) {
 		_items = items;
-		_totalCount = totalCount;
+
+		_totalCountCalculated = true;
+		_totalCountSupplierOptional = Optional.of(() -> totalCount);
+	}
+
+	public PageItems(Collection<T> items, IntSupplier totalCountSupplier) {
+		_items = items;
+
+		_totalCountCalculated = false;
+		_totalCountSupplierOptional = Optional.of(totalCountSupplier);
 	}
 
 	/**
-	 * Returns the page's items.
+	 * Returns the page's items. This may include one item more than the
+	 * number of items per page, used to know if there is a next page.
 	 *
 	 * @return the page's items
 	 */
@@ -39,15 +82,47 @@ public class PageItems<T> {
 	}
 
 	/**
-	 * Returns the total number of elements in the collection.
+	 * Returns the total number of elements in the collection. If the total
+	 * count was provided as a supplier, it's called each time this method is
+	 * invoked.
 	 *
 	 * @return the total number of elements in the collection
+	 * @throws UnsupportedOperationException if no total count was provided
 	 */
 	public int getTotalCount() {
-		return _totalCount;
+		IntSupplier totalCountSupplier =
+			_totalCountSupplierOptional.orElseThrow(
+				() -> new UnsupportedOperationException(
+					"Page items were created without a total count"));
+
+		return totalCountSupplier.getAsInt();
+	}
+
+	/**
+	 * Returns the supplier of the total number of elements in the collection,
+	 * if a total count was provided. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @return the supplier of the total count, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<IntSupplier> getTotalCountSupplierOptional() {
+		return _totalCountSupplierOptional;
+	}
+
+	/**
+	 * Returns {@code true} if the total count was provided as a number, so
+	 * getting it has no cost.
+	 *
+	 * @return {@code true} if the total count was provided as a number; {@code
+	 *         false} otherwise
+	 */
+	public boolean isTotalCountCalculated() {
+		return _totalCountCalculated;
 	}
 
 	private final Collection<T> _items;
-	private final int _totalCount;
+	private final boolean _totalCountCalculated;
+	private final Optional<IntSupplier> _totalCountSupplierOptional;
 
 }
\ No newline at end of file
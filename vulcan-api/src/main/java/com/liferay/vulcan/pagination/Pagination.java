@@ -56,4 +56,14 @@ public interface Pagination {
 	 */
 	public int getStartPosition();
 
+	/**
+	 * Returns {@code true} if the client requested the collection's total
+	 * number of elements. Resources that defer the total count (see {@link
+	 * PageItems}) can use this to decide whether to calculate it.
+	 *
+	 * @return {@code true} if the client requested the total count; {@code
+	 *         false} otherwise
+	 */
+	public boolean isTotalCountRequested();
+
 }
\ No newline at end of file
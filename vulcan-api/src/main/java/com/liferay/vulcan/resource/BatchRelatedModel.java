@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.resource;
+
+import com.liferay.vulcan.context.RequestContext;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Represents the relation between two models, where the related models can be
+ * loaded in batches. Each model provides a key, and the related models of
+ * several models are loaded with a single call to the batch function, which
+ * receives the distinct keys and returns the related models mapped by key.
+ *
+ * @author Alejandro Hernández
+ */
+public class BatchRelatedModel<T, K, S> extends RelatedModel<T, S> {
+
+	public BatchRelatedModel(
+		String key, Class<S> modelClass, Function<T, K> keyFunction,
+		Function<Collection<K>, Map<K, S>> batchFunction) {
+
+		super(
+			key, modelClass,
+			model -> _getModelFunction(
+				keyFunction, batchFunction, Collections.singleton(model)
+			).apply(
+				model
+			));
+
+		_keyFunction = keyFunction;
+		_batchFunction = batchFunction;
+	}
+
+	/**
+	 * Returns the function used to load the related models of a collection of
+	 * keys.
+	 *
+	 * @return the function that loads the related models
+	 */
+	public Function<Collection<K>, Map<K, S>> getBatchFunction() {
+		return _batchFunction;
+	}
+
+	/**
+	 * Returns the function used to get the key of a model's related model.
+	 *
+	 * @return the function that calculates the related model's key
+	 */
+	public Function<T, K> getKeyFunction() {
+		return _keyFunction;
+	}
+
+	/**
+	 * Returns the function you can use to retrieve the related model of each
+	 * of the provided models. The related models of all the models are loaded
+	 * with a single call to the batch function before returning. Related
+	 * models already memoized in the request context aren't loaded again.
+	 *
+	 * @param  models the models whose related models will be retrieved
+	 * @param  requestContext the context of the current request
+	 * @return the function that calculates the related model
+	 */
+	@Override
+	public Function<T, Optional<S>> getModelFunction(
+		Collection<T> models, RequestContext requestContext) {
+
+		Class<S> modelClass = getModelClass();
+
+		return _getModelFunction(
+			_keyFunction,
+			keys -> requestContext.getModels(modelClass, keys, _batchFunction),
+			models);
+	}
+
+	private static <T, K, S> Function<T, Optional<S>> _getModelFunction(
+		Function<T, K> keyFunction,
+		Function<Collection<K>, Map<K, S>> batchFunction,
+		Collection<T> models) {
+
+		Stream<T> stream = models.stream();
+
+		Set<K> keys = stream.map(
+			keyFunction
+		).filter(
+			Objects::nonNull
+		).collect(
+			Collectors.toCollection(LinkedHashSet::new)
+		);
+
+		if (keys.isEmpty()) {
+			return model -> Optional.empty();
+		}
+
+		Map<K, S> relatedModels = batchFunction.apply(keys);
+
+		return model -> Optional.ofNullable(
+			keyFunction.apply(model)
+		).map(
+			relatedModels::get
+		);
+	}
+
+	private final Function<Collection<K>, Map<K, S>> _batchFunction;
+	private final Function<T, K> _keyFunction;
+
+}
\ No newline at end of file
@@ -74,6 +74,47 @@ public interface CollectionResource<T, U extends Identifier> {
 	 */
 	public String getName();
 
+	/**
+	 * Returns the maximum number of the resource's page items that can be
+	 * written in parallel for a single request. Each item is written on a
+	 * bounded pool shared by all requests, and the items are output in their
+	 * original order. The default value, {@code 1}, writes the items one after
+	 * another in the request thread.
+	 *
+	 * <p>
+	 * Only resources whose representor functions don't depend on the request
+	 * thread's state, other than the state propagated by the registered {@link
+	 * com.liferay.vulcan.context.ThreadContextPropagator}, should return a
+	 * value greater than {@code 1}.
+	 * </p>
+	 *
+	 * @return the maximum number of page items written in parallel
+	 */
+	public default int getPageItemsParallelism() {
+		return 1;
+	}
+
+	/**
+	 * Returns the time, in milliseconds, that the serialized representations
+	 * of the resource's single models can be reused before being written
+	 * again. Representations are invalidated when their model is updated or
+	 * deleted through the API. The default value, {@code 0}, disables the
+	 * reuse of representations.
+	 *
+	 * <p>
+	 * Only resources whose representations don't depend on the current user
+	 * should return a value greater than {@code 0}. Representations that
+	 * embed related models are never reused, since the embedded models are
+	 * loaded with the current user's permissions.
+	 * </p>
+	 *
+	 * @return the time to live of the resource's representations, in
+	 *         milliseconds
+	 */
+	public default long getRepresentationTimeToLive() {
+		return 0;
+	}
+
 	/**
 	 * Creates the {@link Routes} supported by the {@code CollectionResource}.
 	 * Use the provided routes builder to create the {@code Routes} instance.
@@ -16,6 +16,7 @@ package com.liferay.vulcan.resource;
 
 import com.liferay.vulcan.resource.identifier.Identifier;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -32,6 +33,21 @@ public class RelatedCollection<T, S> {
 		_key = key;
 		_modelClass = modelClass;
 		_identifierFunction = identifierFunction;
+
+		_parentIdentifierFunctionOptional = Optional.empty();
+	}
+
+	public RelatedCollection(
+		String key, Class<S> modelClass,
+		Function<T, Identifier> identifierFunction,
+		Function<Identifier, Identifier> parentIdentifierFunction) {
+
+		_key = key;
+		_modelClass = modelClass;
+		_identifierFunction = identifierFunction;
+
+		_parentIdentifierFunctionOptional = Optional.of(
+			parentIdentifierFunction);
 	}
 
 	/**
@@ -62,8 +78,25 @@ public class RelatedCollection<T, S> {
 		return _modelClass;
 	}
 
+	/**
+	 * Returns the function you can use to create the related collection's
+	 * identifier from the identifier of the model that has the collection, if
+	 * the relation declared it. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function that calculates the related collection's identifier
+	 *         from the model's identifier, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Function<Identifier, Identifier>>
+		getParentIdentifierFunctionOptional() {
+
+		return _parentIdentifierFunctionOptional;
+	}
+
 	private final Function<T, Identifier> _identifierFunction;
 	private final String _key;
 	private final Class<S> _modelClass;
+	private final Optional<Function<Identifier, Identifier>>
+		_parentIdentifierFunctionOptional;
 
 }
\ No newline at end of file
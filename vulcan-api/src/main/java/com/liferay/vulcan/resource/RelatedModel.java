@@ -14,6 +14,9 @@
 
 package com.liferay.vulcan.resource;
 
+import com.liferay.vulcan.context.RequestContext;
+
+import java.util.Collection;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -63,6 +66,24 @@ public class RelatedModel<T, S> {
 		return _modelFunction;
 	}
 
+	/**
+	 * Returns the function you can use to retrieve the related model of each
+	 * of the provided models. Relations that can load several related models
+	 * at once, like {@link BatchRelatedModel}, load all of them before
+	 * returning the function, reusing the models already memoized in the
+	 * request context. Otherwise, this method returns the same function as
+	 * {@link #getModelFunction()}.
+	 *
+	 * @param  models the models whose related models will be retrieved
+	 * @param  requestContext the context of the current request
+	 * @return the function that calculates the related model
+	 */
+	public Function<T, Optional<S>> getModelFunction(
+		Collection<T> models, RequestContext requestContext) {
+
+		return _modelFunction;
+	}
+
 	private final String _key;
 	private final Class<S> _modelClass;
 	private final Function<T, Optional<S>> _modelFunction;
@@ -17,11 +17,14 @@ package com.liferay.vulcan.resource;
 import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.vulcan.alias.BinaryFunction;
+import com.liferay.vulcan.alias.IdentifierBinaryFunction;
 import com.liferay.vulcan.language.Language;
 import com.liferay.vulcan.resource.identifier.Identifier;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -71,6 +74,16 @@ public interface Representor<T, U extends Identifier> {
 	 */
 	public U getIdentifier(T model);
 
+	/**
+	 * Returns the binary resources linked to a model that can be obtained from
+	 * the model's identifier, without retrieving the model. These binaries are
+	 * also included in {@link #getBinaryFunctions()}.
+	 *
+	 * @return the binary resources obtained from the model's identifier
+	 */
+	public Map<String, IdentifierBinaryFunction<U>>
+		getIdentifierBinaryFunctions();
+
 	/**
 	 * Returns the identifier class.
 	 *
@@ -101,6 +114,15 @@ public interface Representor<T, U extends Identifier> {
 	public Map<String, BiFunction<T, Language, String>>
 		getLocalizedStringFunctions();
 
+	/**
+	 * Returns the function used to get a model's modification date, if
+	 * present. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to get a model's modification date, if
+	 *         present; {@code Optional#empty()} otherwise
+	 */
+	public Optional<Function<T, Date>> getModifiedDateFunctionOptional();
+
 	/**
 	 * Returns the map containing the number field names and the functions to
 	 * get those fields.
@@ -131,4 +153,13 @@ public interface Representor<T, U extends Identifier> {
 	 */
 	public List<String> getTypes();
 
+	/**
+	 * Returns the function used to get a model's version, if present. Returns
+	 * {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to get a model's version, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Function<T, ?>> getVersionFunctionOptional();
+
 }
\ No newline at end of file
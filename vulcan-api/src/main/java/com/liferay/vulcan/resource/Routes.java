@@ -21,6 +21,7 @@ import com.liferay.vulcan.pagination.SingleModel;
 import com.liferay.vulcan.resource.identifier.Identifier;
 import com.liferay.vulcan.uri.Path;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
@@ -43,6 +44,19 @@ import java.util.function.Function;
 @ProviderType
 public interface Routes<T> {
 
+	/**
+	 * Returns the function used to create a page with the single models of a
+	 * {@link CollectionResource} identified by a list of paths, if the
+	 * endpoint was added through the {@link
+	 * com.liferay.vulcan.resource.builder.RoutesBuilder} and the function
+	 * therefore exists. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the function used to create the page of single models, if the
+	 *         function exists; {@code Optional#empty()} otherwise
+	 */
+	public Optional<Function<List<Path>, Page<T>>>
+		getBatchPageFunctionOptional();
+
 	/**
 	 * Returns the function used to remove a single model of a {@link
 	 * CollectionResource}, if the endpoint was added through the {@link
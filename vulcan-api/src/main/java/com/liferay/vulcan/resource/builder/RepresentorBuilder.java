@@ -17,14 +17,20 @@ package com.liferay.vulcan.resource.builder;
 import aQute.bnd.annotation.ProviderType;
 
 import com.liferay.vulcan.alias.BinaryFunction;
+import com.liferay.vulcan.alias.IdentifierBinaryFunction;
 import com.liferay.vulcan.language.Language;
 import com.liferay.vulcan.resource.Representor;
 import com.liferay.vulcan.resource.identifier.Identifier;
 
+import java.time.Instant;
+
+import java.util.Collection;
 import java.util.Date;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 /**
  * Creates generic representations of your domain models that Vulcan hypermedia
@@ -68,6 +74,31 @@ public interface RepresentorBuilder<T, U extends Identifier> {
 			Function<T, Optional<S>> modelFunction,
 			Function<S, Identifier> identifierFunction);
 
+		/**
+		 * Adds information about the bidirectional relation of a linked model
+		 * in the resource and a collection of {@link
+		 * com.liferay.vulcan.resource.CollectionResource} items in the related
+		 * resource. The related models are loaded in batches: when several
+		 * models are written together, the keys of all of them are collected
+		 * and the related models are loaded with a single call to the batch
+		 * function.
+		 *
+		 * @param  key the relation's name in the resource
+		 * @param  relatedKey the relation's name in the related resource
+		 * @param  modelClass the related model's class
+		 * @param  keyFunction the function used to get the related model's key
+		 * @param  batchFunction the function used to get the related models of
+		 *         a collection of keys, mapped by key
+		 * @param  identifierFunction the function used to get the collection's
+		 *         identifier
+		 * @return the builder's step
+		 */
+		public <K, S> FirstStep<T, U> addBidirectionalModel(
+			String key, String relatedKey, Class<S> modelClass,
+			Function<T, K> keyFunction,
+			Function<Collection<K>, Map<K, S>> batchFunction,
+			Function<S, Identifier> identifierFunction);
+
 		/**
 		 * Adds binary files to a resource.
 		 *
@@ -110,6 +141,83 @@ public interface RepresentorBuilder<T, U extends Identifier> {
 			String key, Class<S> modelClass,
 			Function<T, Optional<S>> modelFunction);
 
+		/**
+		 * Adds information about an embeddable related model, loaded in
+		 * batches. When several models are written together, the keys of all
+		 * of them are collected and the related models are loaded with a
+		 * single call to the batch function.
+		 *
+		 * @param  key the relation's name
+		 * @param  modelClass the related model's class
+		 * @param  keyFunction the function used to get the related model's key
+		 * @param  batchFunction the function used to get the related models of
+		 *         a collection of keys, mapped by key
+		 * @return the builder's step
+		 */
+		public <K, S> FirstStep<T, U> addEmbeddedModel(
+			String key, Class<S> modelClass, Function<T, K> keyFunction,
+			Function<Collection<K>, Map<K, S>> batchFunction);
+
+		/**
+		 * Adds information about a resource's date field, given as the
+		 * milliseconds since the epoch. Unlike {@link #addDate(String,
+		 * Function)}, models don't need to create a {@code Date} for each call.
+		 *
+		 * @param  key the field's name
+		 * @param  epochMillisFunction the function used to get the date's
+		 *         milliseconds since the epoch
+		 * @return the builder's step
+		 */
+		public FirstStep<T, U> addEpochMillis(
+			String key, ToLongFunction<T> epochMillisFunction);
+
+		/**
+		 * Adds binary files to a resource, obtained from the resource's
+		 * identifier. Unlike {@link #addBinary(String, BinaryFunction)}, the
+		 * model doesn't have to be retrieved to serve the binary, so the
+		 * function must check that the model exists and that the user can
+		 * access it.
+		 *
+		 * @param  key the binary resource's name
+		 * @param  identifierBinaryFunction the function used to get the
+		 *         binaries from the resource's identifier
+		 * @see    IdentifierBinaryFunction
+		 * @return the builder's step
+		 */
+		public FirstStep<T, U> addIdentifierBinary(
+			String key, IdentifierBinaryFunction<U> identifierBinaryFunction);
+
+		/**
+		 * Adds information about a related collection whose identifier can be
+		 * obtained from the resource's identifier. Unlike {@link
+		 * #addRelatedCollection(String, Class, Function)}, the model doesn't
+		 * have to be retrieved to get the related collection's items, so the
+		 * collection's page getter must check that the user can access it.
+		 * Adding items to the related collection still retrieves the model,
+		 * so its existence and permissions are checked before the item is
+		 * created.
+		 *
+		 * @param  key the relation's name
+		 * @param  modelClass the class of the collection's related models
+		 * @param  identifierFunction the function used to get the collection's
+		 *         identifier from the resource's identifier
+		 * @return the builder's step
+		 */
+		public <S> FirstStep<T, U> addIdentifierRelatedCollection(
+			String key, Class<S> modelClass,
+			Function<U, Identifier> identifierFunction);
+
+		/**
+		 * Adds information about a resource's date field, given as an {@code
+		 * Instant}.
+		 *
+		 * @param  key the field's name
+		 * @param  instantFunction the function used to get the date's instant
+		 * @return the builder's step
+		 */
+		public FirstStep<T, U> addInstant(
+			String key, Function<T, Instant> instantFunction);
+
 		/**
 		 * Adds information about a resource link.
 		 *
@@ -131,6 +239,23 @@ public interface RepresentorBuilder<T, U extends Identifier> {
 			String key, Class<S> modelClass,
 			Function<T, Optional<S>> modelFunction);
 
+		/**
+		 * Adds information about a non-embeddable related model, loaded in
+		 * batches. When several models are written together, the keys of all
+		 * of them are collected and the related models are loaded with a
+		 * single call to the batch function.
+		 *
+		 * @param  key the relation's name
+		 * @param  modelClass the related model's class
+		 * @param  keyFunction the function used to get the related model's key
+		 * @param  batchFunction the function used to get the related models of
+		 *         a collection of keys, mapped by key
+		 * @return the builder's step
+		 */
+		public <K, S> FirstStep<T, U> addLinkedModel(
+			String key, Class<S> modelClass, Function<T, K> keyFunction,
+			Function<Collection<K>, Map<K, S>> batchFunction);
+
 		/**
 		 * Provides information about a resource localized string field.
 		 *
@@ -141,6 +266,19 @@ public interface RepresentorBuilder<T, U extends Identifier> {
 		public FirstStep<T, U> addLocalizedString(
 			String key, BiFunction<T, Language, String> stringFunction);
 
+		/**
+		 * Adds information about a resource's date field, and marks it as the
+		 * model's modification date. Writers use it to set the {@code
+		 * Last-Modified} header of the representation, and to answer
+		 * conditional requests without writing the representation.
+		 *
+		 * @param  key the field's name
+		 * @param  dateFunction the function used to get the date value
+		 * @return the builder's step
+		 */
+		public FirstStep<T, U> addModifiedDate(
+			String key, Function<T, Date> dateFunction);
+
 		/**
 		 * Adds information about a resource's number field.
 		 *
@@ -182,6 +320,18 @@ public interface RepresentorBuilder<T, U extends Identifier> {
 		 */
 		public FirstStep<T, U> addType(String type);
 
+		/**
+		 * Adds the function used to get a model's version. The version must
+		 * change every time the model changes. Writers use it to calculate
+		 * the entity tag of a representation without having to write it
+		 * first. Representations without a version, or that embed related
+		 * models, don't get an entity tag.
+		 *
+		 * @param  versionFunction the function used to get the version
+		 * @return the builder's step
+		 */
+		public FirstStep<T, U> addVersion(Function<T, ?> versionFunction);
+
 		/**
 		 * Constructs and returns a {@link Representor} instance with the
 		 * information provided to the builder.
@@ -33,11 +33,14 @@ import com.liferay.vulcan.function.PentaFunction;
 import com.liferay.vulcan.function.TetraFunction;
 import com.liferay.vulcan.function.TriFunction;
 import com.liferay.vulcan.function.UndecaFunction;
+import com.liferay.vulcan.pagination.CursorPageItems;
+import com.liferay.vulcan.pagination.CursorPagination;
 import com.liferay.vulcan.pagination.PageItems;
 import com.liferay.vulcan.pagination.Pagination;
 import com.liferay.vulcan.resource.Routes;
 import com.liferay.vulcan.resource.identifier.Identifier;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
@@ -54,6 +57,36 @@ import java.util.function.Function;
 @SuppressWarnings("unused")
 public interface RoutesBuilder<T, U extends Identifier> {
 
+	/**
+	 * Adds a route to a cursor-based collection page function with two
+	 * parameters. The page's links navigate the collection with the cursors
+	 * returned by the function instead of page numbers.
+	 *
+	 * @param  biFunction the function that calculates the page
+	 * @param  identifierClass the identifier's class
+	 * @return the updated builder
+	 */
+	public <V extends Identifier> RoutesBuilder<T, U>
+		addCollectionCursorPageGetter(
+			BiFunction<CursorPagination, V, CursorPageItems<T>> biFunction,
+			Class<V> identifierClass);
+
+	/**
+	 * Adds a route to a cursor-based collection page function with three
+	 * parameters. The page's links navigate the collection with the cursors
+	 * returned by the function instead of page numbers.
+	 *
+	 * @param  triFunction the function that calculates the page
+	 * @param  identifierClass the identifier's class
+	 * @param  aClass the class of the page function's third parameter
+	 * @return the updated builder
+	 */
+	public <V extends Identifier, A> RoutesBuilder<T, U>
+		addCollectionCursorPageGetter(
+			TriFunction<CursorPagination, V, A, CursorPageItems<T>>
+				triFunction,
+			Class<V> identifierClass, Class<A> aClass);
+
 	/**
 	 * Adds a route to a collection page function with two parameters.
 	 *
@@ -209,6 +242,31 @@ public interface RoutesBuilder<T, U extends Identifier> {
 			TriFunction<Pagination, V, A, PageItems<T>> triFunction,
 			Class<V> identifierClass, Class<A> aClass);
 
+	/**
+	 * Adds a route to a function with two parameters that gets several single
+	 * models at once, from the list of their identifiers. The single models
+	 * are returned as a page, in the order returned by the function.
+	 * Identifiers without a single model should be skipped.
+	 *
+	 * @param  biFunction the function that calculates the single models
+	 * @param  aClass the class of the function's second parameter
+	 * @return the updated builder
+	 */
+	public <A> RoutesBuilder<T, U> addCollectionPageItemBatchGetter(
+		BiFunction<List<U>, A, List<T>> biFunction, Class<A> aClass);
+
+	/**
+	 * Adds a route to a function that gets several single models at once,
+	 * from the list of their identifiers. The single models are returned as a
+	 * page, in the order returned by the function. Identifiers without a
+	 * single model should be skipped.
+	 *
+	 * @param  function the function that calculates the single models
+	 * @return the updated builder
+	 */
+	public RoutesBuilder<T, U> addCollectionPageItemBatchGetter(
+		Function<List<U>, List<T>> function);
+
 	/**
 	 * Adds a route to a single model POST function with two parameters.
 	 *
@@ -19,6 +19,7 @@ import com.liferay.vulcan.exception.FalsePredicateException;
 import java.io.Closeable;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -34,7 +35,8 @@ import java.util.function.Supplier;
  * instance of this class. To create a {@code Failure} instance directly
  * from an exception, use {@link #fail(Exception)}. To create a
  * {@code Success} instance directly from {@code T}, use
- * {@link #success(Object)}.
+ * {@link #success(Object)}. To create an instance from an {@code Optional},
+ * use {@link #fromOptional(Optional, Supplier)}.
  *
  * @author Alejandro Hernández
  */
@@ -104,6 +106,39 @@ public abstract class Try<T> {
 		}
 	}
 
+	/**
+	 * Creates a new {@code Try} instance from an {@code Optional}. If the
+	 * {@code Optional} has a value, this method creates the instance as a
+	 * {@code Success} object with that value. Otherwise, this method creates
+	 * the instance as a {@code Failure} object with the exception provided by
+	 * the supplier.
+	 *
+	 * <p>
+	 * Unlike mapping the {@code Optional} with {@code Optional#get()} and then
+	 * calling {@link #mapFailMatching(Class, Supplier)}, this method doesn't
+	 * throw and catch an intermediate {@code NoSuchElementException}. This
+	 * makes it suitable for expected outcomes, such as a missing route.
+	 * </p>
+	 *
+	 * @param  optional the {@code Optional}
+	 * @param  supplier the supplier of the exception for an empty {@code
+	 *         Optional}
+	 * @return a {@code Success} instance with the {@code Optional}'s value, if
+	 *         present; a {@code Failure} instance otherwise
+	 */
+	public static <U> Try<U> fromOptional(
+		Optional<U> optional, Supplier<? extends Exception> supplier) {
+
+		Objects.requireNonNull(optional);
+		Objects.requireNonNull(supplier);
+
+		if (optional.isPresent()) {
+			return success(optional.get());
+		}
+
+		return fail(supplier.get());
+	}
+
 	/**
 	 * Creates a new {@code Try} instance from an object. This method creates
 	 * the instance as a {@code Success} object.
@@ -339,7 +374,7 @@ public abstract class Try<T> {
 
 			Objects.requireNonNull(throwableFunction);
 
-			return Try.fail(_exception);
+			return (Try<U>)this;
 		}
 
 		@Override
@@ -391,7 +426,7 @@ public abstract class Try<T> {
 
 			Objects.requireNonNull(throwableFunction);
 
-			return Try.fail(_exception);
+			return (Try<U>)this;
 		}
 
 		@Override
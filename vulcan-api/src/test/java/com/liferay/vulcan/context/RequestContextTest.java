@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.context;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RequestContextTest {
+
+	@Test
+	public void testGetModelOptionalAllowsNestedRequestsOfTheSameClass() {
+		RequestContext requestContext = new RequestContext();
+
+		Optional<String> optional = requestContext.getModelOptional(
+			String.class, 1L,
+			identifier -> {
+				Optional<String> parentOptional =
+					requestContext.getModelOptional(
+						String.class, 2L, parentIdentifier -> Optional.of("2"));
+
+				return parentOptional.map(parent -> parent + "/1");
+			});
+
+		assertThat(optional, is(optionalWithValue(equalTo("2/1"))));
+
+		Optional<String> parentOptional = requestContext.getModelOptional(
+			String.class, 2L, identifier -> Optional.empty());
+
+		assertThat(parentOptional, is(optionalWithValue(equalTo("2"))));
+	}
+
+	@Test
+	public void testGetModelOptionalMemoizesEmptyResults() {
+		List<Long> calls = new ArrayList<>();
+
+		RequestContext requestContext = new RequestContext();
+
+		for (int i = 0; i < 2; i++) {
+			Optional<String> optional = requestContext.getModelOptional(
+				String.class, 1L,
+				identifier -> {
+					calls.add(identifier);
+
+					return Optional.empty();
+				});
+
+			assertThat(optional, is(emptyOptional()));
+		}
+
+		assertThat(calls, contains(1L));
+	}
+
+	@Test
+	public void testGetModelsOnlyLoadsMissingIdentifiers() {
+		List<Collection<Long>> calls = new ArrayList<>();
+
+		RequestContext requestContext = new RequestContext();
+
+		requestContext.getModelOptional(
+			String.class, 1L, identifier -> Optional.of("Memoized"));
+
+		Map<Long, String> models = requestContext.getModels(
+			String.class, Arrays.asList(1L, 2L, 3L),
+			identifiers -> {
+				calls.add(new ArrayList<>(identifiers));
+
+				return Collections.singletonMap(2L, "Loaded");
+			});
+
+		assertThat(calls, contains(Arrays.asList(2L, 3L)));
+		assertThat(models.get(1L), is(equalTo("Memoized")));
+		assertThat(models.get(2L), is(equalTo("Loaded")));
+		assertThat(models.containsKey(3L), is(false));
+	}
+
+	@Test
+	public void testProvideMemoizesTheInstanceOfEachClass() {
+		List<Class<?>> calls = new ArrayList<>();
+
+		RequestContext requestContext = new RequestContext();
+
+		for (int i = 0; i < 2; i++) {
+			Optional<String> optional = requestContext.provide(
+				String.class,
+				() -> {
+					calls.add(String.class);
+
+					return Optional.of("Provided");
+				});
+
+			assertThat(optional, is(optionalWithValue(equalTo("Provided"))));
+		}
+
+		assertThat(calls, contains(String.class));
+	}
+
+}
\ No newline at end of file
@@ -21,9 +21,14 @@ import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
 import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.core.IsSame.sameInstance;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -34,6 +39,48 @@ import org.junit.Test;
  */
 public class FunctionalListTest {
 
+	@Test
+	public void testAppendingToSharedListDoesNotModifyIt() {
+		FunctionalList<String> stringFunctionalList = _getFunctionalList();
+
+		FunctionalList<String> otherStringFunctionalList =
+			new FunctionalList<>(stringFunctionalList, "element5");
+
+		assertThat(stringFunctionalList.size(), is(4));
+		assertThat(otherStringFunctionalList.size(), is(5));
+		assertThat(
+			stringFunctionalList.path(),
+			is(equalTo("element1.element2.element3.element4")));
+		assertThat(
+			otherStringFunctionalList.path(),
+			is(equalTo("element1.element2.element3.element4.element5")));
+	}
+
+	@Test
+	public void testForEachVisitsElementsInOrder() {
+		FunctionalList<String> stringFunctionalList = _getFunctionalList();
+
+		List<String> elements = new ArrayList<>();
+
+		stringFunctionalList.forEach(elements::add);
+
+		assertThat(
+			elements.stream(),
+			contains("element1", "element2", "element3", "element4"));
+	}
+
+	@Test
+	public void testRetrievingArraysFromOneElementListReturnsEmptyArrays() {
+		FunctionalList<String> stringFunctionalList = new FunctionalList<>(
+			null, "test");
+
+		String[] middleArray = stringFunctionalList.middleArray(String[]::new);
+		String[] tailArray = stringFunctionalList.tailArray(String[]::new);
+
+		assertThat(middleArray, is(emptyArray()));
+		assertThat(tailArray, is(emptyArray()));
+	}
+
 	@Test
 	public void testRetrievingHeadFromMultiElementListReturnsFirstElement() {
 		FunctionalList<String> stringFunctionalList = _getFunctionalList();
@@ -91,6 +138,15 @@ public class FunctionalListTest {
 		assertThat(optional, emptyOptional());
 	}
 
+	@Test
+	public void testRetrievingMiddleArrayFromMultiElementListReturnsMiddle() {
+		FunctionalList<String> stringFunctionalList = _getFunctionalList();
+
+		String[] middleArray = stringFunctionalList.middleArray(String[]::new);
+
+		assertThat(middleArray, arrayContaining("element2", "element3"));
+	}
+
 	@Test
 	public void testRetrievingMiddleFromMultiElementListReturnsMiddleSublist() {
 		FunctionalList<String> stringFunctionalList = _getFunctionalList();
@@ -110,6 +166,27 @@ public class FunctionalListTest {
 		assertThat(stream, empty());
 	}
 
+	@Test
+	public void testRetrievingPathFromOneElementListReturnsElement() {
+		FunctionalList<String> stringFunctionalList = new FunctionalList<>(
+			null, "test");
+
+		assertThat(stringFunctionalList.path(), is(equalTo("test")));
+	}
+
+	@Test
+	public void testRetrievingTailArrayFromMultiElementListReturnsTail() {
+		FunctionalList<String> stringFunctionalList = _getFunctionalList();
+
+		String[] tailArray = stringFunctionalList.tailArray(String[]::new);
+
+		assertThat(
+			tailArray, arrayContaining("element2", "element3", "element4"));
+		assertThat(
+			stringFunctionalList.tailArray(String[]::new),
+			is(sameInstance(tailArray)));
+	}
+
 	@Test
 	public void testRetrievingTailFromMultiElementListReturnsMiddleSublist() {
 		FunctionalList<String> stringFunctionalList = _getFunctionalList();
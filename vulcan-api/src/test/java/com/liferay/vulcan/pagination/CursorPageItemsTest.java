@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.pagination;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CursorPageItemsTest {
+
+	@Test
+	public void testCursorPageItemsWithBothCursorsReturnsThem() {
+		CursorPageItems<String> cursorPageItems = new CursorPageItems<>(
+			Arrays.asList("Apple", "Pear"), "next", "previous");
+
+		assertThat(cursorPageItems.getItems(), contains("Apple", "Pear"));
+		assertThat(
+			cursorPageItems.getNextCursorOptional(),
+			is(optionalWithValue(is("next"))));
+		assertThat(
+			cursorPageItems.getPreviousCursorOptional(),
+			is(optionalWithValue(is("previous"))));
+	}
+
+	@Test
+	public void testCursorPageItemsWithoutCursorsReturnsEmptyOptionals() {
+		CursorPageItems<String> cursorPageItems = new CursorPageItems<>(
+			Arrays.asList("Apple", "Pear"), null);
+
+		assertThat(
+			cursorPageItems.getNextCursorOptional(), is(emptyOptional()));
+		assertThat(
+			cursorPageItems.getPreviousCursorOptional(), is(emptyOptional()));
+	}
+
+}
\ No newline at end of file
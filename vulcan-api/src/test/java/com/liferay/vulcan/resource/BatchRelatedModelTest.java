@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.resource;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+import com.liferay.vulcan.context.RequestContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BatchRelatedModelTest {
+
+	@Test
+	public void testGetModelFunctionWithModelsLoadsDistinctKeysOnce() {
+		List<Collection<Integer>> calls = new ArrayList<>();
+
+		BatchRelatedModel<String, Integer, String> batchRelatedModel =
+			new BatchRelatedModel<>(
+				"key", String.class, String::length,
+				keys -> {
+					calls.add(new ArrayList<>(keys));
+
+					return keys.stream(
+					).filter(
+						length -> length < 5
+					).collect(
+						Collectors.toMap(
+							Function.identity(), length -> "Length " + length)
+					);
+				});
+
+		Function<String, Optional<String>> modelFunction =
+			batchRelatedModel.getModelFunction(
+				Arrays.asList("one", "two", "three", "four"),
+				new RequestContext());
+
+		assertThat(calls, contains(Arrays.asList(3, 5, 4)));
+
+		assertThat(
+			modelFunction.apply("one"),
+			is(optionalWithValue(equalTo("Length 3"))));
+		assertThat(
+			modelFunction.apply("four"),
+			is(optionalWithValue(equalTo("Length 4"))));
+		assertThat(modelFunction.apply("three"), is(emptyOptional()));
+		assertThat(calls.size(), is(1));
+	}
+
+	@Test
+	public void testGetModelFunctionWithRequestContextReusesLoadedModels() {
+		List<Collection<Integer>> calls = new ArrayList<>();
+
+		BatchRelatedModel<String, Integer, String> batchRelatedModel =
+			new BatchRelatedModel<>(
+				"key", String.class, String::length,
+				keys -> {
+					calls.add(new ArrayList<>(keys));
+
+					return keys.stream(
+					).collect(
+						Collectors.toMap(
+							Function.identity(), length -> "Length " + length)
+					);
+				});
+
+		RequestContext requestContext = new RequestContext();
+
+		batchRelatedModel.getModelFunction(
+			Arrays.asList("one", "three"), requestContext);
+
+		Function<String, Optional<String>> modelFunction =
+			batchRelatedModel.getModelFunction(
+				Arrays.asList("two", "four"), requestContext);
+
+		assertThat(calls, contains(Arrays.asList(3, 5), Arrays.asList(4)));
+
+		assertThat(
+			modelFunction.apply("two"),
+			is(optionalWithValue(equalTo("Length 3"))));
+	}
+
+	@Test
+	public void testGetModelFunctionWithoutKeysDoesNotLoad() {
+		List<Collection<Integer>> calls = new ArrayList<>();
+
+		BatchRelatedModel<String, Integer, String> batchRelatedModel =
+			new BatchRelatedModel<>(
+				"key", String.class, string -> null,
+				keys -> {
+					calls.add(keys);
+
+					return Collections.emptyMap();
+				});
+
+		Function<String, Optional<String>> modelFunction =
+			batchRelatedModel.getModelFunction(
+				Arrays.asList("one", "two"), new RequestContext());
+
+		assertThat(modelFunction.apply("one"), is(emptyOptional()));
+		assertThat(calls.isEmpty(), is(true));
+	}
+
+	@Test
+	public void testModelFunctionLoadsTheModelKey() {
+		BatchRelatedModel<String, Integer, String> batchRelatedModel =
+			new BatchRelatedModel<>(
+				"key", String.class, String::length,
+				keys -> keys.stream(
+				).collect(
+					Collectors.toMap(
+						Function.identity(), length -> "Length " + length)
+				));
+
+		Function<String, Optional<String>> modelFunction =
+			batchRelatedModel.getModelFunction();
+
+		assertThat(
+			modelFunction.apply("three"),
+			is(optionalWithValue(equalTo("Length 5"))));
+	}
+
+}
\ No newline at end of file
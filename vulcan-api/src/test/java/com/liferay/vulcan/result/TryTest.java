@@ -30,6 +30,8 @@ import com.liferay.vulcan.result.Try.Success;
 import java.io.Closeable;
 import java.io.IOException;
 
+import java.util.Optional;
+
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
 
@@ -195,6 +197,26 @@ public class TryTest {
 		assertThat(stringTry, is(aSuccessTry()));
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvokingFromOptionalWithEmptyOptionalCreatesFailure()
+		throws Exception {
+
+		Try<String> stringTry = Try.fromOptional(
+			Optional.empty(), IllegalArgumentException::new);
+
+		assertThat(stringTry, is(aFailTry()));
+
+		stringTry.get();
+	}
+
+	@Test
+	public void testInvokingFromOptionalWithValueCreatesSuccess() {
+		Try<String> stringTry = Try.fromOptional(
+			Optional.of("Live long"), IllegalArgumentException::new);
+
+		assertThat(stringTry, is(aTryWithValueThat(equalTo("Live long"))));
+	}
+
 	@Parameters(method = SUCCESS)
 	@Test
 	public void testInvokingGetOnSuccessShouldReturnValue(Try<String> stringTry)
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Set;
 
 import javax.ws.rs.ApplicationPath;
+import javax.ws.rs.container.ContainerRequestFilter;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.Application;
 import javax.ws.rs.ext.ExceptionMapper;
@@ -66,6 +67,8 @@ public class VulcanApplication extends Application {
 
 		singletons.addAll(_messageBodyWriters);
 
+		singletons.addAll(_containerRequestFilters);
+
 		singletons.addAll(_containerResponseFilters);
 
 		singletons.addAll(_exceptionMappers);
@@ -73,6 +76,17 @@ public class VulcanApplication extends Application {
 		return singletons;
 	}
 
+	@Reference(
+		cardinality = MULTIPLE, policyOption = GREEDY,
+		target = "(liferay.vulcan.container.request.filter=true)"
+	)
+	public void setContainerRequestFilter(
+		ServiceReference<ContainerRequestFilter> serviceReference,
+		ContainerRequestFilter containerRequestFilter) {
+
+		_containerRequestFilters.add(containerRequestFilter);
+	}
+
 	@Reference(
 		cardinality = MULTIPLE, policyOption = GREEDY,
 		target = "(liferay.vulcan.container.response.filter=true)"
@@ -117,6 +131,14 @@ public class VulcanApplication extends Application {
 		_messageBodyWriters.add(messageBodyWriter);
 	}
 
+	@SuppressWarnings("unused")
+	public void unsetContainerRequestFilter(
+		ServiceReference<ContainerRequestFilter> serviceReference,
+		ContainerRequestFilter containerRequestFilter) {
+
+		_containerRequestFilters.remove(containerRequestFilter);
+	}
+
 	@SuppressWarnings("unused")
 	public <T> void unsetContainerResponseFilter(
 		ServiceReference<ContainerResponseFilter> serviceReference,
@@ -149,6 +171,8 @@ public class VulcanApplication extends Application {
 		_messageBodyWriters.remove(messageBodyWriter);
 	}
 
+	private final List<ContainerRequestFilter> _containerRequestFilters =
+		new ArrayList<>();
 	private final List<ContainerResponseFilter> _containerResponseFilters =
 		new ArrayList<>();
 	private final List<ExceptionMapper> _exceptionMappers = new ArrayList<>();
@@ -17,6 +17,11 @@ package com.liferay.vulcan.application.internal.endpoint;
 import com.google.gson.JsonObject;
 
 import com.liferay.vulcan.alias.BinaryFunction;
+import com.liferay.vulcan.alias.IdentifierBinaryFunction;
+import com.liferay.vulcan.application.internal.exception.StacklessNotAllowedException;
+import com.liferay.vulcan.application.internal.exception.StacklessNotFoundException;
+import com.liferay.vulcan.context.RequestContext;
+import com.liferay.vulcan.endpoint.BatchResult;
 import com.liferay.vulcan.endpoint.RootEndpoint;
 import com.liferay.vulcan.error.VulcanDeveloperError;
 import com.liferay.vulcan.pagination.Page;
@@ -30,27 +35,38 @@ import com.liferay.vulcan.result.ThrowableFunction;
 import com.liferay.vulcan.result.Try;
 import com.liferay.vulcan.uri.Path;
 import com.liferay.vulcan.url.ServerURL;
+import com.liferay.vulcan.wiring.osgi.cache.RepresentationCache;
 import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
+import com.liferay.vulcan.wiring.osgi.manager.PathIdentifierMapperManager;
 import com.liferay.vulcan.wiring.osgi.manager.ProviderManager;
 
 import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
 
+import java.net.URLDecoder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.InternalServerErrorException;
 import javax.ws.rs.NotAllowedException;
 import javax.ws.rs.NotFoundException;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.Response;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
@@ -59,23 +75,30 @@ import org.osgi.service.component.annotations.Reference;
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
  */
-@Component(immediate = true)
+@Component(
+	immediate = true, property = "liferay.vulcan.batch.max.ids=100"
+)
 public class RootEndpointImpl implements RootEndpoint {
 
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		Object maxIds = properties.get("liferay.vulcan.batch.max.ids");
+
+		if (maxIds != null) {
+			_maxBatchIds = Integer.parseInt(String.valueOf(maxIds));
+		}
+	}
+
 	@Override
 	public <T> Try<SingleModel<T>> addCollectionItem(
 		String name, Map<String, Object> body) {
 
 		Try<Routes<T>> routesTry = _getRoutesTry(name);
 
-		return routesTry.map(
-			Routes::getPostSingleModelFunctionOptional
-		).map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class,
-			() -> new NotAllowedException(
-				"POST method is not allowed for path " + name)
+		return routesTry.flatMap(
+			routes -> Try.fromOptional(
+				routes.getPostSingleModelFunctionOptional(),
+				_getSupplierNotAllowedException("POST", name))
 		).map(
 			function -> function.apply(new RootIdentifier() {})
 		).map(
@@ -89,44 +112,55 @@ public class RootEndpointImpl implements RootEndpoint {
 
 		Try<Routes<T>> routesTry = _getRoutesTry(nestedName);
 
-		return routesTry.map(
-			Routes::getPostSingleModelFunctionOptional
-		).map(
-			Optional::get
+		Supplier<NotAllowedException> supplierNotAllowedException =
+			_getSupplierNotAllowedException(
+				"POST", name + "/" + id + "/" + nestedName);
+
+		return routesTry.flatMap(
+			routes -> Try.fromOptional(
+				routes.getPostSingleModelFunctionOptional(),
+				supplierNotAllowedException)
 		).flatMap(
 			_getAddNestedCollectionItemFunction(name, id, nestedName)
-		).map(
-			Optional::get
+		).flatMap(
+			optional -> Try.fromOptional(optional, supplierNotAllowedException)
 		).map(
 			function -> function.apply(body)
-		).mapFailMatching(
-			NoSuchElementException.class,
-			() -> new NotAllowedException(
-				"POST method is not allowed for path " + name + "/" + id + "/" +
-					nestedName)
 		);
 	}
 
 	@Override
 	public Response deleteCollectionItem(String name, String id) {
-		Try<Routes<Object>> routesTry = _getRoutesTry(name);
+		Try<Response> responseTry = _deleteCollectionItemTry(name, id);
 
-		routesTry.map(
-			Routes::getDeleteSingleModelConsumerOptional
-		).map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class,
-			() -> new NotAllowedException(
-				"DELETE method is not allowed for path " + name + "/" + id)
-		).getUnchecked(
-		).accept(
-			new Path(name, id)
-		);
+		return responseTry.recover(
+			exception -> {
+				Response.ResponseBuilder responseBuilder =
+					Response.serverError();
+
+				return responseBuilder.entity(
+					Try.fail(exception)
+				).build();
+			});
+	}
+
+	@Override
+	public Try<BatchResult> executeBatch(Map<String, Object> body) {
+		Object operations = body.get("operations");
+
+		if (!(operations instanceof List)) {
+			return Try.fail(
+				new BadRequestException(
+					"Batch body must have a list of operations"));
+		}
 
-		Response.ResponseBuilder responseBuilder = Response.noContent();
+		List<Try<Object>> resultTries = new ArrayList<>();
 
-		return responseBuilder.build();
+		for (Object operation : (List<?>)operations) {
+			resultTries.add(_executeOperation(operation));
+		}
+
+		return Try.success(new BatchResult(resultTries));
 	}
 
 	@Override
@@ -136,22 +170,36 @@ public class RootEndpointImpl implements RootEndpoint {
 		Optional<Class<Object>> modelClassOptional =
 			_collectionResourceManager.getModelClassOptional(name);
 
-		Optional<BinaryFunction<Object>> binaryFunctionOptional =
+		Optional<Representor<Object, Identifier>> representorOptional =
 			modelClassOptional.flatMap(
-				_collectionResourceManager::getRepresentorOptional
+				_collectionResourceManager::getRepresentorOptional);
+
+		Optional<IdentifierBinaryFunction<Identifier>>
+			identifierBinaryFunctionOptional = representorOptional.map(
+				Representor::getIdentifierBinaryFunctions
 			).map(
+				identifierBinaryFunctions -> identifierBinaryFunctions.get(
+					binaryId)
+			);
+
+		if (identifierBinaryFunctionOptional.isPresent()) {
+			return _getInputStreamTry(
+				name, id, representorOptional.get(),
+				identifierBinaryFunctionOptional.get());
+		}
+
+		Optional<BinaryFunction<Object>> binaryFunctionOptional =
+			representorOptional.map(
 				Representor::getBinaryFunctions
 			).map(
 				binaryFunctions -> binaryFunctions.get(binaryId)
 			);
 
-		Try<BinaryFunction<Object>> binaryFunctionTry = Try.fromFallible(
-			binaryFunctionOptional::get);
+		Try<BinaryFunction<Object>> binaryFunctionTry = Try.fromOptional(
+			binaryFunctionOptional,
+			_getSupplierNotFoundException(name + "/" + id + "/" + binaryId));
 
-		return binaryFunctionTry.mapFailMatching(
-			NoSuchElementException.class,
-			_getSupplierNotFoundException(name + "/" + id + "/" + binaryId)
-		).flatMap(
+		return binaryFunctionTry.flatMap(
 			binaryFunction -> _getInputStreamTry(name, id, binaryFunction)
 		);
 	}
@@ -162,33 +210,30 @@ public class RootEndpointImpl implements RootEndpoint {
 
 		Try<Routes<T>> routesTry = _getRoutesTry(name);
 
-		return routesTry.map(
-			Routes::getSingleModelFunctionOptional
-		).map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class,
-			_getSupplierNotFoundException(name + "/" + id)
+		return routesTry.flatMap(
+			routes -> Try.fromOptional(
+				routes.getSingleModelFunctionOptional(),
+				_getSupplierNotFoundException(name + "/" + id))
 		).map(
-			function -> function.apply(new Path(name, id))
+			function -> {
+				Path path = new Path(name, id);
+
+				_representationCache.setGeneration(_httpServletRequest, path);
+
+				return function.apply(path);
+			}
 		);
 	}
 
 	@Override
 	public <T> Try<Page<T>> getCollectionPageTry(String name) {
-		Try<Routes<T>> routesTry = _getRoutesTry(name);
+		String[] ids = _httpServletRequest.getParameterValues("id");
 
-		return routesTry.map(
-			Routes::getPageFunctionOptional
-		).map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class, _getSupplierNotFoundException(name)
-		).map(
-			function -> function.apply(new Path())
-		).map(
-			function -> function.apply(new RootIdentifier() {})
-		);
+		if (ids != null) {
+			return _getBatchPageTry(name, ids);
+		}
+
+		return _getCollectionPageTry(name);
 	}
 
 	@Override
@@ -231,18 +276,15 @@ public class RootEndpointImpl implements RootEndpoint {
 		Supplier<NotFoundException> supplierNotFoundException =
 			_getSupplierNotFoundException(name + "/" + id + "/" + nestedName);
 
-		return routesTry.map(
-			Routes::getPageFunctionOptional
-		).map(
-			Optional::get
+		return routesTry.flatMap(
+			routes -> Try.fromOptional(
+				routes.getPageFunctionOptional(), supplierNotFoundException)
 		).map(
 			function -> function.apply(new Path(name, id))
 		).flatMap(
 			_getNestedCollectionPageTryFunction(name, id, nestedName)
-		).map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class, supplierNotFoundException
+		).flatMap(
+			optional -> Try.fromOptional(optional, supplierNotFoundException)
 		);
 	}
 
@@ -252,21 +294,139 @@ public class RootEndpointImpl implements RootEndpoint {
 
 		Try<Routes<T>> routesTry = _getRoutesTry(name);
 
-		return routesTry.map(
-			Routes::getUpdateSingleModelFunctionOptional
-		).map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class,
-			() -> new NotAllowedException(
-				"PUT method is not allowed for path " + name + "/" + id)
+		return routesTry.flatMap(
+			routes -> Try.fromOptional(
+				routes.getUpdateSingleModelFunctionOptional(),
+				_getSupplierNotAllowedException("PUT", name + "/" + id))
 		).map(
 			function -> function.apply(new Path(name, id))
 		).map(
 			function -> function.apply(body)
+		).map(
+			singleModel -> {
+				_representationCache.invalidate(new Path(name, id));
+
+				return singleModel;
+			}
+		);
+	}
+
+	private Try<Response> _deleteCollectionItemTry(String name, String id) {
+		Try<Routes<Object>> routesTry = _getRoutesTry(name);
+
+		Path path = new Path(name, id);
+
+		return routesTry.flatMap(
+			routes -> Try.fromOptional(
+				routes.getDeleteSingleModelConsumerOptional(),
+				_getSupplierNotAllowedException("DELETE", name + "/" + id))
+		).map(
+			consumer -> {
+				consumer.accept(path);
+
+				_representationCache.invalidate(path);
+
+				Response.ResponseBuilder responseBuilder = Response.noContent();
+
+				return responseBuilder.build();
+			}
 		);
 	}
 
+	private Try<Object> _executeMutation(
+		String method, String[] segments, Map<String, Object> body,
+		String path) {
+
+		if (method.equals("POST") && (segments.length == 1)) {
+			return (Try<Object>)(Try<?>)addCollectionItem(segments[0], body);
+		}
+
+		if (method.equals("POST") && (segments.length == 3)) {
+			return (Try<Object>)(Try<?>)addNestedCollectionItem(
+				segments[0], segments[1], segments[2], body);
+		}
+
+		if (method.equals("PUT") && (segments.length == 2)) {
+			return (Try<Object>)(Try<?>)updateCollectionItem(
+				segments[0], segments[1], body);
+		}
+
+		if (method.equals("DELETE") && (segments.length == 2)) {
+			return (Try<Object>)(Try<?>)_deleteCollectionItemTry(
+				segments[0], segments[1]);
+		}
+
+		return Try.fail(
+			new StacklessNotAllowedException(
+				method + " method is not allowed for path " + path));
+	}
+
+	private Try<Object> _executeOperation(Object operation) {
+		if (!(operation instanceof Map)) {
+			return Try.fail(
+				new BadRequestException("Batch operations must be objects"));
+		}
+
+		Map<String, Object> map = (Map<String, Object>)operation;
+
+		String method = String.valueOf(
+			map.get("method")
+		).toUpperCase(
+			Locale.ENGLISH
+		);
+		String path = String.valueOf(map.get("path"));
+
+		if (!path.startsWith("/p/") || (path.indexOf('?') != -1)) {
+			return Try.fail(
+				new BadRequestException(
+					"Batch operation paths must start with /p/ and can't " +
+						"have a query string"));
+		}
+
+		Try<String[]> segmentsTry = Try.fromFallible(
+			() -> _getSegments(path.substring(3)));
+
+		if (segmentsTry.isFailure()) {
+			return Try.fail(
+				new BadRequestException(
+					"Batch operation paths must be correctly encoded"));
+		}
+
+		String[] segments = segmentsTry.getUnchecked();
+
+		if (method.equals("GET") && (segments.length == 1)) {
+			return (Try<Object>)(Try<?>)_getCollectionPageTry(segments[0]);
+		}
+
+		if (method.equals("GET") && (segments.length == 2)) {
+			return (Try<Object>)(Try<?>)getCollectionItemSingleModelTry(
+				segments[0], segments[1]);
+		}
+
+		if (method.equals("GET") && (segments.length == 3)) {
+			return (Try<Object>)(Try<?>)getNestedCollectionPageTry(
+				segments[0], segments[1], segments[2]);
+		}
+
+		Object body = map.get("body");
+
+		Map<String, Object> bodyMap = Collections.emptyMap();
+
+		if (body instanceof Map) {
+			bodyMap = (Map<String, Object>)body;
+		}
+
+		Try<Object> resultTry = _executeMutation(
+			method, segments, bodyMap, path);
+
+		RequestContext requestContext = RequestContext.from(
+			_httpServletRequest);
+
+		requestContext.clear();
+
+		return resultTry;
+	}
+
 	private <T> ThrowableFunction<Function<Identifier,
 		Function<Map<String, Object>, SingleModel<T>>>,
 			Try<Optional<Function<Map<String, Object>, SingleModel<T>>>>>
@@ -274,59 +434,65 @@ public class RootEndpointImpl implements RootEndpoint {
 					String name, String id, String nestedName) {
 
 		return postFunction -> {
-			Try<SingleModel<T>> parentSingleModelTry =
-				getCollectionItemSingleModelTry(name, id);
+			Try<Optional<Identifier>> optionalTry = _getNestedIdentifierTry(
+				name, id, nestedName, true);
 
-			return parentSingleModelTry.map(
-				_getIdentifierFunction(nestedName)
-			).map(
-				optional -> optional.map(postFunction)
-			);
+			return optionalTry.map(optional -> optional.map(postFunction));
 		};
 	}
 
-	private <T> Predicate<RelatedCollection<T, ?>>
-		_getFilterRelatedCollectionPredicate(String nestedName) {
+	private <T> Try<Page<T>> _getBatchPageTry(String name, String[] ids) {
+		if (ids.length > _maxBatchIds) {
+			return Try.fail(
+				new BadRequestException(
+					"Batch requests can't have more than " + _maxBatchIds +
+						" ids"));
+		}
 
-		return relatedCollection -> {
-			Class<?> relatedModelClass = relatedCollection.getModelClass();
+		Try<Routes<T>> routesTry = _getRoutesTry(name);
 
-			String relatedClassName = relatedModelClass.getName();
+		Stream<String> stream = Arrays.stream(ids);
 
-			Optional<Class<Object>> optional =
-				_collectionResourceManager.getModelClassOptional(nestedName);
+		List<Path> paths = stream.map(
+			id -> new Path(name, id)
+		).collect(
+			Collectors.toList()
+		);
 
-			return optional.map(
-				Class::getName
-			).map(
-				relatedClassName::equals
-			).orElse(
-				false
-			);
-		};
+		return routesTry.flatMap(
+			routes -> Try.fromOptional(
+				routes.getBatchPageFunctionOptional(),
+				_getSupplierNotFoundException(name + "?id"))
+		).map(
+			function -> function.apply(paths)
+		);
 	}
 
-	private <T> ThrowableFunction<SingleModel<T>, Optional<Identifier>>
-		_getIdentifierFunction(String nestedName) {
+	private <T> Try<Page<T>> _getCollectionPageTry(String name) {
+		Try<Routes<T>> routesTry = _getRoutesTry(name);
 
-		return parentSingleModel -> {
-			Optional<Representor<T, Identifier>> optional =
-				_collectionResourceManager.getRepresentorOptional(
-					parentSingleModel.getModelClass());
+		return routesTry.flatMap(
+			routes -> Try.fromOptional(
+				routes.getPageFunctionOptional(),
+				_getSupplierNotFoundException(name))
+		).map(
+			function -> function.apply(new Path())
+		).map(
+			function -> function.apply(new RootIdentifier() {})
+		);
+	}
 
-			return optional.map(
-				Representor::getRelatedCollections
-			).flatMap(
-				(Stream<RelatedCollection<T, ?>> stream) -> stream.filter(
-					_getFilterRelatedCollectionPredicate(nestedName)
-				).findFirst(
-				).map(
-					RelatedCollection::getIdentifierFunction
-				).map(
-					function -> function.apply(parentSingleModel.getModel())
-				)
-			);
-		};
+	private <U extends Identifier> Try<U> _getIdentifierTry(
+		Class<U> identifierClass, String name, String id) {
+
+		Optional<U> optional = _pathIdentifierMapperManager.map(
+			identifierClass, new Path(name, id));
+
+		return Try.fromOptional(
+			optional,
+			() -> new InternalServerErrorException(
+				new VulcanDeveloperError.MustHavePathIdentifierMapper(
+					identifierClass)));
 	}
 
 	private <T> Try<InputStream> _getInputStreamTry(
@@ -342,39 +508,121 @@ public class RootEndpointImpl implements RootEndpoint {
 		);
 	}
 
+	private <U extends Identifier> Try<InputStream> _getInputStreamTry(
+		String name, String id, Representor<?, U> representor,
+		IdentifierBinaryFunction<U> identifierBinaryFunction) {
+
+		Try<U> identifierTry = _getIdentifierTry(
+			representor.getIdentifierClass(), name, id);
+
+		return identifierTry.map(identifierBinaryFunction::apply);
+	}
+
 	private <T, S> ThrowableFunction<Function<Identifier, Page<S>>,
 		Try<Optional<Page<S>>>> _getNestedCollectionPageTryFunction(
 			String name, String id, String nestedName) {
 
 		return pageFunction -> {
-			Try<SingleModel<T>> parentSingleModelTry =
-				getCollectionItemSingleModelTry(name, id);
+			Try<Optional<Identifier>> optionalTry = _getNestedIdentifierTry(
+				name, id, nestedName, false);
+
+			return optionalTry.map(optional -> optional.map(pageFunction));
+		};
+	}
+
+	private Try<Optional<Identifier>> _getNestedIdentifierTry(
+		String name, String id, String nestedName, boolean loadParent) {
+
+		Optional<RelatedCollection<Object, ?>> optional =
+			_collectionResourceManager.getRelatedCollectionOptional(
+				name, nestedName);
+
+		if (!optional.isPresent()) {
+			return Try.success(Optional.empty());
+		}
+
+		RelatedCollection<Object, ?> relatedCollection = optional.get();
+
+		Optional<Function<Identifier, Identifier>>
+			parentIdentifierFunctionOptional =
+				relatedCollection.getParentIdentifierFunctionOptional();
+
+		if (parentIdentifierFunctionOptional.isPresent() && !loadParent) {
+			Function<Identifier, Identifier> parentIdentifierFunction =
+				parentIdentifierFunctionOptional.get();
+
+			Optional<Class<Object>> modelClassOptional =
+				_collectionResourceManager.getModelClassOptional(name);
 
-			return parentSingleModelTry.map(
-				_getIdentifierFunction(nestedName)
+			Optional<Representor<Object, Identifier>> representorOptional =
+				modelClassOptional.flatMap(
+					_collectionResourceManager::getRepresentorOptional);
+
+			Try<Representor<Object, Identifier>> representorTry =
+				Try.fromOptional(
+					representorOptional,
+					_getSupplierNotFoundException(name + "/" + id));
+
+			return representorTry.map(
+				Representor::getIdentifierClass
+			).flatMap(
+				identifierClass -> _getIdentifierTry(identifierClass, name, id)
 			).map(
-				optional -> optional.map(pageFunction)
+				parentIdentifierFunction::apply
+			).map(
+				Optional::of
 			);
-		};
+		}
+
+		Try<SingleModel<Object>> parentSingleModelTry =
+			getCollectionItemSingleModelTry(name, id);
+
+		return parentSingleModelTry.map(
+			SingleModel::getModel
+		).map(
+			relatedCollection.getIdentifierFunction()::apply
+		).map(
+			Optional::of
+		);
 	}
 
 	private <T> Try<Routes<T>> _getRoutesTry(String name) {
-		Try<Optional<Routes<T>>> optionalTry = Try.success(
+		Optional<Routes<T>> optional =
 			_collectionResourceManager.getRoutesOptional(
-				name, _httpServletRequest));
+				name, _httpServletRequest);
 
-		return optionalTry.map(
-			Optional::get
-		).mapFailMatching(
-			NoSuchElementException.class,
-			() -> new NotFoundException("No resource found for path " + name)
-		);
+		return Try.fromOptional(
+			optional,
+			() -> new StacklessNotFoundException(
+				"No resource found for path " + name));
+	}
+
+	private String[] _getSegments(String path)
+		throws UnsupportedEncodingException {
+
+		String[] segments = path.split("/");
+
+		for (int i = 0; i < segments.length; i++) {
+			String segment = segments[i].replace("+", "%2B");
+
+			segments[i] = URLDecoder.decode(segment, "UTF-8");
+		}
+
+		return segments;
+	}
+
+	private Supplier<NotAllowedException> _getSupplierNotAllowedException(
+		String method, String path) {
+
+		return () -> new StacklessNotAllowedException(
+			method + " method is not allowed for path " + path);
 	}
 
 	private Supplier<NotFoundException> _getSupplierNotFoundException(
 		String name) {
 
-		return () -> new NotFoundException("No endpoint found at path " + name);
+		return () -> new StacklessNotFoundException(
+			"No endpoint found at path " + name);
 	}
 
 	@Reference
@@ -383,7 +631,15 @@ public class RootEndpointImpl implements RootEndpoint {
 	@Context
 	private HttpServletRequest _httpServletRequest;
 
+	private int _maxBatchIds = 100;
+
+	@Reference
+	private PathIdentifierMapperManager _pathIdentifierMapperManager;
+
 	@Reference
 	private ProviderManager _providerManager;
 
+	@Reference
+	private RepresentationCache _representationCache;
+
 }
\ No newline at end of file
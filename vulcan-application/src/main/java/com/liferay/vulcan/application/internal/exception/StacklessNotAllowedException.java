@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.application.internal.exception;
+
+import javax.ws.rs.NotAllowedException;
+
+/**
+ * Represents a {@code NotAllowedException} for an expected outcome, such as a
+ * request with a method that the route doesn't support. Its stack trace isn't
+ * filled in, because it only identifies the missing route.
+ *
+ * @author Alejandro Hernández
+ */
+public class StacklessNotAllowedException extends NotAllowedException {
+
+	public StacklessNotAllowedException(String message) {
+		super(message);
+	}
+
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+
+}
\ No newline at end of file
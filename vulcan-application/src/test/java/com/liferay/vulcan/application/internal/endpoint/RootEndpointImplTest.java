@@ -0,0 +1,335 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.vulcan.application.internal.endpoint;
+
+import com.liferay.vulcan.endpoint.BatchResult;
+import com.liferay.vulcan.pagination.SingleModel;
+import com.liferay.vulcan.resource.Routes;
+import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.uri.Path;
+import com.liferay.vulcan.wiring.osgi.cache.RepresentationCache;
+import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.NotAllowedException;
+import javax.ws.rs.NotFoundException;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.RuntimeDelegate;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RootEndpointImplTest {
+
+	@BeforeClass
+	public static void setUpClass() {
+		RuntimeDelegate runtimeDelegate = Mockito.mock(RuntimeDelegate.class);
+
+		Mockito.when(
+			runtimeDelegate.createResponseBuilder()
+		).thenAnswer(
+			invocationOnMock -> _createResponseBuilder()
+		);
+
+		RuntimeDelegate.setInstance(runtimeDelegate);
+	}
+
+	@AfterClass
+	public static void tearDownClass() {
+		RuntimeDelegate.setInstance(null);
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		Routes<String> routes = Mockito.mock(Routes.class);
+
+		Function<Path, SingleModel<String>> singleModelFunction = path -> {
+			_operations.add("GET " + path.asURI());
+
+			return new SingleModel<>(path.getId(), String.class);
+		};
+
+		Mockito.when(
+			routes.getSingleModelFunctionOptional()
+		).thenReturn(
+			Optional.of(singleModelFunction)
+		);
+
+		Consumer<Path> deleteSingleModelConsumer =
+			path -> _operations.add("DELETE " + path.asURI());
+
+		Mockito.when(
+			routes.getDeleteSingleModelConsumerOptional()
+		).thenReturn(
+			Optional.of(deleteSingleModelConsumer)
+		);
+
+		Mockito.when(
+			routes.getUpdateSingleModelFunctionOptional()
+		).thenReturn(
+			Optional.empty()
+		);
+
+		CollectionResourceManager collectionResourceManager = Mockito.mock(
+			CollectionResourceManager.class);
+
+		Mockito.when(
+			collectionResourceManager.getRoutesOptional(
+				Mockito.anyString(), Mockito.any(HttpServletRequest.class))
+		).thenReturn(
+			Optional.empty()
+		);
+
+		Mockito.when(
+			collectionResourceManager.<String>getRoutesOptional(
+				Mockito.eq("people"), Mockito.any(HttpServletRequest.class))
+		).thenReturn(
+			Optional.of(routes)
+		);
+
+		_setField("_collectionResourceManager", collectionResourceManager);
+		_setField(
+			"_httpServletRequest", Mockito.mock(HttpServletRequest.class));
+		_setField("_representationCache", new RepresentationCache());
+	}
+
+	@Test
+	public void testDeleteCollectionItem() {
+		Response response = _rootEndpointImpl.deleteCollectionItem(
+			"people", "1");
+
+		Assert.assertEquals(
+			Response.Status.NO_CONTENT.getStatusCode(), response.getStatus());
+		Assert.assertEquals(
+			Collections.singletonList("DELETE /people/1"), _operations);
+	}
+
+	@Test
+	public void testDeleteCollectionItemReturnsTheFailure() {
+		Response response = _rootEndpointImpl.deleteCollectionItem(
+			"unknown", "1");
+
+		Assert.assertTrue(response.getEntity() instanceof Try.Failure);
+
+		Try.Failure<?> failure = (Try.Failure<?>)response.getEntity();
+
+		Assert.assertTrue(failure.getException() instanceof NotFoundException);
+	}
+
+	@Test
+	public void testExecuteBatchDecodesPathSegments() {
+		List<Try<Object>> resultTries = _executeBatch(
+			_getOperation("GET", "/p/people/a%2Fb+c"));
+
+		SingleModel<?> singleModel = (SingleModel<?>)_getValue(
+			resultTries.get(0));
+
+		Assert.assertEquals("a/b+c", singleModel.getModel());
+	}
+
+	@Test
+	public void testExecuteBatchFailsWithoutOperations() {
+		Try<BatchResult> batchResultTry = _rootEndpointImpl.executeBatch(
+			Collections.emptyMap());
+
+		Assert.assertTrue(batchResultTry.isFailure());
+
+		Try.Failure<BatchResult> failure =
+			(Try.Failure<BatchResult>)batchResultTry;
+
+		Assert.assertTrue(
+			failure.getException() instanceof BadRequestException);
+	}
+
+	@Test
+	public void testExecuteBatchReturnsEachFailureInline() {
+		List<Try<Object>> resultTries = _executeBatch(
+			"operation", _getOperation("GET", "/people/1"),
+			_getOperation("GET", "/p/people/1?fields=name"),
+			_getOperation("PUT", "/p/people/1"),
+			_getOperation("PATCH", "/p/people/1"),
+			_getOperation("GET", "/p/people/1"));
+
+		Assert.assertEquals(6, resultTries.size());
+
+		_assertFailure(resultTries.get(0), BadRequestException.class);
+		_assertFailure(resultTries.get(1), BadRequestException.class);
+		_assertFailure(resultTries.get(2), BadRequestException.class);
+		_assertFailure(resultTries.get(3), NotAllowedException.class);
+		_assertFailure(resultTries.get(4), NotAllowedException.class);
+
+		Assert.assertTrue(resultTries.get(5).isSuccess());
+	}
+
+	@Test
+	public void testExecuteBatchRunsEveryOperationBeforeReturning() {
+		List<Try<Object>> resultTries = _executeBatch(
+			_getOperation("GET", "/p/people/1"),
+			_getOperation("delete", "/p/people/1"),
+			_getOperation("Get", "/p/people/2"));
+
+		Assert.assertEquals(
+			Arrays.asList(
+				"GET /people/1", "DELETE /people/1", "GET /people/2"),
+			_operations);
+
+		SingleModel<?> singleModel = (SingleModel<?>)_getValue(
+			resultTries.get(0));
+
+		Assert.assertEquals("1", singleModel.getModel());
+
+		Response response = (Response)_getValue(resultTries.get(1));
+
+		Assert.assertEquals(
+			Response.Status.NO_CONTENT.getStatusCode(), response.getStatus());
+
+		singleModel = (SingleModel<?>)_getValue(resultTries.get(2));
+
+		Assert.assertEquals("2", singleModel.getModel());
+	}
+
+	private static Response.ResponseBuilder _createResponseBuilder() {
+		Object[] entity = new Object[1];
+		MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+		int[] status = new int[1];
+
+		Answer<Object> responseAnswer = invocationOnMock -> {
+			Method method = invocationOnMock.getMethod();
+
+			if (method.getName().equals("getEntity")) {
+				return entity[0];
+			}
+
+			if (method.getName().equals("getHeaders")) {
+				return headers;
+			}
+
+			if (method.getName().equals("getStatus")) {
+				return status[0];
+			}
+
+			return Response.Status.fromStatusCode(status[0]);
+		};
+
+		Response response = Mockito.mock(Response.class, responseAnswer);
+
+		Answer<Object> responseBuilderAnswer = invocationOnMock -> {
+			Method method = invocationOnMock.getMethod();
+
+			if (method.getName().equals("build")) {
+				return response;
+			}
+
+			Object[] arguments = invocationOnMock.getArguments();
+
+			if (method.getName().equals("entity")) {
+				entity[0] = arguments[0];
+			}
+			else if (method.getName().equals("allow")) {
+				headers.putSingle("Allow", arguments[0]);
+			}
+			else if (method.getName().equals("status") &&
+				(arguments[0] instanceof Response.StatusType)) {
+
+				Response.StatusType statusType =
+					(Response.StatusType)arguments[0];
+
+				status[0] = statusType.getStatusCode();
+			}
+			else if (method.getName().equals("status")) {
+				status[0] = (Integer)arguments[0];
+			}
+
+			return invocationOnMock.getMock();
+		};
+
+		return Mockito.mock(
+			Response.ResponseBuilder.class, responseBuilderAnswer);
+	}
+
+	private void _assertFailure(
+		Try<Object> resultTry, Class<? extends Exception> exceptionClass) {
+
+		Assert.assertTrue(resultTry.isFailure());
+
+		Try.Failure<Object> failure = (Try.Failure<Object>)resultTry;
+
+		Assert.assertTrue(exceptionClass.isInstance(failure.getException()));
+	}
+
+	private List<Try<Object>> _executeBatch(Object... operations) {
+		Map<String, Object> body = new HashMap<>();
+
+		body.put("operations", Arrays.asList(operations));
+
+		Try<BatchResult> batchResultTry = _rootEndpointImpl.executeBatch(body);
+
+		BatchResult batchResult = batchResultTry.getUnchecked();
+
+		return batchResult.getResultTries();
+	}
+
+	private Map<String, Object> _getOperation(String method, String path) {
+		Map<String, Object> operation = new HashMap<>();
+
+		operation.put("method", method);
+		operation.put("path", path);
+
+		return operation;
+	}
+
+	private Object _getValue(Try<Object> resultTry) {
+		Assert.assertTrue(resultTry.isSuccess());
+
+		return resultTry.getUnchecked();
+	}
+
+	private void _setField(String name, Object value) throws Exception {
+		Field field = RootEndpointImpl.class.getDeclaredField(name);
+
+		field.setAccessible(true);
+
+		field.set(_rootEndpointImpl, value);
+	}
+
+	private final List<String> _operations = new ArrayList<>();
+	private final RootEndpointImpl _rootEndpointImpl = new RootEndpointImpl();
+
+}
\ No newline at end of file
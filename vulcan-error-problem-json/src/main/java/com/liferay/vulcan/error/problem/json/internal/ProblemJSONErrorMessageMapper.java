@@ -35,6 +35,11 @@ public class ProblemJSONErrorMessageMapper implements ErrorMessageMapper {
 		return "application/problem+json";
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 	@Override
 	public void mapDescription(
 		JSONObjectBuilder jsonObjectBuilder, String description) {
@@ -24,6 +24,7 @@ import com.liferay.vulcan.wiring.osgi.manager.ExceptionConverterManager;
 
 import java.util.Optional;
 
+import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
@@ -35,7 +36,8 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 
 /**
  * Captures and converts an exception to its corresponding {@link APIError}, and
- * writes that error to the response.
+ * writes that error to the response. {@code 304 Not Modified} responses of
+ * conditional requests are returned as they are.
  *
  * @author Alejandro Hernández
  */
@@ -44,6 +46,17 @@ public class GeneralExceptionMapper implements ExceptionMapper<Exception> {
 
 	@Override
 	public Response toResponse(Exception exception) {
+		if (exception instanceof WebApplicationException) {
+			WebApplicationException webApplicationException =
+				(WebApplicationException)exception;
+
+			Response response = webApplicationException.getResponse();
+
+			if (response.getStatus() == _NOT_MODIFIED) {
+				return response;
+			}
+		}
+
 		Optional<APIError> optional = _exceptionConverterManager.convert(
 			exception);
 
@@ -62,12 +75,15 @@ public class GeneralExceptionMapper implements ExceptionMapper<Exception> {
 				apiError, _httpHeaders);
 
 		return responseBuilder.entity(
-			WriterHelper.writeError(errorMessageMapper, apiError, _httpHeaders)
+			_writerHelper.writeError(errorMessageMapper, apiError, _httpHeaders)
 		).type(
 			errorMessageMapper.getMediaType()
 		).build();
 	}
 
+	private static final int _NOT_MODIFIED =
+		Response.Status.NOT_MODIFIED.getStatusCode();
+
 	@Reference
 	private ErrorMessageMapperManager _errorMessageMapperManager;
 
@@ -80,4 +96,7 @@ public class GeneralExceptionMapper implements ExceptionMapper<Exception> {
 	@Reference(cardinality = ReferenceCardinality.OPTIONAL)
 	private VulcanLogger _vulcanLogger;
 
+	@Reference
+	private WriterHelper _writerHelper;
+
 }
\ No newline at end of file
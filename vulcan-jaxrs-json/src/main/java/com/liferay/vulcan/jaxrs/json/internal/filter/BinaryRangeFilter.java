@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.filter;
+
+import com.liferay.vulcan.jaxrs.json.internal.writer.BinaryUtil;
+import com.liferay.vulcan.jaxrs.json.internal.writer.ByteRange;
+import com.liferay.vulcan.result.Try;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.Optional;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Adds the {@code Content-Length} and {@code Accept-Ranges} headers to binary
+ * responses whose length is known, and honors the request's {@code Range}
+ * header (and {@code If-Range}, if present) by answering with a {@code 206}
+ * partial response, or a {@code 416} if the range can't be satisfied. {@code
+ * HEAD} requests get the same headers as {@code GET} requests, but their
+ * binary is closed without being read and the response has no entity.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true, property = "liferay.vulcan.container.response.filter=true"
+)
+public class BinaryRangeFilter implements ContainerResponseFilter {
+
+	@Override
+	public void filter(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext)
+		throws IOException {
+
+		Object entity = containerResponseContext.getEntity();
+
+		if (!(entity instanceof Try.Success)) {
+			return;
+		}
+
+		Try.Success<?> success = (Try.Success<?>)entity;
+
+		Object value = success.getValue();
+
+		if (!(value instanceof InputStream)) {
+			return;
+		}
+
+		InputStream inputStream = (InputStream)value;
+
+		_addHeaders(
+			containerRequestContext, containerResponseContext, inputStream);
+
+		if (HttpMethod.HEAD.equals(containerRequestContext.getMethod())) {
+			inputStream.close();
+
+			containerResponseContext.setEntity(null);
+		}
+	}
+
+	private void _addHeaders(
+			ContainerRequestContext containerRequestContext,
+			ContainerResponseContext containerResponseContext,
+			InputStream inputStream)
+		throws IOException {
+
+		Optional<Long> optional = BinaryUtil.getLengthOptional(inputStream);
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		long length = optional.get();
+
+		MultivaluedMap<String, Object> headers =
+			containerResponseContext.getHeaders();
+
+		headers.putSingle(_ACCEPT_RANGES, "bytes");
+
+		Optional<ByteRange> byteRangeOptional = _getByteRangeOptional(
+			containerRequestContext, containerResponseContext, length);
+
+		if (!byteRangeOptional.isPresent()) {
+			headers.putSingle(HttpHeaders.CONTENT_LENGTH, length);
+
+			return;
+		}
+
+		ByteRange byteRange = byteRangeOptional.get();
+
+		headers.putSingle(_CONTENT_RANGE, byteRange);
+
+		if (!byteRange.isSatisfiable()) {
+			inputStream.close();
+
+			headers.remove(HttpHeaders.CONTENT_TYPE);
+
+			Response.Status status =
+				Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE;
+
+			containerResponseContext.setEntity(null);
+			containerResponseContext.setStatus(status.getStatusCode());
+
+			return;
+		}
+
+		headers.putSingle(HttpHeaders.CONTENT_LENGTH, byteRange.getLength());
+
+		containerResponseContext.setStatus(
+			Response.Status.PARTIAL_CONTENT.getStatusCode());
+	}
+
+	private Optional<ByteRange> _getByteRangeOptional(
+		ContainerRequestContext containerRequestContext,
+		ContainerResponseContext containerResponseContext, long length) {
+
+		String range = containerRequestContext.getHeaderString(_RANGE);
+
+		if ((range == null) ||
+			(containerResponseContext.getStatus() !=
+				Response.Status.OK.getStatusCode())) {
+
+			return Optional.empty();
+		}
+
+		String ifRange = containerRequestContext.getHeaderString(_IF_RANGE);
+
+		if ((ifRange != null) &&
+			!_isCurrentRepresentation(ifRange, containerResponseContext)) {
+
+			return Optional.empty();
+		}
+
+		return ByteRange.parse(range, length);
+	}
+
+	private boolean _isCurrentRepresentation(
+		String ifRange, ContainerResponseContext containerResponseContext) {
+
+		if (ifRange.startsWith("\"")) {
+			EntityTag entityTag = containerResponseContext.getEntityTag();
+
+			if ((entityTag == null) || entityTag.isWeak()) {
+				return false;
+			}
+
+			return ifRange.equals("\"" + entityTag.getValue() + "\"");
+		}
+
+		String lastModified = containerResponseContext.getHeaderString(
+			HttpHeaders.LAST_MODIFIED);
+
+		return ifRange.equals(lastModified);
+	}
+
+	private static final String _ACCEPT_RANGES = "Accept-Ranges";
+
+	private static final String _CONTENT_RANGE = "Content-Range";
+
+	private static final String _IF_RANGE = "If-Range";
+
+	private static final String _RANGE = "Range";
+
+}
\ No newline at end of file
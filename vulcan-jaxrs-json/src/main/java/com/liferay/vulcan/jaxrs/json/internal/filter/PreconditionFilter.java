@@ -0,0 +1,246 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.filter;
+
+import com.liferay.vulcan.error.VulcanDeveloperError.MustHaveProvider;
+import com.liferay.vulcan.jaxrs.json.internal.writer.ConditionalRequestUtil;
+import com.liferay.vulcan.jaxrs.json.internal.writer.WriterHelper;
+import com.liferay.vulcan.language.Language;
+import com.liferay.vulcan.message.json.SingleModelMessageMapper;
+import com.liferay.vulcan.pagination.SingleModel;
+import com.liferay.vulcan.resource.Routes;
+import com.liferay.vulcan.response.control.Embedded;
+import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.uri.Path;
+import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
+import com.liferay.vulcan.wiring.osgi.manager.ProviderManager;
+import com.liferay.vulcan.wiring.osgi.manager.SingleModelMessageMapperManager;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.Optional;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.UriInfo;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Evaluates the preconditions of {@code PUT} and {@code DELETE} requests
+ * ({@code If-Match}, {@code If-None-Match}, and {@code If-Unmodified-Since})
+ * before their route runs, against the current representation of the model
+ * they modify. If the preconditions fail, the request is aborted with a {@code
+ * 412 Precondition Failed} response, so the model isn't modified.
+ *
+ * <p>
+ * The entity tag is calculated as the single model writer does, for the first
+ * media type of the request's {@code Accept} header that has a mapper. If no
+ * entity tag can be calculated, the request's {@code If-Match} header can't
+ * match.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true, property = "liferay.vulcan.container.request.filter=true"
+)
+public class PreconditionFilter implements ContainerRequestFilter {
+
+	@Override
+	public void filter(ContainerRequestContext containerRequestContext) {
+		String method = containerRequestContext.getMethod();
+
+		if (!method.equals(HttpMethod.PUT) &&
+			!method.equals(HttpMethod.DELETE)) {
+
+			return;
+		}
+
+		if (!_hasPreconditions(containerRequestContext)) {
+			return;
+		}
+
+		UriInfo uriInfo = containerRequestContext.getUriInfo();
+
+		MultivaluedMap<String, String> pathParameters =
+			uriInfo.getPathParameters();
+
+		String name = pathParameters.getFirst("name");
+		String id = pathParameters.getFirst("id");
+
+		if ((name == null) || (id == null)) {
+			return;
+		}
+
+		Optional<SingleModel<Object>> optional = _getSingleModelOptional(
+			name, id);
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		Request request = containerRequestContext.getRequest();
+
+		SingleModel<Object> singleModel = optional.get();
+
+		Optional<EntityTag> entityTagOptional = _getEntityTagOptional(
+			singleModel);
+
+		Optional<Date> lastModifiedOptional =
+			_writerHelper.getLastModifiedOptional(
+				Collections.singletonList(singleModel.getModel()),
+				singleModel.getModelClass());
+
+		Response.ResponseBuilder responseBuilder = _evaluatePreconditions(
+			request, entityTagOptional, lastModifiedOptional);
+
+		if (responseBuilder != null) {
+			containerRequestContext.abortWith(responseBuilder.build());
+		}
+	}
+
+	private Response.ResponseBuilder _evaluatePreconditions(
+		Request request, Optional<EntityTag> entityTagOptional,
+		Optional<Date> lastModifiedOptional) {
+
+		if (!lastModifiedOptional.isPresent()) {
+			return entityTagOptional.map(
+				request::evaluatePreconditions
+			).orElseGet(
+				request::evaluatePreconditions
+			);
+		}
+
+		Date lastModified = lastModifiedOptional.get();
+
+		Date date = new Date(lastModified.getTime() / 1000 * 1000);
+
+		return entityTagOptional.map(
+			entityTag -> request.evaluatePreconditions(date, entityTag)
+		).orElseGet(
+			() -> request.evaluatePreconditions(date)
+		);
+	}
+
+	private Optional<EntityTag> _getEntityTagOptional(
+		SingleModel<Object> singleModel) {
+
+		Optional<SingleModelMessageMapper<Object>> optional =
+			_singleModelMessageMapperManager.
+				getSingleModelMessageMapperOptional(singleModel, _httpHeaders);
+
+		if (!optional.isPresent()) {
+			return Optional.empty();
+		}
+
+		SingleModelMessageMapper<Object> singleModelMessageMapper =
+			optional.get();
+
+		Optional<Embedded> embeddedOptional = _providerManager.provide(
+			Embedded.class, _httpServletRequest);
+
+		Embedded embedded = embeddedOptional.orElseThrow(
+			() -> new MustHaveProvider(Embedded.class));
+
+		Optional<Language> languageOptional = _providerManager.provide(
+			Language.class, _httpServletRequest);
+
+		Language language = languageOptional.orElseThrow(
+			() -> new MustHaveProvider(Language.class));
+
+		return _writerHelper.getVersionEntityTagOptional(
+			Collections.singletonList(singleModel.getModel()),
+			singleModel.getModelClass(),
+			ConditionalRequestUtil.getVariant(
+				_httpServletRequest, singleModelMessageMapper.getMediaType(),
+				language),
+			embedded);
+	}
+
+	private Optional<SingleModel<Object>> _getSingleModelOptional(
+		String name, String id) {
+
+		Optional<Routes<Object>> optional =
+			_collectionResourceManager.getRoutesOptional(
+				name, _httpServletRequest);
+
+		Optional<Function<Path, SingleModel<Object>>> functionOptional =
+			optional.flatMap(Routes::getSingleModelFunctionOptional);
+
+		return functionOptional.flatMap(
+			function -> {
+				Try<SingleModel<Object>> singleModelTry = Try.fromFallible(
+					() -> function.apply(new Path(name, id)));
+
+				return singleModelTry.map(
+					Optional::of
+				).orElse(
+					Optional.empty()
+				);
+			});
+	}
+
+	private boolean _hasPreconditions(
+		ContainerRequestContext containerRequestContext) {
+
+		if ((containerRequestContext.getHeaderString(_IF_MATCH) != null) ||
+			(containerRequestContext.getHeaderString(_IF_NONE_MATCH) !=
+				null) ||
+			(containerRequestContext.getHeaderString(_IF_UNMODIFIED_SINCE) !=
+				null)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	private static final String _IF_MATCH = "If-Match";
+
+	private static final String _IF_NONE_MATCH = "If-None-Match";
+
+	private static final String _IF_UNMODIFIED_SINCE = "If-Unmodified-Since";
+
+	@Reference
+	private CollectionResourceManager _collectionResourceManager;
+
+	@Context
+	private HttpHeaders _httpHeaders;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Reference
+	private ProviderManager _providerManager;
+
+	@Reference
+	private SingleModelMessageMapperManager _singleModelMessageMapperManager;
+
+	@Reference
+	private WriterHelper _writerHelper;
+
+}
\ No newline at end of file
@@ -0,0 +1,262 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import com.google.gson.stream.JsonWriter;
+
+import com.liferay.vulcan.endpoint.BatchResult;
+import com.liferay.vulcan.message.json.ErrorMessageMapper;
+import com.liferay.vulcan.pagination.Page;
+import com.liferay.vulcan.pagination.SingleModel;
+import com.liferay.vulcan.result.APIError;
+import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.wiring.osgi.manager.ErrorMessageMapperManager;
+import com.liferay.vulcan.wiring.osgi.manager.ExceptionConverterManager;
+import com.liferay.vulcan.wiring.osgi.util.GenericUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import javax.ws.rs.ext.Providers;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Writes the results of a batch request. Each successful result is written by
+ * the message body writer of its single model or page, and each failure is
+ * written as the {@link APIError} it converts to, so every operation is
+ * rendered as if it had been requested on its own. Failures without an
+ * exception converter are written as a {@code 500} status without body, so
+ * they don't interrupt the response. The preconditions of the batch request
+ * aren't evaluated against the results.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(
+	immediate = true, property = "liferay.vulcan.message.body.writer=true"
+)
+@Provider
+public class BatchResultMessageBodyWriter
+	implements MessageBodyWriter<Try.Success<BatchResult>> {
+
+	@Override
+	public long getSize(
+		Try.Success<BatchResult> success, Class<?> clazz, Type genericType,
+		Annotation[] annotations, MediaType mediaType) {
+
+		return -1;
+	}
+
+	@Override
+	public boolean isWriteable(
+		Class<?> clazz, Type genericType, Annotation[] annotations,
+		MediaType mediaType) {
+
+		Try<Class<Object>> classTry =
+			GenericUtil.getFirstGenericTypeArgumentTry(genericType);
+
+		return classTry.filter(
+			BatchResult.class::equals
+		).isSuccess();
+	}
+
+	@Override
+	public void writeTo(
+			Try.Success<BatchResult> success, Class<?> clazz,
+			Type genericType, Annotation[] annotations, MediaType mediaType,
+			MultivaluedMap<String, Object> httpHeaders,
+			OutputStream entityStream)
+		throws IOException, WebApplicationException {
+
+		BatchResult batchResult = success.getValue();
+
+		JsonWriter jsonWriter = JSONWriterUtil.createJsonWriter(entityStream);
+
+		jsonWriter.beginObject();
+
+		jsonWriter.name("responses");
+
+		jsonWriter.beginArray();
+
+		ConditionalRequestUtil.skipPreconditions(_httpServletRequest);
+
+		for (Try<Object> resultTry : batchResult.getResultTries()) {
+			jsonWriter.beginObject();
+
+			if (resultTry.isSuccess()) {
+				_writeSuccess(
+					jsonWriter, (Try.Success<Object>)resultTry, annotations,
+					mediaType);
+			}
+			else {
+				Try.Failure<Object> failure = (Try.Failure<Object>)resultTry;
+
+				_writeFailure(jsonWriter, failure.getException());
+			}
+
+			jsonWriter.endObject();
+		}
+
+		jsonWriter.endArray();
+
+		jsonWriter.endObject();
+
+		jsonWriter.flush();
+	}
+
+	private byte[] _getBytes(
+			Try.Success<Object> success, Type type, Annotation[] annotations,
+			MediaType mediaType)
+		throws IOException {
+
+		MessageBodyWriter<Try.Success> messageBodyWriter =
+			_providers.getMessageBodyWriter(
+				Try.Success.class, type, annotations, mediaType);
+
+		if (messageBodyWriter == null) {
+			throw new WebApplicationException(
+				Response.Status.NOT_ACCEPTABLE);
+		}
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		messageBodyWriter.writeTo(
+			success, Try.Success.class, type, annotations, mediaType,
+			new MultivaluedHashMap<>(), byteArrayOutputStream);
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private void _writeFailure(JsonWriter jsonWriter, Exception exception)
+		throws IOException {
+
+		Optional<APIError> optional = _exceptionConverterManager.convert(
+			exception);
+
+		if (!optional.isPresent()) {
+			jsonWriter.name("status");
+			jsonWriter.value(
+				Response.Status.INTERNAL_SERVER_ERROR.getStatusCode());
+
+			return;
+		}
+
+		APIError apiError = optional.get();
+
+		ErrorMessageMapper errorMessageMapper =
+			_errorMessageMapperManager.getErrorMessageMapper(
+				apiError, _httpHeaders);
+
+		String error = _writerHelper.writeError(
+			errorMessageMapper, apiError, _httpHeaders);
+
+		jsonWriter.name("status");
+		jsonWriter.value(apiError.getStatusCode());
+
+		jsonWriter.name("body");
+		jsonWriter.jsonValue(error);
+	}
+
+	private void _writeSuccess(
+			JsonWriter jsonWriter, Try.Success<Object> success,
+			Annotation[] annotations, MediaType mediaType)
+		throws IOException {
+
+		Object value = success.getValue();
+
+		if (value instanceof Response) {
+			Response response = (Response)value;
+
+			jsonWriter.name("status");
+			jsonWriter.value(response.getStatus());
+
+			return;
+		}
+
+		Type type;
+
+		if (value instanceof Page) {
+			type = _PAGE_TYPE;
+		}
+		else {
+			type = _SINGLE_MODEL_TYPE;
+		}
+
+		Try<byte[]> bytesTry = Try.fromFallible(
+			() -> _getBytes(success, type, annotations, mediaType));
+
+		if (bytesTry.isFailure()) {
+			Try.Failure<byte[]> failure = (Try.Failure<byte[]>)bytesTry;
+
+			_writeFailure(jsonWriter, failure.getException());
+
+			return;
+		}
+
+		jsonWriter.name("status");
+		jsonWriter.value(Response.Status.OK.getStatusCode());
+
+		jsonWriter.name("body");
+		jsonWriter.jsonValue(
+			new String(bytesTry.getUnchecked(), StandardCharsets.UTF_8));
+	}
+
+	private static final Type _PAGE_TYPE =
+		new GenericType<Try<Page<Object>>>() {}.getType();
+
+	private static final Type _SINGLE_MODEL_TYPE =
+		new GenericType<Try<SingleModel<Object>>>() {}.getType();
+
+	@Reference
+	private ErrorMessageMapperManager _errorMessageMapperManager;
+
+	@Reference
+	private ExceptionConverterManager _exceptionConverterManager;
+
+	@Context
+	private HttpHeaders _httpHeaders;
+
+	@Context
+	private HttpServletRequest _httpServletRequest;
+
+	@Context
+	private Providers _providers;
+
+	@Reference
+	private WriterHelper _writerHelper;
+
+}
\ No newline at end of file
@@ -33,7 +33,9 @@ import javax.ws.rs.ext.Provider;
 import org.osgi.service.component.annotations.Component;
 
 /**
- * Writes an input stream as a binary output stream.
+ * Writes an input stream as a binary output stream. If the response has a
+ * {@link ByteRange} as its {@code Content-Range} header, only the bytes in that
+ * range are written.
  *
  * @author Javier Gamarra
  */
@@ -71,12 +73,19 @@ public class BinaryResourceBodyWriter
 			OutputStream outputStream)
 		throws IOException, WebApplicationException {
 
-		byte[] bytes = new byte[1024];
-		InputStream inputStream = success.getValue();
-		int value = -1;
+		Object contentRange = multivaluedMap.getFirst("Content-Range");
 
-		while ((value = inputStream.read(bytes)) != -1) {
-			outputStream.write(bytes, 0, value);
+		try (InputStream inputStream = success.getValue()) {
+			if (contentRange instanceof ByteRange) {
+				ByteRange byteRange = (ByteRange)contentRange;
+
+				BinaryUtil.write(
+					inputStream, outputStream, byteRange.getStart(),
+					byteRange.getLength());
+			}
+			else {
+				BinaryUtil.write(inputStream, outputStream, 0, -1);
+			}
 		}
 
 		outputStream.close();
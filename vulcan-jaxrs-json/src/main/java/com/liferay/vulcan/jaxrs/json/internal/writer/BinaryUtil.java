@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Provides methods for writing binaries. File-backed streams are transferred
+ * through their {@code FileChannel}, without copying them through a buffer
+ * managed by this class. Other streams are copied through large buffers
+ * reused across requests.
+ *
+ * @author Alejandro Hernández
+ */
+public class BinaryUtil {
+
+	/**
+	 * Returns the number of bytes that remain to be read from the input
+	 * stream, if it can be known without reading it. This is the case for
+	 * file-backed and in-memory streams. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @param  inputStream the input stream
+	 * @return the number of bytes that remain in the input stream, if known;
+	 *         {@code Optional#empty()} otherwise
+	 */
+	public static Optional<Long> getLengthOptional(InputStream inputStream) {
+		try {
+			if (inputStream instanceof FileInputStream) {
+				FileInputStream fileInputStream = (FileInputStream)inputStream;
+
+				FileChannel fileChannel = fileInputStream.getChannel();
+
+				return Optional.of(fileChannel.size() - fileChannel.position());
+			}
+
+			if (inputStream instanceof ByteArrayInputStream) {
+				return Optional.of((long)inputStream.available());
+			}
+		}
+		catch (IOException ioe) {
+			return Optional.empty();
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Writes the bytes of the input stream to the output stream, starting at
+	 * {@code start} bytes from the input stream's current position. If {@code
+	 * length} is negative, all the remaining bytes are written; otherwise only
+	 * {@code length} bytes are written.
+	 *
+	 * @param inputStream the input stream
+	 * @param outputStream the output stream
+	 * @param start the number of bytes to skip
+	 * @param length the number of bytes to write, or a negative number to
+	 *        write all the remaining bytes
+	 */
+	public static void write(
+			InputStream inputStream, OutputStream outputStream, long start,
+			long length)
+		throws IOException {
+
+		if (inputStream instanceof FileInputStream) {
+			FileInputStream fileInputStream = (FileInputStream)inputStream;
+
+			_transfer(
+				fileInputStream.getChannel(), outputStream, start, length);
+
+			return;
+		}
+
+		byte[] buffer = _buffers.poll();
+
+		if (buffer == null) {
+			buffer = new byte[_BUFFER_SIZE];
+		}
+
+		try {
+			_skip(inputStream, start);
+
+			_copy(inputStream, outputStream, length, buffer);
+		}
+		finally {
+			_buffers.offer(buffer);
+		}
+	}
+
+	private static void _copy(
+			InputStream inputStream, OutputStream outputStream, long length,
+			byte[] buffer)
+		throws IOException {
+
+		long remaining = length;
+
+		while (remaining != 0) {
+			int count = buffer.length;
+
+			if ((remaining > 0) && (remaining < count)) {
+				count = (int)remaining;
+			}
+
+			int read = inputStream.read(buffer, 0, count);
+
+			if (read == -1) {
+				return;
+			}
+
+			outputStream.write(buffer, 0, read);
+
+			if (remaining > 0) {
+				remaining -= read;
+			}
+		}
+	}
+
+	private static void _skip(InputStream inputStream, long start)
+		throws IOException {
+
+		long remaining = start;
+
+		while (remaining > 0) {
+			long skipped = inputStream.skip(remaining);
+
+			if (skipped <= 0) {
+				if (inputStream.read() == -1) {
+					return;
+				}
+
+				skipped = 1;
+			}
+
+			remaining -= skipped;
+		}
+	}
+
+	private static void _transfer(
+			FileChannel fileChannel, OutputStream outputStream, long start,
+			long length)
+		throws IOException {
+
+		long position = fileChannel.position() + start;
+
+		long remaining = fileChannel.size() - position;
+
+		if ((length >= 0) && (length < remaining)) {
+			remaining = length;
+		}
+
+		WritableByteChannel writableByteChannel = Channels.newChannel(
+			outputStream);
+
+		while (remaining > 0) {
+			long transferred = fileChannel.transferTo(
+				position, remaining, writableByteChannel);
+
+			if (transferred <= 0) {
+				return;
+			}
+
+			position += transferred;
+			remaining -= transferred;
+		}
+	}
+
+	private BinaryUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final int _BUFFER_SIZE = 65536;
+
+	private static final int _MAX_BUFFERS = 32;
+
+	private static final BlockingQueue<byte[]> _buffers =
+		new ArrayBlockingQueue<>(_MAX_BUFFERS);
+
+}
\ No newline at end of file
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import java.util.Optional;
+
+/**
+ * Represents the single byte range requested in a {@code Range} header, for a
+ * binary of a known length. Its {@code toString()} is the value of the {@code
+ * Content-Range} header of the response, so an instance can be added as that
+ * header and be found by {@link BinaryResourceBodyWriter} when writing the
+ * binary.
+ *
+ * @author Alejandro Hernández
+ */
+public class ByteRange {
+
+	/**
+	 * Returns the byte range of a {@code Range} header, for a binary of the
+	 * given length. Returns {@code Optional#empty()} if the header must be
+	 * ignored, because it isn't a valid byte range or it has more than one
+	 * range. An unsatisfiable range is returned so a {@code 416} response can
+	 * be sent.
+	 *
+	 * @param  range the {@code Range} header
+	 * @param  completeLength the binary's length
+	 * @return the byte range, if the header must be honored; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public static Optional<ByteRange> parse(String range, long completeLength) {
+		if (!range.startsWith(_BYTES_UNIT + "=")) {
+			return Optional.empty();
+		}
+
+		String rangeSet = range.substring(_BYTES_UNIT.length() + 1);
+
+		int index = rangeSet.indexOf('-');
+
+		if ((index == -1) || (rangeSet.indexOf(',') != -1)) {
+			return Optional.empty();
+		}
+
+		String first = rangeSet.substring(0, index).trim();
+		String last = rangeSet.substring(index + 1).trim();
+
+		try {
+			if (first.isEmpty()) {
+				long suffixLength = Long.parseLong(last);
+
+				if (suffixLength <= 0) {
+					return Optional.of(new ByteRange(completeLength));
+				}
+
+				long start = Math.max(completeLength - suffixLength, 0);
+
+				return Optional.of(
+					new ByteRange(start, completeLength - 1, completeLength));
+			}
+
+			long start = Long.parseLong(first);
+
+			long end = completeLength - 1;
+
+			if (!last.isEmpty()) {
+				long lastBytePosition = Long.parseLong(last);
+
+				if (lastBytePosition < start) {
+					return Optional.empty();
+				}
+
+				end = Math.min(lastBytePosition, end);
+			}
+
+			if ((start < 0) || (start >= completeLength)) {
+				return Optional.of(new ByteRange(completeLength));
+			}
+
+			return Optional.of(new ByteRange(start, end, completeLength));
+		}
+		catch (NumberFormatException nfe) {
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Returns the binary's length.
+	 *
+	 * @return the binary's length
+	 */
+	public long getCompleteLength() {
+		return _completeLength;
+	}
+
+	/**
+	 * Returns the position of the range's last byte.
+	 *
+	 * @return the position of the range's last byte
+	 */
+	public long getEnd() {
+		return _end;
+	}
+
+	/**
+	 * Returns the number of bytes in the range.
+	 *
+	 * @return the number of bytes in the range
+	 */
+	public long getLength() {
+		return _end - _start + 1;
+	}
+
+	/**
+	 * Returns the position of the range's first byte.
+	 *
+	 * @return the position of the range's first byte
+	 */
+	public long getStart() {
+		return _start;
+	}
+
+	/**
+	 * Returns {@code true} if the range overlaps the binary.
+	 *
+	 * @return {@code true} if the range overlaps the binary; {@code false}
+	 *         otherwise
+	 */
+	public boolean isSatisfiable() {
+		if (_start <= _end) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		if (!isSatisfiable()) {
+			return _BYTES_UNIT + " */" + _completeLength;
+		}
+
+		return _BYTES_UNIT + " " + _start + "-" + _end + "/" + _completeLength;
+	}
+
+	private ByteRange(long completeLength) {
+		this(completeLength, -1, completeLength);
+	}
+
+	private ByteRange(long start, long end, long completeLength) {
+		_start = start;
+		_end = end;
+		_completeLength = completeLength;
+	}
+
+	private static final String _BYTES_UNIT = "bytes";
+
+	private final long _completeLength;
+	private final long _end;
+	private final long _start;
+
+}
\ No newline at end of file
@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import com.liferay.vulcan.language.Language;
+
+import java.nio.charset.StandardCharsets;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.Base64;
+import java.util.Date;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.ClientErrorException;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+
+/**
+ * Provides methods for calculating the validators of a representation, its
+ * strong entity tag and its modification date, and for evaluating the
+ * preconditions of conditional requests against them. Only representations of
+ * models whose representor declares a version have an entity tag. Writers
+ * don't buffer representations to hash them.
+ *
+ * @author Alejandro Hernández
+ */
+public class ConditionalRequestUtil {
+
+	/**
+	 * Returns the strong entity tag of a text, like the concatenated versions
+	 * of the models in a representation.
+	 *
+	 * @param  text the text
+	 * @return the entity tag
+	 */
+	public static EntityTag getEntityTag(String text) {
+		MessageDigest messageDigest = _getMessageDigest();
+
+		Base64.Encoder encoder = Base64.getUrlEncoder();
+
+		Base64.Encoder withoutPaddingEncoder = encoder.withoutPadding();
+
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+		return new EntityTag(
+			withoutPaddingEncoder.encodeToString(messageDigest.digest(bytes)));
+	}
+
+	/**
+	 * Returns a text that identifies the representation variant requested.
+	 * Representations of the same models with different media types, query
+	 * parameters, or languages have different variants.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  mediaType the representation's media type
+	 * @param  language the request's language
+	 * @return the variant
+	 */
+	public static String getVariant(
+		HttpServletRequest httpServletRequest, String mediaType,
+		Language language) {
+
+		String variant = mediaType + "\n" + language.getPreferredLocale() +
+			"\n" + httpServletRequest.getRequestURL();
+
+		String queryString = httpServletRequest.getQueryString();
+
+		if (queryString == null) {
+			return variant;
+		}
+
+		return variant + "?" + queryString;
+	}
+
+	/**
+	 * Returns {@code true} if the request's preconditions must be evaluated
+	 * against the representations written in the request.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @return {@code true} if the request's preconditions must be evaluated;
+	 *         {@code false} otherwise
+	 * @see    #skipPreconditions(HttpServletRequest)
+	 */
+	public static boolean hasPreconditions(
+		HttpServletRequest httpServletRequest) {
+
+		if (httpServletRequest.getAttribute(_SKIP_PRECONDITIONS) == null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Marks the request so its preconditions aren't evaluated against the
+	 * representations written in it. Batch requests use this method, because
+	 * their preconditions don't apply to the results of their operations.
+	 *
+	 * @param httpServletRequest the current request
+	 */
+	public static void skipPreconditions(
+		HttpServletRequest httpServletRequest) {
+
+		httpServletRequest.setAttribute(_SKIP_PRECONDITIONS, Boolean.TRUE);
+	}
+
+	/**
+	 * Adds the entity tag to the response headers. If the request is a {@code
+	 * GET} or {@code HEAD} request whose preconditions match the entity tag,
+	 * this method throws a {@code WebApplicationException} with the {@code 304
+	 * Not Modified} response instead, so the representation isn't written.
+	 * Preconditions of other methods are evaluated before their route runs,
+	 * against the representation they modify.
+	 *
+	 * @param entityTag the representation's entity tag
+	 * @param request the current request
+	 * @param httpHeaders the response headers
+	 */
+	public static void writeEntityTag(
+		EntityTag entityTag, Request request,
+		MultivaluedMap<String, Object> httpHeaders) {
+
+		Response.ResponseBuilder responseBuilder = null;
+
+		if (_isSafeMethod(request)) {
+			responseBuilder = request.evaluatePreconditions(entityTag);
+		}
+
+		if (responseBuilder != null) {
+			_throw(
+				responseBuilder.tag(
+					entityTag
+				).build());
+		}
+
+		httpHeaders.putSingle(HttpHeaders.ETAG, entityTag);
+	}
+
+	/**
+	 * Adds the modification date to the response headers. If the
+	 * representation hasn't been modified since the date of the {@code
+	 * If-Modified-Since} header, this method throws a {@code
+	 * WebApplicationException} with the {@code 304 Not Modified} response
+	 * instead, so the representation isn't written. The {@code
+	 * If-Modified-Since} header is ignored if the request also has an {@code
+	 * If-None-Match} header, and preconditions are only evaluated for {@code
+	 * GET} and {@code HEAD} requests.
+	 *
+	 * @param lastModified the representation's modification date
+	 * @param request the current request
+	 * @param requestHttpHeaders the request headers
+	 * @param httpHeaders the response headers
+	 */
+	public static void writeLastModified(
+		Date lastModified, Request request, HttpHeaders requestHttpHeaders,
+		MultivaluedMap<String, Object> httpHeaders) {
+
+		Date date = new Date(lastModified.getTime() / 1000 * 1000);
+
+		String ifNoneMatch = requestHttpHeaders.getHeaderString(
+			HttpHeaders.IF_NONE_MATCH);
+
+		if ((ifNoneMatch == null) && _isSafeMethod(request)) {
+			Response.ResponseBuilder responseBuilder =
+				request.evaluatePreconditions(date);
+
+			if (responseBuilder != null) {
+				_throw(
+					responseBuilder.lastModified(
+						date
+					).build());
+			}
+		}
+
+		httpHeaders.putSingle(HttpHeaders.LAST_MODIFIED, date);
+	}
+
+	private static MessageDigest _getMessageDigest() {
+		try {
+			return MessageDigest.getInstance("MD5");
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
+		}
+	}
+
+	private static boolean _isSafeMethod(Request request) {
+		String method = request.getMethod();
+
+		if (method.equals(HttpMethod.GET) || method.equals(HttpMethod.HEAD)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static void _throw(Response response) {
+		if (response.getStatus() == _NOT_MODIFIED) {
+			throw new WebApplicationException(response);
+		}
+
+		throw new ClientErrorException(response);
+	}
+
+	private ConditionalRequestUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final int _NOT_MODIFIED =
+		Response.Status.NOT_MODIFIED.getStatusCode();
+
+	private static final String _SKIP_PRECONDITIONS =
+		ConditionalRequestUtil.class.getName() + "#SKIP_PRECONDITIONS";
+
+}
\ No newline at end of file
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.ws.rs.core.AbstractMultivaluedMap;
+import javax.ws.rs.core.Cookie;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+
+/**
+ * Holds a copy of the current request's HTTP headers. The {@code HttpHeaders}
+ * injected in a JAX-RS provider can only be read from the request thread, so
+ * this copy is used when the page items are written in other threads.
+ *
+ * @author Alejandro Hernández
+ */
+public class HttpHeadersSnapshot implements HttpHeaders {
+
+	public HttpHeadersSnapshot(HttpHeaders httpHeaders) {
+		_acceptableLanguages = new ArrayList<>(
+			httpHeaders.getAcceptableLanguages());
+		_acceptableMediaTypes = new ArrayList<>(
+			httpHeaders.getAcceptableMediaTypes());
+		_cookies = new HashMap<>(httpHeaders.getCookies());
+		_date = httpHeaders.getDate();
+		_language = httpHeaders.getLanguage();
+		_length = httpHeaders.getLength();
+		_mediaType = httpHeaders.getMediaType();
+		_requestHeaders = new AbstractMultivaluedMap<String, String>(
+			new TreeMap<>(String.CASE_INSENSITIVE_ORDER)) {
+		};
+
+		_requestHeaders.putAll(httpHeaders.getRequestHeaders());
+	}
+
+	@Override
+	public List<Locale> getAcceptableLanguages() {
+		return Collections.unmodifiableList(_acceptableLanguages);
+	}
+
+	@Override
+	public List<MediaType> getAcceptableMediaTypes() {
+		return Collections.unmodifiableList(_acceptableMediaTypes);
+	}
+
+	@Override
+	public Map<String, Cookie> getCookies() {
+		return Collections.unmodifiableMap(_cookies);
+	}
+
+	@Override
+	public Date getDate() {
+		return _date;
+	}
+
+	@Override
+	public String getHeaderString(String name) {
+		List<String> values = getRequestHeader(name);
+
+		if (values == null) {
+			return null;
+		}
+
+		return String.join(",", values);
+	}
+
+	@Override
+	public Locale getLanguage() {
+		return _language;
+	}
+
+	@Override
+	public int getLength() {
+		return _length;
+	}
+
+	@Override
+	public MediaType getMediaType() {
+		return _mediaType;
+	}
+
+	@Override
+	public List<String> getRequestHeader(String name) {
+		return _requestHeaders.get(name);
+	}
+
+	@Override
+	public MultivaluedMap<String, String> getRequestHeaders() {
+		return _requestHeaders;
+	}
+
+	private final List<Locale> _acceptableLanguages;
+	private final List<MediaType> _acceptableMediaTypes;
+	private final Map<String, Cookie> _cookies;
+	private final Date _date;
+	private final Locale _language;
+	private final int _length;
+	private final MediaType _mediaType;
+	private final MultivaluedMap<String, String> _requestHeaders;
+
+}
\ No newline at end of file
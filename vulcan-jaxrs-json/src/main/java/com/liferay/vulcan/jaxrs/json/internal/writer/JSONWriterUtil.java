@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Provides methods for writing JSON elements directly to an output stream,
+ * without building an intermediate string with the whole document.
+ *
+ * @author Alejandro Hernández
+ */
+public class JSONWriterUtil {
+
+	/**
+	 * Returns a JSON writer that writes to the output stream through a buffered
+	 * UTF-8 writer.
+	 *
+	 * @param  outputStream the output stream
+	 * @return the JSON writer
+	 */
+	public static JsonWriter createJsonWriter(OutputStream outputStream) {
+		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
+			outputStream, StandardCharsets.UTF_8);
+
+		JsonWriter jsonWriter = new JsonWriter(
+			new BufferedWriter(outputStreamWriter));
+
+		jsonWriter.setLenient(true);
+
+		return jsonWriter;
+	}
+
+	/**
+	 * Returns the elements of the JSON array found in the path of the JSON
+	 * object. Returns an empty stream if the path doesn't lead to a JSON array.
+	 *
+	 * @param  jsonObject the JSON object
+	 * @param  path the JSON array's path
+	 * @return the elements of the JSON array
+	 */
+	public static Stream<JsonElement> getArrayElements(
+		JsonObject jsonObject, List<String> path) {
+
+		JsonElement jsonElement = jsonObject;
+
+		for (String name : path) {
+			if (!jsonElement.isJsonObject()) {
+				return Stream.empty();
+			}
+
+			JsonObject parentJsonObject = jsonElement.getAsJsonObject();
+
+			jsonElement = parentJsonObject.get(name);
+
+			if (jsonElement == null) {
+				return Stream.empty();
+			}
+		}
+
+		if (!jsonElement.isJsonArray()) {
+			return Stream.empty();
+		}
+
+		JsonArray jsonArray = jsonElement.getAsJsonArray();
+
+		return StreamSupport.stream(jsonArray.spliterator(), false);
+	}
+
+	/**
+	 * Writes the JSON element to the JSON writer.
+	 *
+	 * @param jsonWriter the JSON writer
+	 * @param jsonElement the JSON element
+	 */
+	public static void write(JsonWriter jsonWriter, JsonElement jsonElement) {
+		_gson.toJson(jsonElement, jsonWriter);
+	}
+
+	/**
+	 * Writes the JSON object to the JSON writer. The elements of the JSON array
+	 * found in the path are followed by the elements of the stream, which are
+	 * written as they are consumed.
+	 *
+	 * @param jsonWriter the JSON writer
+	 * @param jsonObject the JSON object
+	 * @param path the path of the JSON array to fill with the stream
+	 * @param stream the stream of JSON elements to add to the JSON array
+	 */
+	public static void write(
+			JsonWriter jsonWriter, JsonObject jsonObject, List<String> path,
+			Stream<JsonElement> stream)
+		throws IOException {
+
+		String pathName = path.get(0);
+
+		List<String> nestedPath = path.subList(1, path.size());
+
+		jsonWriter.beginObject();
+
+		Set<Map.Entry<String, JsonElement>> entries = jsonObject.entrySet();
+
+		for (Map.Entry<String, JsonElement> entry : entries) {
+			String name = entry.getKey();
+			JsonElement jsonElement = entry.getValue();
+
+			jsonWriter.name(name);
+
+			if (!pathName.equals(name)) {
+				write(jsonWriter, jsonElement);
+			}
+			else if (nestedPath.isEmpty()) {
+				jsonWriter.beginArray();
+
+				if (jsonElement.isJsonArray()) {
+					JsonArray jsonArray = jsonElement.getAsJsonArray();
+
+					jsonArray.forEach(element -> write(jsonWriter, element));
+				}
+
+				stream.forEach(element -> write(jsonWriter, element));
+
+				jsonWriter.endArray();
+			}
+			else if (jsonElement.isJsonObject()) {
+				write(
+					jsonWriter, jsonElement.getAsJsonObject(), nestedPath,
+					stream);
+			}
+			else {
+				write(jsonWriter, jsonElement);
+			}
+		}
+
+		jsonWriter.endObject();
+	}
+
+	private static final Gson _gson = new GsonBuilder(
+	).disableHtmlEscaping(
+	).serializeNulls(
+	).create();
+
+}
\ No newline at end of file
@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.OPTIONAL;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import com.liferay.vulcan.context.ThreadContextPropagator;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Applies a function to the items of a page in parallel, on a bounded pool
+ * shared by all requests. The results are returned in the original order of
+ * the items. If a {@link ThreadContextPropagator} is registered, the items are
+ * processed with the request thread's context.
+ *
+ * <p>
+ * Writing an item usually blocks on the persistence layer (for example, to
+ * fetch embedded models), so the pool has several threads per processor.
+ * Idle threads are released after a minute.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true, service = PageItemsExecutor.class)
+public class PageItemsExecutor {
+
+	@Activate
+	public void activate() {
+		Runtime runtime = Runtime.getRuntime();
+
+		int threads = runtime.availableProcessors() * _THREADS_PER_PROCESSOR;
+
+		ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+			threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+			runnable -> {
+				Thread thread = new Thread(
+					runnable,
+					"Vulcan page items executor " +
+						_threadNumber.incrementAndGet());
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+		threadPoolExecutor.allowCoreThreadTimeOut(true);
+
+		_executorService = threadPoolExecutor;
+	}
+
+	@Deactivate
+	public void deactivate() {
+		_executorService.shutdownNow();
+	}
+
+	/**
+	 * Returns the results of applying the function to each item, in the
+	 * original order of the items. At most {@code parallelism} items are
+	 * processed at the same time. If {@code parallelism} is {@code 1} or
+	 * less, the items are processed sequentially as the stream is consumed.
+	 *
+	 * @param  items the items
+	 * @param  function the function to apply to each item
+	 * @param  parallelism the maximum number of items processed at the same
+	 *         time
+	 * @return the results, in the original order of the items
+	 */
+	public <T, R> Stream<R> map(
+		Collection<T> items, Function<T, R> function, int parallelism) {
+
+		Stream<T> stream = items.stream();
+
+		if ((parallelism <= 1) || (items.size() <= 1)) {
+			return stream.map(function);
+		}
+
+		if (_threadContextPropagator != null) {
+			function = _threadContextPropagator.propagate(function);
+		}
+
+		Iterator<R> iterator = new OrderedIterator<>(
+			items.iterator(), function, parallelism);
+
+		return StreamSupport.stream(
+			Spliterators.spliterator(
+				iterator, items.size(), Spliterator.ORDERED),
+			false);
+	}
+
+	private static final int _THREADS_PER_PROCESSOR = 4;
+
+	private ExecutorService _executorService;
+
+	@Reference(cardinality = OPTIONAL, policyOption = GREEDY)
+	private ThreadContextPropagator _threadContextPropagator;
+
+	private final AtomicInteger _threadNumber = new AtomicInteger();
+
+	private class OrderedIterator<T, R> implements Iterator<R> {
+
+		public OrderedIterator(
+			Iterator<T> iterator, Function<T, R> function, int parallelism) {
+
+			_iterator = iterator;
+			_function = function;
+			_parallelism = parallelism;
+
+			_submit();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !_futures.isEmpty();
+		}
+
+		@Override
+		public R next() {
+			Future<R> future = _futures.poll();
+
+			if (future == null) {
+				throw new NoSuchElementException();
+			}
+
+			try {
+				R result = future.get();
+
+				_submit();
+
+				return result;
+			}
+			catch (ExecutionException ee) {
+				_cancel();
+
+				Throwable cause = ee.getCause();
+
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException)cause;
+				}
+
+				if (cause instanceof Error) {
+					throw (Error)cause;
+				}
+
+				throw new RuntimeException(cause);
+			}
+			catch (InterruptedException ie) {
+				_cancel();
+
+				Thread currentThread = Thread.currentThread();
+
+				currentThread.interrupt();
+
+				throw new RuntimeException(ie);
+			}
+		}
+
+		private void _cancel() {
+			_futures.forEach(future -> future.cancel(true));
+
+			_futures.clear();
+		}
+
+		private void _submit() {
+			while ((_futures.size() < _parallelism) && _iterator.hasNext()) {
+				T item = _iterator.next();
+
+				Future<R> future = _executorService.submit(
+					() -> _function.apply(item));
+
+				_futures.add(future);
+			}
+		}
+
+		private final Function<T, R> _function;
+		private final Deque<Future<R>> _futures = new ArrayDeque<>();
+		private final Iterator<T> _iterator;
+		private final int _parallelism;
+
+	}
+
+}
\ No newline at end of file
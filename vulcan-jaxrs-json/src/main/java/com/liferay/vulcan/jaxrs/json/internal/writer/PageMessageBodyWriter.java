@@ -14,12 +14,12 @@
 
 package com.liferay.vulcan.jaxrs.json.internal.writer;
 
-import static org.osgi.service.component.annotations.ReferenceCardinality.AT_LEAST_ONE;
-import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
-
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import com.liferay.vulcan.alias.BinaryFunction;
+import com.liferay.vulcan.context.RequestContext;
 import com.liferay.vulcan.error.VulcanDeveloperError;
 import com.liferay.vulcan.error.VulcanDeveloperError.UnresolvableURI;
 import com.liferay.vulcan.language.Language;
@@ -37,23 +37,25 @@ import com.liferay.vulcan.response.control.Fields;
 import com.liferay.vulcan.result.Try;
 import com.liferay.vulcan.url.ServerURL;
 import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
+import com.liferay.vulcan.wiring.osgi.manager.PageMessageMapperManager;
 import com.liferay.vulcan.wiring.osgi.manager.ProviderManager;
 import com.liferay.vulcan.wiring.osgi.util.GenericUtil;
 
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
-import java.nio.charset.StandardCharsets;
+import java.net.URLEncoder;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
@@ -61,9 +63,11 @@ import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.container.ResourceInfo;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 
@@ -114,30 +118,16 @@ public class PageMessageBodyWriter<T>
 			OutputStream entityStream)
 		throws IOException, WebApplicationException {
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			entityStream, StandardCharsets.UTF_8);
-
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
-
-		Stream<PageMessageMapper<T>> stream = _pageMessageMappers.stream();
-
-		String mediaTypeString = mediaType.toString();
-
 		Page<T> page = success.getValue();
 
-		PageMessageMapper<T> pageMessageMapper = stream.filter(
-			bodyWriter ->
-				mediaTypeString.equals(bodyWriter.getMediaType()) &&
-				bodyWriter.supports(page, _httpHeaders)
-		).findFirst(
-		).orElseThrow(
-			() -> new VulcanDeveloperError.MustHaveMessageMapper(
-				mediaTypeString, page.getModelClass())
-		);
-
-		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+		Optional<PageMessageMapper<T>> pageMessageMapperOptional =
+			_pageMessageMapperManager.getPageMessageMapperOptional(
+				mediaType, page, _httpHeaders);
 
-		pageMessageMapper.onStart(jsonObjectBuilder, page, _httpHeaders);
+		PageMessageMapper<T> pageMessageMapper =
+			pageMessageMapperOptional.orElseThrow(
+				() -> new VulcanDeveloperError.MustHaveMessageMapper(
+					mediaType.toString(), page.getModelClass()));
 
 		Optional<Fields> fieldsOptional = _providerManager.provide(
 			Fields.class, _httpServletRequest);
@@ -163,9 +153,36 @@ public class PageMessageBodyWriter<T>
 		ServerURL serverURL = serverURLOptional.orElseThrow(
 			() -> new VulcanDeveloperError.MustHaveProvider(ServerURL.class));
 
-		_writeItems(
-			pageMessageMapper, jsonObjectBuilder, page, fields, embedded,
-			language, serverURL);
+		if (ConditionalRequestUtil.hasPreconditions(_httpServletRequest)) {
+			_writeValidators(
+				pageMessageMapper, page, embedded, language, httpHeaders);
+		}
+
+		Optional<List<String>> itemsPathOptional =
+			pageMessageMapper.getItemsPath(page);
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		pageMessageMapper.onStart(jsonObjectBuilder, page, _httpHeaders);
+
+		RequestContext requestContext = RequestContext.from(
+			_httpServletRequest);
+
+		if (itemsPathOptional.isPresent()) {
+			List<String> itemsPath = itemsPathOptional.get();
+
+			List<String> nestedNames = itemsPath.subList(1, itemsPath.size());
+
+			jsonObjectBuilder.nestedField(
+				itemsPath.get(0),
+				nestedNames.toArray(new String[nestedNames.size()])
+			).arrayValue();
+		}
+		else {
+			_writeItems(
+				pageMessageMapper, jsonObjectBuilder, page, fields, embedded,
+				language, serverURL, requestContext);
+		}
 
 		_writeItemTotalCount(pageMessageMapper, jsonObjectBuilder, page);
 
@@ -178,11 +195,10 @@ public class PageMessageBodyWriter<T>
 
 		pageMessageMapper.onFinish(jsonObjectBuilder, page, _httpHeaders);
 
-		JsonObject jsonObject = jsonObjectBuilder.build();
-
-		printWriter.println(jsonObject.toString());
-
-		printWriter.close();
+		_write(
+			pageMessageMapper, jsonObjectBuilder, page, itemsPathOptional,
+			fields, embedded, language, serverURL, requestContext,
+			entityStream);
 	}
 
 	private String _getCollectionURL(Page<T> page, ServerURL serverURL) {
@@ -195,6 +211,92 @@ public class PageMessageBodyWriter<T>
 			() -> new UnresolvableURI(modelClass.getName()));
 	}
 
+	private String _getCursorPageURL(
+		Page<T> page, ServerURL serverURL, Optional<String> cursorOptional,
+		int itemsPerPage) {
+
+		String url = _getCollectionURL(page, serverURL);
+
+		String cursorParameter = cursorOptional.filter(
+			cursor -> !cursor.isEmpty()
+		).map(
+			cursor -> Try.fromFallible(
+				() -> "cursor=" + URLEncoder.encode(cursor, "UTF-8") + "&"
+			).getUnchecked()
+		).orElse(
+			""
+		);
+
+		return url + "?" + cursorParameter + "per_page=" + itemsPerPage;
+	}
+
+	private Stream<JsonElement> _getItemsStream(
+		PageMessageMapper<T> pageMessageMapper, Page<T> page,
+		List<String> itemsPath, Fields fields, Embedded embedded,
+		Language language, ServerURL serverURL,
+		RequestContext requestContext) {
+
+		List<RelatedModel<T, ?>> embeddedRelatedModels =
+			_getBatchedRelatedModels(
+				page, fields, Representor::getEmbeddedRelatedModels,
+				requestContext);
+
+		List<RelatedModel<T, ?>> linkedRelatedModels = _getBatchedRelatedModels(
+			page, fields, Representor::getLinkedRelatedModels, requestContext);
+
+		int parallelism = _collectionResourceManager.getPageItemsParallelism(
+			page.getModelClass());
+
+		HttpHeaders httpHeaders;
+
+		if (parallelism > 1) {
+			httpHeaders = new HttpHeadersSnapshot(_httpHeaders);
+		}
+		else {
+			httpHeaders = _httpHeaders;
+		}
+
+		Stream<JsonObject> stream = _pageItemsExecutor.map(
+			page.getItems(),
+			item -> {
+				JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+				_writeItem(
+					pageMessageMapper, jsonObjectBuilder, item, page, fields,
+					embedded, language, serverURL, embeddedRelatedModels,
+					linkedRelatedModels, httpHeaders, requestContext);
+
+				return jsonObjectBuilder.build();
+			},
+			parallelism);
+
+		return stream.flatMap(
+			jsonObject -> JSONWriterUtil.getArrayElements(
+				jsonObject, itemsPath));
+	}
+
+	private List<RelatedModel<T, ?>> _getBatchedRelatedModels(
+		Page<T> page, Fields fields,
+		Function<Representor<T, Identifier>, List<RelatedModel<T, ?>>>
+			relatedModelsFunction,
+		RequestContext requestContext) {
+
+		Class<T> modelClass = page.getModelClass();
+
+		Optional<Representor<T, Identifier>> optional =
+			_collectionResourceManager.getRepresentorOptional(modelClass);
+
+		return optional.map(
+			relatedModelsFunction
+		).map(
+			relatedModels -> _writerHelper.getBatchedRelatedModels(
+				relatedModels, page.getItems(), modelClass, fields,
+				requestContext)
+		).orElseGet(
+			Collections::emptyList
+		);
+	}
+
 	private String _getPageURL(
 		Page<T> page, ServerURL serverURL, int pageNumber, int itemsPerPage) {
 
@@ -203,6 +305,42 @@ public class PageMessageBodyWriter<T>
 		return url + "?page=" + pageNumber + "&per_page=" + itemsPerPage;
 	}
 
+	private <U> List<RelatedModel<U, ?>> _getRelatedModels(
+		List<RelatedModel<U, ?>> relatedModels, SingleModel<U> singleModel,
+		Fields fields, RequestContext requestContext) {
+
+		return _writerHelper.getBatchedRelatedModels(
+			relatedModels, Collections.singletonList(singleModel.getModel()),
+			singleModel.getModelClass(), fields, requestContext);
+	}
+
+	private void _write(
+			PageMessageMapper<T> pageMessageMapper,
+			JSONObjectBuilder jsonObjectBuilder, Page<T> page,
+			Optional<List<String>> itemsPathOptional, Fields fields,
+			Embedded embedded, Language language, ServerURL serverURL,
+			RequestContext requestContext, OutputStream outputStream)
+		throws IOException {
+
+		JsonWriter jsonWriter = JSONWriterUtil.createJsonWriter(outputStream);
+
+		if (itemsPathOptional.isPresent()) {
+			List<String> itemsPath = itemsPathOptional.get();
+
+			Stream<JsonElement> itemsStream = _getItemsStream(
+				pageMessageMapper, page, itemsPath, fields, embedded, language,
+				serverURL, requestContext);
+
+			JSONWriterUtil.write(
+				jsonWriter, jsonObjectBuilder.build(), itemsPath, itemsStream);
+		}
+		else {
+			JSONWriterUtil.write(jsonWriter, jsonObjectBuilder.build());
+		}
+
+		jsonWriter.close();
+	}
+
 	private void _writeCollectionURL(
 		PageMessageMapper<T> pageMessageMapper,
 		JSONObjectBuilder jsonObjectBuilder, Page<T> page,
@@ -213,13 +351,47 @@ public class PageMessageBodyWriter<T>
 		pageMessageMapper.mapCollectionURL(jsonObjectBuilder, url);
 	}
 
+	private void _writeCursorPageURLs(
+		PageMessageMapper<T> pageMessageMapper,
+		JSONObjectBuilder jsonObjectBuilder, Page<T> page,
+		ServerURL serverURL) {
+
+		pageMessageMapper.mapCurrentPageURL(
+			jsonObjectBuilder,
+			_getCursorPageURL(
+				page, serverURL, page.getCursorOptional(),
+				page.getItemsPerPage()));
+
+		pageMessageMapper.mapFirstPageURL(
+			jsonObjectBuilder,
+			_getCursorPageURL(
+				page, serverURL, Optional.empty(), page.getItemsPerPage()));
+
+		if (page.hasPrevious()) {
+			pageMessageMapper.mapPreviousPageURL(
+				jsonObjectBuilder,
+				_getCursorPageURL(
+					page, serverURL, page.getPreviousCursorOptional(),
+					page.getItemsPerPage()));
+		}
+
+		if (page.hasNext()) {
+			pageMessageMapper.mapNextPageURL(
+				jsonObjectBuilder,
+				_getCursorPageURL(
+					page, serverURL, page.getNextCursorOptional(),
+					page.getItemsPerPage()));
+		}
+	}
+
 	private <U, V> void _writeEmbeddedRelatedModel(
 		PageMessageMapper<?> pageMessageMapper,
 		JSONObjectBuilder pageJSONObjectBuilder,
 		JSONObjectBuilder itemJSONObjectBuilder,
 		RelatedModel<U, V> relatedModel, SingleModel<U> parentSingleModel,
 		FunctionalList<String> parentEmbeddedPathElements, Fields fields,
-		Embedded embedded, Language language, ServerURL serverURL) {
+		Embedded embedded, Language language, ServerURL serverURL,
+		RequestContext requestContext) {
 
 		_writerHelper.writeRelatedModel(
 			relatedModel, parentSingleModel, parentEmbeddedPathElements,
@@ -227,36 +399,20 @@ public class PageMessageBodyWriter<T>
 			(singleModel, embeddedPathElements) -> {
 				Class<V> modelClass = singleModel.getModelClass();
 
-				_writerHelper.writeBooleanFields(
-					singleModel.getModel(), modelClass, fields,
-					(fieldName, value) ->
-						pageMessageMapper.mapItemEmbeddedResourceBooleanField(
-							pageJSONObjectBuilder, itemJSONObjectBuilder,
-							embeddedPathElements, fieldName, value));
-
-				_writerHelper.writeLocalizedStringFields(
+				_writerHelper.writeFields(
 					singleModel.getModel(), modelClass, fields, language,
 					(fieldName, value) ->
-						pageMessageMapper.mapItemEmbeddedResourceStringField(
+						pageMessageMapper.mapItemEmbeddedResourceBooleanField(
 							pageJSONObjectBuilder, itemJSONObjectBuilder,
-							embeddedPathElements, fieldName, value));
-
-				_writerHelper.writeNumberFields(
-					singleModel.getModel(), modelClass, fields,
+							embeddedPathElements, fieldName, value),
 					(fieldName, value) ->
 						pageMessageMapper.mapItemEmbeddedResourceNumberField(
 							pageJSONObjectBuilder, itemJSONObjectBuilder,
-							embeddedPathElements, fieldName, value));
-
-				_writerHelper.writeStringFields(
-					singleModel.getModel(), modelClass, fields,
+							embeddedPathElements, fieldName, value),
 					(fieldName, value) ->
 						pageMessageMapper.mapItemEmbeddedResourceStringField(
 							pageJSONObjectBuilder, itemJSONObjectBuilder,
-							embeddedPathElements, fieldName, value));
-
-				_writerHelper.writeLinks(
-					modelClass, fields,
+							embeddedPathElements, fieldName, value),
 					(fieldName, link) ->
 						pageMessageMapper.mapItemEmbeddedResourceLink(
 							pageJSONObjectBuilder, itemJSONObjectBuilder,
@@ -285,17 +441,22 @@ public class PageMessageBodyWriter<T>
 									itemJSONObjectBuilder, fieldName, value));
 
 						List<RelatedModel<V, ?>> embeddedRelatedModels =
-							representor.getEmbeddedRelatedModels();
+							_getRelatedModels(
+								representor.getEmbeddedRelatedModels(),
+								singleModel, fields, requestContext);
 
 						embeddedRelatedModels.forEach(
 							embeddedRelatedModel -> _writeEmbeddedRelatedModel(
 								pageMessageMapper, pageJSONObjectBuilder,
 								itemJSONObjectBuilder, embeddedRelatedModel,
 								singleModel, embeddedPathElements, fields,
-								embedded, language, serverURL));
+								embedded, language, serverURL,
+								requestContext));
 
 						List<RelatedModel<V, ?>> linkedRelatedModels =
-							representor.getLinkedRelatedModels();
+							_getRelatedModels(
+								representor.getLinkedRelatedModels(),
+								singleModel, fields, requestContext);
 
 						linkedRelatedModels.forEach(
 							linkedRelatedModel -> _writeLinkedRelatedModel(
@@ -329,125 +490,120 @@ public class PageMessageBodyWriter<T>
 			});
 	}
 
-	private void _writeItems(
+	private void _writeItem(
 		PageMessageMapper<T> pageMessageMapper,
-		JSONObjectBuilder jsonObjectBuilder, Page<T> page, Fields fields,
-		Embedded embedded, Language language, ServerURL serverURL) {
-
-		Collection<T> items = page.getItems();
-
-		items.forEach(
-			item -> {
-				JSONObjectBuilder itemJSONObjectBuilder =
-					new JSONObjectBuilder();
-
-				Class<T> modelClass = page.getModelClass();
+		JSONObjectBuilder jsonObjectBuilder, T item, Page<T> page,
+		Fields fields, Embedded embedded, Language language,
+		ServerURL serverURL, List<RelatedModel<T, ?>> embeddedRelatedModels,
+		List<RelatedModel<T, ?>> linkedRelatedModels, HttpHeaders httpHeaders,
+		RequestContext requestContext) {
 
-				pageMessageMapper.onStartItem(
-					jsonObjectBuilder, itemJSONObjectBuilder, item, modelClass,
-					_httpHeaders);
+		JSONObjectBuilder itemJSONObjectBuilder = new JSONObjectBuilder();
 
-				_writerHelper.writeBooleanFields(
-					item, modelClass, fields,
-					(field, value) -> pageMessageMapper.mapItemBooleanField(
-						jsonObjectBuilder, itemJSONObjectBuilder, field,
-						value));
-
-				_writerHelper.writeLocalizedStringFields(
-					item, modelClass, fields, language,
-					(field, value) -> pageMessageMapper.mapItemStringField(
-						jsonObjectBuilder, itemJSONObjectBuilder, field,
-						value));
-
-				_writerHelper.writeNumberFields(
-					item, modelClass, fields,
-					(field, value) -> pageMessageMapper.mapItemNumberField(
-						jsonObjectBuilder, itemJSONObjectBuilder, field,
-						value));
-
-				_writerHelper.writeStringFields(
-					item, modelClass, fields,
-					(field, value) -> pageMessageMapper.mapItemStringField(
-						jsonObjectBuilder, itemJSONObjectBuilder, field,
-						value));
+		Class<T> modelClass = page.getModelClass();
 
-				_writerHelper.writeLinks(
-					modelClass, fields,
-					(fieldName, link) -> pageMessageMapper.mapItemLink(
+		pageMessageMapper.onStartItem(
+			jsonObjectBuilder, itemJSONObjectBuilder, item, modelClass,
+			httpHeaders);
+
+		_writerHelper.writeFields(
+			item, modelClass, fields, language,
+			(field, value) -> pageMessageMapper.mapItemBooleanField(
+				jsonObjectBuilder, itemJSONObjectBuilder, field, value),
+			(field, value) -> pageMessageMapper.mapItemNumberField(
+				jsonObjectBuilder, itemJSONObjectBuilder, field, value),
+			(field, value) -> pageMessageMapper.mapItemStringField(
+				jsonObjectBuilder, itemJSONObjectBuilder, field, value),
+			(fieldName, link) -> pageMessageMapper.mapItemLink(
+				jsonObjectBuilder, itemJSONObjectBuilder, fieldName, link));
+
+		_writerHelper.writeTypes(
+			modelClass,
+			types -> pageMessageMapper.mapItemTypes(
+				jsonObjectBuilder, itemJSONObjectBuilder, types));
+
+		SingleModel<T> singleModel = new SingleModel<>(item, modelClass);
+
+		Optional<String> optional = _writerHelper.getSingleURLOptional(
+			singleModel, serverURL);
+
+		optional.ifPresent(
+			url -> pageMessageMapper.mapItemSelfURL(
+				jsonObjectBuilder, itemJSONObjectBuilder, url));
+
+		Optional<Representor<T, Identifier>> representorOptional =
+			_collectionResourceManager.getRepresentorOptional(modelClass);
+
+		representorOptional.ifPresent(
+			representor -> {
+				Map<String, BinaryFunction<T>> binaryFunctions =
+					representor.getBinaryFunctions();
+
+				_writerHelper.writeBinaries(
+					binaryFunctions, singleModel, serverURL,
+					(fieldName, value) -> pageMessageMapper.mapItemStringField(
 						jsonObjectBuilder, itemJSONObjectBuilder, fieldName,
-						link));
-
-				_writerHelper.writeTypes(
-					modelClass,
-					types -> pageMessageMapper.mapItemTypes(
-						jsonObjectBuilder, itemJSONObjectBuilder, types));
-
-				SingleModel<T> singleModel = new SingleModel<>(
-					item, modelClass);
-
-				Optional<String> optional = _writerHelper.getSingleURLOptional(
-					singleModel, serverURL);
-
-				optional.ifPresent(
-					url -> pageMessageMapper.mapItemSelfURL(
-						jsonObjectBuilder, itemJSONObjectBuilder, url));
-
-				Optional<Representor<T, Identifier>> representorOptional =
-					_collectionResourceManager.getRepresentorOptional(
-						modelClass);
-
-				representorOptional.ifPresent(
-					representor -> {
-						Map<String, BinaryFunction<T>> binaryFunctions =
-							representor.getBinaryFunctions();
-
-						_writerHelper.writeBinaries(
-							binaryFunctions, singleModel, serverURL,
-							(fieldName, value) ->
-								pageMessageMapper.mapItemStringField(
-									jsonObjectBuilder, itemJSONObjectBuilder,
-									fieldName, value));
+						value));
 
-						List<RelatedModel<T, ?>> embeddedRelatedModels =
-							representor.getEmbeddedRelatedModels();
+				embeddedRelatedModels.forEach(
+					embeddedRelatedModel -> _writeEmbeddedRelatedModel(
+						pageMessageMapper, jsonObjectBuilder,
+						itemJSONObjectBuilder, embeddedRelatedModel,
+						singleModel, null, fields, embedded, language,
+						serverURL, requestContext));
+
+				linkedRelatedModels.forEach(
+					linkedRelatedModel -> _writeLinkedRelatedModel(
+						pageMessageMapper, jsonObjectBuilder,
+						itemJSONObjectBuilder, linkedRelatedModel,
+						singleModel, null, fields, embedded, serverURL));
+
+				Stream<RelatedCollection<T, ?>> stream =
+					representor.getRelatedCollections();
+
+				stream.forEach(
+					relatedCollection -> _writeRelatedCollection(
+						pageMessageMapper, jsonObjectBuilder,
+						itemJSONObjectBuilder, relatedCollection,
+						singleModel, null, fields, serverURL));
+			});
 
-						embeddedRelatedModels.forEach(
-							embeddedRelatedModel -> _writeEmbeddedRelatedModel(
-								pageMessageMapper, jsonObjectBuilder,
-								itemJSONObjectBuilder, embeddedRelatedModel,
-								singleModel, null, fields, embedded, language,
-								serverURL));
+		pageMessageMapper.onFinishItem(
+			jsonObjectBuilder, itemJSONObjectBuilder, item, modelClass,
+			httpHeaders);
+	}
 
-						List<RelatedModel<T, ?>> linkedRelatedModels =
-							representor.getLinkedRelatedModels();
+	private void _writeItems(
+		PageMessageMapper<T> pageMessageMapper,
+		JSONObjectBuilder jsonObjectBuilder, Page<T> page, Fields fields,
+		Embedded embedded, Language language, ServerURL serverURL,
+		RequestContext requestContext) {
 
-						linkedRelatedModels.forEach(
-							linkedRelatedModel -> _writeLinkedRelatedModel(
-								pageMessageMapper, jsonObjectBuilder,
-								itemJSONObjectBuilder, linkedRelatedModel,
-								singleModel, null, fields, embedded,
-								serverURL));
+		List<RelatedModel<T, ?>> embeddedRelatedModels =
+			_getBatchedRelatedModels(
+				page, fields, Representor::getEmbeddedRelatedModels,
+				requestContext);
 
-						Stream<RelatedCollection<T, ?>> stream =
-							representor.getRelatedCollections();
+		List<RelatedModel<T, ?>> linkedRelatedModels = _getBatchedRelatedModels(
+			page, fields, Representor::getLinkedRelatedModels, requestContext);
 
-						stream.forEach(
-							relatedCollection -> _writeRelatedCollection(
-								pageMessageMapper, jsonObjectBuilder,
-								itemJSONObjectBuilder, relatedCollection,
-								singleModel, null, fields, serverURL));
-					});
+		Collection<T> items = page.getItems();
 
-				pageMessageMapper.onFinishItem(
-					jsonObjectBuilder, itemJSONObjectBuilder, item, modelClass,
-					_httpHeaders);
-			});
+		items.forEach(
+			item -> _writeItem(
+				pageMessageMapper, jsonObjectBuilder, item, page, fields,
+				embedded, language, serverURL, embeddedRelatedModels,
+				linkedRelatedModels, _httpHeaders, requestContext));
 	}
 
 	private void _writeItemTotalCount(
 		PageMessageMapper<T> pageMessageMapper,
 		JSONObjectBuilder jsonObjectBuilder, Page<T> page) {
 
+		if (!page.hasTotalCount()) {
+			return;
+		}
+
 		pageMessageMapper.mapItemTotalCount(
 			jsonObjectBuilder, page.getTotalCount());
 	}
@@ -483,6 +639,17 @@ public class PageMessageBodyWriter<T>
 		JSONObjectBuilder jsonObjectBuilder, Page<T> page,
 		ServerURL serverURL) {
 
+		if (page.isBatch()) {
+			return;
+		}
+
+		if (page.isCursorBased()) {
+			_writeCursorPageURLs(
+				pageMessageMapper, jsonObjectBuilder, page, serverURL);
+
+			return;
+		}
+
 		pageMessageMapper.mapCurrentPageURL(
 			jsonObjectBuilder,
 			_getPageURL(
@@ -508,11 +675,13 @@ public class PageMessageBodyWriter<T>
 					page.getItemsPerPage()));
 		}
 
-		pageMessageMapper.mapLastPageURL(
-			jsonObjectBuilder,
-			_getPageURL(
-				page, serverURL, page.getLastPageNumber(),
-				page.getItemsPerPage()));
+		if (page.hasTotalCount()) {
+			pageMessageMapper.mapLastPageURL(
+				jsonObjectBuilder,
+				_getPageURL(
+					page, serverURL, page.getLastPageNumber(),
+					page.getItemsPerPage()));
+		}
 	}
 
 	private <U, V> void _writeRelatedCollection(
@@ -533,6 +702,44 @@ public class PageMessageBodyWriter<T>
 					embeddedPathElements, url));
 	}
 
+	private void _writeValidators(
+		PageMessageMapper<T> pageMessageMapper, Page<T> page,
+		Embedded embedded, Language language,
+		MultivaluedMap<String, Object> httpHeaders) {
+
+		Optional<Date> lastModifiedOptional =
+			_writerHelper.getLastModifiedOptional(
+				page.getItems(), page.getModelClass());
+
+		lastModifiedOptional.ifPresent(
+			lastModified -> ConditionalRequestUtil.writeLastModified(
+				lastModified, _request, _httpHeaders, httpHeaders));
+
+		String variant = ConditionalRequestUtil.getVariant(
+			_httpServletRequest, pageMessageMapper.getMediaType(),
+			language);
+
+		if (page.isCursorBased()) {
+			Optional<String> cursorOptional = page.getCursorOptional();
+
+			variant = variant + "\n" + cursorOptional.orElse("");
+		}
+		else if (page.hasTotalCount()) {
+			variant = variant + "\n" + page.getTotalCount();
+		}
+		else {
+			variant = variant + "\n" + page.hasNext();
+		}
+
+		Optional<EntityTag> entityTagOptional =
+			_writerHelper.getVersionEntityTagOptional(
+				page.getItems(), page.getModelClass(), variant, embedded);
+
+		entityTagOptional.ifPresent(
+			entityTag -> ConditionalRequestUtil.writeEntityTag(
+				entityTag, _request, httpHeaders));
+	}
+
 	@Reference
 	private CollectionResourceManager _collectionResourceManager;
 
@@ -542,12 +749,18 @@ public class PageMessageBodyWriter<T>
 	@Context
 	private HttpServletRequest _httpServletRequest;
 
-	@Reference(cardinality = AT_LEAST_ONE, policyOption = GREEDY)
-	private List<PageMessageMapper<T>> _pageMessageMappers;
+	@Reference
+	private PageItemsExecutor _pageItemsExecutor;
+
+	@Reference
+	private PageMessageMapperManager _pageMessageMapperManager;
 
 	@Reference
 	private ProviderManager _providerManager;
 
+	@Context
+	private Request _request;
+
 	@Context
 	private ResourceInfo _resourceInfo;
 
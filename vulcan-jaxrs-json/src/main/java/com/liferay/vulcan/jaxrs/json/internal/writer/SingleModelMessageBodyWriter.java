@@ -14,12 +14,10 @@
 
 package com.liferay.vulcan.jaxrs.json.internal.writer;
 
-import static org.osgi.service.component.annotations.ReferenceCardinality.AT_LEAST_ONE;
-import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
-
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import com.liferay.vulcan.alias.BinaryFunction;
+import com.liferay.vulcan.context.RequestContext;
 import com.liferay.vulcan.error.VulcanDeveloperError;
 import com.liferay.vulcan.error.VulcanDeveloperError.MustHaveProvider;
 import com.liferay.vulcan.language.Language;
@@ -34,21 +32,24 @@ import com.liferay.vulcan.resource.identifier.Identifier;
 import com.liferay.vulcan.response.control.Embedded;
 import com.liferay.vulcan.response.control.Fields;
 import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.uri.Path;
 import com.liferay.vulcan.url.ServerURL;
+import com.liferay.vulcan.wiring.osgi.cache.RepresentationCache;
 import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
 import com.liferay.vulcan.wiring.osgi.manager.ProviderManager;
+import com.liferay.vulcan.wiring.osgi.manager.SingleModelMessageMapperManager;
 import com.liferay.vulcan.wiring.osgi.util.GenericUtil;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.PrintWriter;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
-import java.nio.charset.StandardCharsets;
-
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -58,9 +59,11 @@ import javax.servlet.http.HttpServletRequest;
 
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Request;
 import javax.ws.rs.ext.MessageBodyWriter;
 import javax.ws.rs.ext.Provider;
 
@@ -111,29 +114,17 @@ public class SingleModelMessageBodyWriter<T>
 			OutputStream entityStream)
 		throws IOException, WebApplicationException {
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			entityStream, StandardCharsets.UTF_8);
-
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
-
-		Stream<SingleModelMessageMapper<T>> stream =
-			_singleModelMessageMappers.stream();
-
-		String mediaTypeString = mediaType.toString();
-
 		SingleModel<T> singleModel = success.getValue();
 
-		SingleModelMessageMapper<T> singleModelMessageMapper = stream.filter(
-			messageMapper ->
-				mediaTypeString.equals(messageMapper.getMediaType()) &&
-				messageMapper.supports(singleModel, _httpHeaders)
-		).findFirst(
-		).orElseThrow(
-			() -> new VulcanDeveloperError.MustHaveMessageMapper(
-				mediaTypeString, singleModel.getModelClass())
-		);
+		Optional<SingleModelMessageMapper<T>> singleModelMessageMapperOptional =
+			_singleModelMessageMapperManager.
+				getSingleModelMessageMapperOptional(
+					mediaType, singleModel, _httpHeaders);
 
-		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+		SingleModelMessageMapper<T> singleModelMessageMapper =
+			singleModelMessageMapperOptional.orElseThrow(
+				() -> new VulcanDeveloperError.MustHaveMessageMapper(
+					mediaType.toString(), singleModel.getModelClass()));
 
 		Optional<Fields> fieldsOptional = _providerManager.provide(
 			Fields.class, _httpServletRequest);
@@ -159,15 +150,116 @@ public class SingleModelMessageBodyWriter<T>
 		ServerURL serverURL = serverURLOptional.orElseThrow(
 			() -> new MustHaveProvider(ServerURL.class));
 
+		if (ConditionalRequestUtil.hasPreconditions(_httpServletRequest)) {
+			_writeValidators(
+				singleModelMessageMapper, singleModel, embedded, language,
+				httpHeaders);
+		}
+
+		long timeToLive =
+			_collectionResourceManager.getRepresentationTimeToLive(
+				singleModel.getModelClass());
+
+		Optional<Path> pathOptional = Optional.empty();
+
+		if ((timeToLive > 0) &&
+			!_writerHelper.isEmbeddingRelatedModels(
+				singleModel.getModelClass(), embedded)) {
+
+			pathOptional = _writerHelper.getPathOptional(singleModel);
+		}
+
+		if (!pathOptional.isPresent()) {
+			_write(
+				singleModelMessageMapper, singleModel, fields, embedded,
+				language, serverURL, entityStream);
+
+			return;
+		}
+
+		byte[] bytes = _getCachedBytes(
+			singleModelMessageMapper, singleModel, fields, embedded, language,
+			serverURL, pathOptional.get(), timeToLive);
+
+		entityStream.write(bytes);
+	}
+
+	private byte[] _getBytes(
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			SingleModel<T> singleModel, Fields fields, Embedded embedded,
+			Language language, ServerURL serverURL)
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_write(
+			singleModelMessageMapper, singleModel, fields, embedded, language,
+			serverURL, byteArrayOutputStream);
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private byte[] _getCachedBytes(
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			SingleModel<T> singleModel, Fields fields, Embedded embedded,
+			Language language, ServerURL serverURL, Path path,
+			long timeToLive)
+		throws IOException {
+
+		List<Object> variant = Arrays.asList(
+			singleModelMessageMapper.getMediaType(), fields, embedded,
+			language.getPreferredLocale(), serverURL.getServerURL());
+
+		Optional<byte[]> bytesOptional = _representationCache.get(
+			path, variant);
+
+		if (bytesOptional.isPresent()) {
+			return bytesOptional.get();
+		}
+
+		byte[] bytes = _getBytes(
+			singleModelMessageMapper, singleModel, fields, embedded, language,
+			serverURL);
+
+		Optional<Long> generationOptional =
+			_representationCache.getGenerationOptional(
+				_httpServletRequest, path);
+
+		generationOptional.ifPresent(
+			generation -> _representationCache.put(
+				path, variant, bytes, timeToLive, generation));
+
+		return bytes;
+	}
+
+	private <U> List<RelatedModel<U, ?>> _getRelatedModels(
+		List<RelatedModel<U, ?>> relatedModels, SingleModel<U> singleModel,
+		Fields fields) {
+
+		return _writerHelper.getBatchedRelatedModels(
+			relatedModels, Collections.singletonList(singleModel.getModel()),
+			singleModel.getModelClass(), fields,
+			RequestContext.from(_httpServletRequest));
+	}
+
+	private void _write(
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			SingleModel<T> singleModel, Fields fields, Embedded embedded,
+			Language language, ServerURL serverURL, OutputStream outputStream)
+		throws IOException {
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
 		_writeModel(
 			singleModelMessageMapper, jsonObjectBuilder, singleModel, fields,
 			embedded, language, serverURL);
 
-		JsonObject jsonObject = jsonObjectBuilder.build();
+		JsonWriter jsonWriter = JSONWriterUtil.createJsonWriter(outputStream);
 
-		printWriter.println(jsonObject.toString());
+		JSONWriterUtil.write(jsonWriter, jsonObjectBuilder.build());
 
-		printWriter.close();
+		jsonWriter.flush();
 	}
 
 	private <U, V> void _writeEmbeddedRelatedModel(
@@ -183,37 +275,21 @@ public class SingleModelMessageBodyWriter<T>
 			(singleModel, embeddedPathElements) -> {
 				Class<V> modelClass = singleModel.getModelClass();
 
-				_writerHelper.writeBooleanFields(
-					singleModel.getModel(), modelClass, fields,
+				_writerHelper.writeFields(
+					singleModel.getModel(), modelClass, fields, language,
 					(fieldName, value) ->
 						singleModelMessageMapper.
 							mapEmbeddedResourceBooleanField(
 								jsonObjectBuilder, embeddedPathElements,
-								fieldName, value));
-
-				_writerHelper.writeLocalizedStringFields(
-					singleModel.getModel(), modelClass, fields, language,
-					(fieldName, value) ->
-						singleModelMessageMapper.mapEmbeddedResourceStringField(
-							jsonObjectBuilder, embeddedPathElements, fieldName,
-							value));
-
-				_writerHelper.writeNumberFields(
-					singleModel.getModel(), modelClass, fields,
+								fieldName, value),
 					(fieldName, value) ->
 						singleModelMessageMapper.mapEmbeddedResourceNumberField(
 							jsonObjectBuilder, embeddedPathElements, fieldName,
-							value));
-
-				_writerHelper.writeStringFields(
-					singleModel.getModel(), modelClass, fields,
+							value),
 					(fieldName, value) ->
 						singleModelMessageMapper.mapEmbeddedResourceStringField(
 							jsonObjectBuilder, embeddedPathElements, fieldName,
-							value));
-
-				_writerHelper.writeLinks(
-					modelClass, fields,
+							value),
 					(fieldName, link) ->
 						singleModelMessageMapper.mapEmbeddedResourceLink(
 							jsonObjectBuilder, embeddedPathElements, fieldName,
@@ -242,7 +318,9 @@ public class SingleModelMessageBodyWriter<T>
 										fieldName, value));
 
 						List<RelatedModel<V, ?>> embeddedRelatedModels =
-							representor.getEmbeddedRelatedModels();
+							_getRelatedModels(
+								representor.getEmbeddedRelatedModels(),
+								singleModel, fields);
 
 						embeddedRelatedModels.forEach(
 							embeddedRelatedModel -> _writeEmbeddedRelatedModel(
@@ -252,7 +330,9 @@ public class SingleModelMessageBodyWriter<T>
 								language, serverURL));
 
 						List<RelatedModel<V, ?>> linkedRelatedModels =
-							representor.getLinkedRelatedModels();
+							_getRelatedModels(
+								representor.getLinkedRelatedModels(),
+								singleModel, fields);
 
 						linkedRelatedModels.forEach(
 							linkedRelatedModel -> _writeLinkedRelatedModel(
@@ -311,29 +391,14 @@ public class SingleModelMessageBodyWriter<T>
 		singleModelMessageMapper.onStart(
 			jsonObjectBuilder, model, modelClass, _httpHeaders);
 
-		_writerHelper.writeBooleanFields(
-			singleModel.getModel(), singleModel.getModelClass(), fields,
+		_writerHelper.writeFields(
+			model, modelClass, fields, language,
 			(field, value) -> singleModelMessageMapper.mapBooleanField(
-				jsonObjectBuilder, field, value));
-
-		_writerHelper.writeLocalizedStringFields(
-			singleModel.getModel(), singleModel.getModelClass(), fields,
-			language,
-			(field, value) -> singleModelMessageMapper.mapStringField(
-				jsonObjectBuilder, field, value));
-
-		_writerHelper.writeNumberFields(
-			singleModel.getModel(), singleModel.getModelClass(), fields,
+				jsonObjectBuilder, field, value),
 			(field, value) -> singleModelMessageMapper.mapNumberField(
-				jsonObjectBuilder, field, value));
-
-		_writerHelper.writeStringFields(
-			singleModel.getModel(), singleModel.getModelClass(), fields,
+				jsonObjectBuilder, field, value),
 			(field, value) -> singleModelMessageMapper.mapStringField(
-				jsonObjectBuilder, field, value));
-
-		_writerHelper.writeLinks(
-			modelClass, fields,
+				jsonObjectBuilder, field, value),
 			(fieldName, link) -> singleModelMessageMapper.mapLink(
 				jsonObjectBuilder, fieldName, link));
 
@@ -363,7 +428,9 @@ public class SingleModelMessageBodyWriter<T>
 						jsonObjectBuilder, url));
 
 				List<RelatedModel<U, ?>> embeddedRelatedModels =
-					representor.getEmbeddedRelatedModels();
+					_getRelatedModels(
+						representor.getEmbeddedRelatedModels(), singleModel,
+						fields);
 
 				embeddedRelatedModels.forEach(
 					embeddedRelatedModel -> _writeEmbeddedRelatedModel(
@@ -372,7 +439,9 @@ public class SingleModelMessageBodyWriter<T>
 						embedded, language, serverURL));
 
 				List<RelatedModel<U, ?>> linkedRelatedModels =
-					representor.getLinkedRelatedModels();
+					_getRelatedModels(
+						representor.getLinkedRelatedModels(), singleModel,
+						fields);
 
 				linkedRelatedModels.forEach(
 					linkedRelatedModel -> _writeLinkedRelatedModel(
@@ -410,6 +479,34 @@ public class SingleModelMessageBodyWriter<T>
 					jsonObjectBuilder, embeddedPathElements, url));
 	}
 
+	private void _writeValidators(
+		SingleModelMessageMapper<T> singleModelMessageMapper,
+		SingleModel<T> singleModel, Embedded embedded, Language language,
+		MultivaluedMap<String, Object> httpHeaders) {
+
+		Optional<Date> lastModifiedOptional =
+			_writerHelper.getLastModifiedOptional(
+				Collections.singletonList(singleModel.getModel()),
+				singleModel.getModelClass());
+
+		lastModifiedOptional.ifPresent(
+			lastModified -> ConditionalRequestUtil.writeLastModified(
+				lastModified, _request, _httpHeaders, httpHeaders));
+
+		Optional<EntityTag> entityTagOptional =
+			_writerHelper.getVersionEntityTagOptional(
+				Collections.singletonList(singleModel.getModel()),
+				singleModel.getModelClass(),
+				ConditionalRequestUtil.getVariant(
+					_httpServletRequest,
+					singleModelMessageMapper.getMediaType(), language),
+				embedded);
+
+		entityTagOptional.ifPresent(
+			entityTag -> ConditionalRequestUtil.writeEntityTag(
+				entityTag, _request, httpHeaders));
+	}
+
 	@Reference
 	private CollectionResourceManager _collectionResourceManager;
 
@@ -422,8 +519,14 @@ public class SingleModelMessageBodyWriter<T>
 	@Reference
 	private ProviderManager _providerManager;
 
-	@Reference(cardinality = AT_LEAST_ONE, policyOption = GREEDY)
-	private List<SingleModelMessageMapper<T>> _singleModelMessageMappers;
+	@Reference
+	private RepresentationCache _representationCache;
+
+	@Context
+	private Request _request;
+
+	@Reference
+	private SingleModelMessageMapperManager _singleModelMessageMapperManager;
 
 	@Reference
 	private WriterHelper _writerHelper;
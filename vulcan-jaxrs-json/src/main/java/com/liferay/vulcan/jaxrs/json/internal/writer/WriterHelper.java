@@ -14,13 +14,16 @@
 
 package com.liferay.vulcan.jaxrs.json.internal.writer;
 
+import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIPLE;
 import static org.osgi.service.component.annotations.ReferenceCardinality.OPTIONAL;
+import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
 import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
 
 import com.google.gson.JsonObject;
 
 import com.liferay.vulcan.alias.BinaryFunction;
 import com.liferay.vulcan.consumer.TriConsumer;
+import com.liferay.vulcan.context.RequestContext;
 import com.liferay.vulcan.language.Language;
 import com.liferay.vulcan.list.FunctionalList;
 import com.liferay.vulcan.message.json.ErrorMessageMapper;
@@ -39,11 +42,18 @@ import com.liferay.vulcan.uri.Path;
 import com.liferay.vulcan.url.ServerURL;
 import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
 import com.liferay.vulcan.wiring.osgi.manager.PathIdentifierMapperManager;
+import com.liferay.vulcan.wiring.osgi.representor.RepresentorPlan;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
@@ -52,6 +62,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.ws.rs.core.EntityTag;
 import javax.ws.rs.core.HttpHeaders;
 
 import org.osgi.service.component.annotations.Component;
@@ -69,37 +80,47 @@ import org.osgi.service.component.annotations.Reference;
 public class WriterHelper {
 
 	/**
-	 * Writes an {@link APIError} to a JSON object.
+	 * Writes an {@link APIError} to a JSON object. If the {@link
+	 * ErrorMessageMapper} is cacheable and the API error doesn't have a
+	 * description, the JSON string that the same mapper wrote for an API
+	 * error with the same status code, title, and type is reused. Each mapper
+	 * keeps its most recently used strings, which are discarded when the
+	 * mapper is removed.
 	 *
 	 * @param  errorMessageMapper the {@link ErrorMessageMapper} that matches
 	 *         the {@code apiError} and {@code httpHeaders} parameters
 	 * @param  apiError the API error
 	 * @param  httpHeaders the current request's HTTP headers
 	 * @return the API error, as a JSON string
+	 * @see    ErrorMessageMapper#isCacheable()
 	 */
-	public static String writeError(
+	public String writeError(
 		ErrorMessageMapper errorMessageMapper, APIError apiError,
 		HttpHeaders httpHeaders) {
 
-		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+		Optional<String> optional = apiError.getDescription();
 
-		errorMessageMapper.onStart(jsonObjectBuilder, apiError, httpHeaders);
+		if (!errorMessageMapper.isCacheable() || optional.isPresent()) {
+			return _writeError(errorMessageMapper, apiError, httpHeaders);
+		}
 
-		Optional<String> optional = apiError.getDescription();
+		Map<List<Object>, String> errors = _errors.computeIfAbsent(
+			errorMessageMapper, key -> _createErrors());
 
-		optional.ifPresent(
-			description -> errorMessageMapper.mapDescription(
-				jsonObjectBuilder, description));
+		List<Object> key = Arrays.asList(
+			apiError.getStatusCode(), apiError.getTitle(), apiError.getType());
 
-		errorMessageMapper.mapStatusCode(
-			jsonObjectBuilder, apiError.getStatusCode());
-		errorMessageMapper.mapTitle(jsonObjectBuilder, apiError.getTitle());
-		errorMessageMapper.mapType(jsonObjectBuilder, apiError.getType());
-		errorMessageMapper.onFinish(jsonObjectBuilder, apiError, httpHeaders);
+		String error = errors.get(key);
 
-		JsonObject jsonObject = jsonObjectBuilder.build();
+		if (error != null) {
+			return error;
+		}
 
-		return jsonObject.toString();
+		error = _writeError(errorMessageMapper, apiError, httpHeaders);
+
+		errors.put(key, error);
+
+		return error;
 	}
 
 	/**
@@ -113,6 +134,44 @@ public class WriterHelper {
 		return serverURL.getServerURL() + "/" + relativeURI;
 	}
 
+	/**
+	 * Returns the related models, ready to write the related models of each of
+	 * the provided models. Relations that load their related models in
+	 * batches, like {@link com.liferay.vulcan.resource.BatchRelatedModel}, load
+	 * those of every model at once, instead of once per model, and reuse the
+	 * related models already memoized in the request context. Relations not
+	 * included in the requested fields aren't loaded.
+	 *
+	 * @param  relatedModels the related models
+	 * @param  models the models whose related models will be written
+	 * @param  modelClass the models' class
+	 * @param  fields the requested fields
+	 * @param  requestContext the context of the current request
+	 * @return the related models, ready to write those of each model
+	 */
+	public <T> List<RelatedModel<T, ?>> getBatchedRelatedModels(
+		List<RelatedModel<T, ?>> relatedModels, Collection<T> models,
+		Class<T> modelClass, Fields fields, RequestContext requestContext) {
+
+		Predicate<String> fieldsPredicate = _getFieldsPredicate(
+			modelClass, fields);
+
+		Stream<RelatedModel<T, ?>> stream = relatedModels.stream();
+
+		return stream.map(
+			relatedModel -> {
+				if (!fieldsPredicate.test(relatedModel.getKey())) {
+					return relatedModel;
+				}
+
+				return _getBatchedRelatedModel(
+					relatedModel, models, requestContext);
+			}
+		).collect(
+			Collectors.toList()
+		);
+	}
+
 	/**
 	 * Returns the page collection URL, if a {@link
 	 * com.liferay.vulcan.resource.CollectionResource} for the model class
@@ -146,18 +205,49 @@ public class WriterHelper {
 	}
 
 	/**
-	 * Returns the model's resource URL, if a @link
+	 * Returns the newest modification date of the models, if the model class's
+	 * representor has a modification date function and any of the models has
+	 * a modification date. Otherwise, this method returns {@code
+	 * Optional#empty()}.
+	 *
+	 * @param  models the models
+	 * @param  modelClass the models' class
+	 * @return the newest modification date, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public <T> Optional<Date> getLastModifiedOptional(
+		Collection<T> models, Class<T> modelClass) {
+
+		Optional<Representor<T, Identifier>> optional =
+			_collectionResourceManager.getRepresentorOptional(modelClass);
+
+		return optional.flatMap(
+			Representor::getModifiedDateFunctionOptional
+		).flatMap(
+			modifiedDateFunction -> {
+				Stream<T> stream = models.stream();
+
+				return stream.map(
+					modifiedDateFunction
+				).filter(
+					Objects::nonNull
+				).max(
+					Date::compareTo
+				);
+			}
+		);
+	}
+
+	/**
+	 * Returns the model's {@link Path}, if a {@link
 	 * com.liferay.vulcan.resource.CollectionResource} for the model class
 	 * exists. Otherwise, this method returns {@code Optional#empty()}.
 	 *
 	 * @param  singleModel the single model
-	 * @param  serverURL the server URL
-	 * @return the model's resource URL, if a collection resource for the model
-	 *         class exists; {@code Optional#empty()} otherwise
+	 * @return the model's path, if a collection resource for the model class
+	 *         exists; {@code Optional#empty()} otherwise
 	 */
-	public <T> Optional<String> getSingleURLOptional(
-		SingleModel<T> singleModel, ServerURL serverURL) {
-
+	public <T> Optional<Path> getPathOptional(SingleModel<T> singleModel) {
 		Class<T> modelClass = singleModel.getModelClass();
 
 		Optional<Representor<T, Identifier>> optional =
@@ -173,8 +263,25 @@ public class WriterHelper {
 
 				return _pathIdentifierMapperManager.map(
 					identifier, identifierClass, modelClass);
-			}
-		).map(
+			});
+	}
+
+	/**
+	 * Returns the model's resource URL, if a @link
+	 * com.liferay.vulcan.resource.CollectionResource} for the model class
+	 * exists. Otherwise, this method returns {@code Optional#empty()}.
+	 *
+	 * @param  singleModel the single model
+	 * @param  serverURL the server URL
+	 * @return the model's resource URL, if a collection resource for the model
+	 *         class exists; {@code Optional#empty()} otherwise
+	 */
+	public <T> Optional<String> getSingleURLOptional(
+		SingleModel<T> singleModel, ServerURL serverURL) {
+
+		Optional<Path> optional = getPathOptional(singleModel);
+
+		return optional.map(
 			Path::asURI
 		).map(
 			"/p/"::concat
@@ -188,6 +295,98 @@ public class WriterHelper {
 		);
 	}
 
+	/**
+	 * Returns the strong entity tag of the models' representation, calculated
+	 * from the variant and from the path and version of each model, if the
+	 * model class's representor has a version function. Otherwise, this
+	 * method returns {@code Optional#empty()}.
+	 *
+	 * <p>
+	 * The versions don't cover the related models, so this method also
+	 * returns {@code Optional#empty()} if the representation embeds any of
+	 * them.
+	 * </p>
+	 *
+	 * @param  models the models
+	 * @param  modelClass the models' class
+	 * @param  variant the representation's variant
+	 * @param  embedded the information about the embedded resources
+	 * @return the entity tag, if the representor has a version function and
+	 *         no related model is embedded; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public <T> Optional<EntityTag> getVersionEntityTagOptional(
+		Collection<T> models, Class<T> modelClass, String variant,
+		Embedded embedded) {
+
+		if (isEmbeddingRelatedModels(modelClass, embedded)) {
+			return Optional.empty();
+		}
+
+		Optional<Representor<T, Identifier>> optional =
+			_collectionResourceManager.getRepresentorOptional(modelClass);
+
+		return optional.flatMap(
+			Representor::getVersionFunctionOptional
+		).map(
+			versionFunction -> {
+				StringBuilder sb = new StringBuilder(variant);
+
+				for (T model : models) {
+					Optional<Path> pathOptional = getPathOptional(
+						new SingleModel<>(model, modelClass));
+
+					String uri = pathOptional.map(
+						Path::asURI
+					).orElse(
+						""
+					);
+
+					sb.append("\n");
+					sb.append(uri);
+					sb.append("\n");
+					sb.append(versionFunction.apply(model));
+				}
+
+				return ConditionalRequestUtil.getEntityTag(sb.toString());
+			}
+		);
+	}
+
+	/**
+	 * Returns {@code true} if the representation of the model class's models
+	 * embeds any of their related models. Embedded models are loaded with the
+	 * current user's permissions, so these representations can't be shared
+	 * between users.
+	 *
+	 * @param  modelClass the models' class
+	 * @param  embedded the information about the embedded resources
+	 * @return {@code true} if the representation embeds related models;
+	 *         {@code false} otherwise
+	 */
+	public <T> boolean isEmbeddingRelatedModels(
+		Class<T> modelClass, Embedded embedded) {
+
+		Optional<Representor<T, Identifier>> optional =
+			_collectionResourceManager.getRepresentorOptional(modelClass);
+
+		Predicate<String> embeddedPredicate = embedded.getEmbeddedPredicate();
+
+		return optional.map(
+			Representor::getEmbeddedRelatedModels
+		).map(
+			List::stream
+		).map(
+			stream -> stream.map(
+				RelatedModel::getKey
+			).anyMatch(
+				embeddedPredicate
+			)
+		).orElse(
+			false
+		);
+	}
+
 	/**
 	 * Writes binary resources. This method uses a {@code BiConsumer} so each
 	 * {@code javax.ws.rs.ext.MessageBodyWriter} can write each binary
@@ -203,23 +402,9 @@ public class WriterHelper {
 		SingleModel<T> singleModel, ServerURL serverURL,
 		BiConsumer<String, String> biConsumer) {
 
-		Class<T> modelClass = singleModel.getModelClass();
+		Optional<Path> optional = getPathOptional(singleModel);
 
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
-
-		optional.flatMap(
-			representor -> {
-				Identifier identifier = representor.getIdentifier(
-					singleModel.getModel());
-
-				Class<Identifier> identifierClass =
-					representor.getIdentifierClass();
-
-				return _pathIdentifierMapperManager.map(
-					identifier, identifierClass, modelClass);
-			}
-		).map(
+		optional.map(
 			Path::asURI
 		).map(
 			"/b/"::concat
@@ -246,46 +431,42 @@ public class WriterHelper {
 	}
 
 	/**
-	 * Writes the model's boolean fields. This method uses a {@code BiConsumer}
-	 * so each {@code javax.ws.rs.ext.MessageBodyWriter} can write each field
-	 * differently.
+	 * Writes the model's boolean, localized string, number, and string fields,
+	 * and its links, by using the representor plan of the model class. This
+	 * method uses a {@code BiConsumer} for each kind of field, so each {@code
+	 * javax.ws.rs.ext.MessageBodyWriter} can write each field differently.
 	 *
 	 * @param model the model
 	 * @param modelClass the model class
 	 * @param fields the requested fields
-	 * @param biConsumer the {@code BiConsumer} called to write each field
+	 * @param language the language requested by the user
+	 * @param booleanBiConsumer the {@code BiConsumer} called to write each
+	 *        boolean field
+	 * @param numberBiConsumer the {@code BiConsumer} called to write each
+	 *        number field
+	 * @param stringBiConsumer the {@code BiConsumer} called to write each
+	 *        string and localized string field
+	 * @param linkBiConsumer the {@code BiConsumer} called to write each link
 	 */
-	public <T> void writeBooleanFields(
-		T model, Class<T> modelClass, Fields fields,
-		BiConsumer<String, Boolean> biConsumer) {
-
-		Predicate<String> fieldsPredicate = _getFieldsPredicate(
-			modelClass, fields);
-
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
+	public <T> void writeFields(
+		T model, Class<T> modelClass, Fields fields, Language language,
+		BiConsumer<String, Boolean> booleanBiConsumer,
+		BiConsumer<String, Number> numberBiConsumer,
+		BiConsumer<String, String> stringBiConsumer,
+		BiConsumer<String, String> linkBiConsumer) {
 
-		optional.map(
-			Representor::getBooleanFunctions
-		).map(
-			Map::entrySet
-		).map(
-			Set::stream
-		).ifPresent(
-			stream -> stream.filter(
-				entry -> fieldsPredicate.test(entry.getKey())
-			).forEach(
-				entry -> {
-					Function<T, Boolean> fieldFunction = entry.getValue();
+		Optional<RepresentorPlan<T>> optional =
+			_collectionResourceManager.getRepresentorPlanOptional(modelClass);
 
-					Boolean data = fieldFunction.apply(model);
+		optional.ifPresent(
+			representorPlan -> {
+				Predicate<String> fieldsPredicate = fields.getFieldsPredicate(
+					representorPlan.getTypes());
 
-					if (data != null) {
-						biConsumer.accept(entry.getKey(), data);
-					}
-				}
-			)
-		);
+				representorPlan.writeFields(
+					model, language, fieldsPredicate, booleanBiConsumer,
+					numberBiConsumer, stringBiConsumer, linkBiConsumer);
+			});
 	}
 
 	/**
@@ -318,134 +499,6 @@ public class WriterHelper {
 				url, embeddedPathElements));
 	}
 
-	/**
-	 * Writes the model's links. This method uses a {@code BiConsumer} so each
-	 * {@code javax.ws.rs.ext.MessageBodyWriter} can write each link
-	 * differently.
-	 *
-	 * @param modelClass the model class
-	 * @param fields the requested fields
-	 * @param biConsumer the {@code BiConsumer} called to write each link
-	 */
-	public <T> void writeLinks(
-		Class<T> modelClass, Fields fields,
-		BiConsumer<String, String> biConsumer) {
-
-		Predicate<String> fieldsPredicate = _getFieldsPredicate(
-			modelClass, fields);
-
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
-
-		optional.map(
-			Representor::getLinks
-		).map(
-			Map::entrySet
-		).map(
-			Set::stream
-		).ifPresent(
-			stream -> stream.filter(
-				entry -> fieldsPredicate.test(entry.getKey())
-			).forEach(
-				entry -> {
-					String link = entry.getValue();
-
-					if (link != null) {
-						biConsumer.accept(entry.getKey(), link);
-					}
-				}
-			)
-		);
-	}
-
-	/**
-	 * Writes a model's localized string fields. This method uses a {@code
-	 * BiConsumer} so each {@code javax.ws.rs.ext.MessageBodyWriter} can write
-	 * each field differently.
-	 *
-	 * @param model the model
-	 * @param modelClass the model class
-	 * @param fields the requested fields
-	 * @param language the language requested by the user
-	 * @param biConsumer the {@code BiConsumer} called to write each field
-	 */
-	public <T> void writeLocalizedStringFields(
-		T model, Class<T> modelClass, Fields fields, Language language,
-		BiConsumer<String, String> biConsumer) {
-
-		Predicate<String> fieldsPredicate = _getFieldsPredicate(
-			modelClass, fields);
-
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
-
-		optional.map(
-			Representor::getLocalizedStringFunctions
-		).map(
-			Map::entrySet
-		).map(
-			Set::stream
-		).ifPresent(
-			stream -> stream.filter(
-				entry -> fieldsPredicate.test(entry.getKey())
-			).forEach(
-				entry -> {
-					BiFunction<T, Language, String> fieldFunction =
-						entry.getValue();
-
-					String data = fieldFunction.apply(model, language);
-
-					if ((data != null) && !data.isEmpty()) {
-						biConsumer.accept(entry.getKey(), data);
-					}
-				}
-			)
-		);
-	}
-
-	/**
-	 * Writes a model's number fields. This method uses a {@code BiConsumer} so
-	 * each {@code javax.ws.rs.ext.MessageBodyWriter} can write each field
-	 * differently.
-	 *
-	 * @param model the model
-	 * @param modelClass the model class
-	 * @param fields the requested fields
-	 * @param biConsumer the {@code BiConsumer} called to write each field
-	 */
-	public <T> void writeNumberFields(
-		T model, Class<T> modelClass, Fields fields,
-		BiConsumer<String, Number> biConsumer) {
-
-		Predicate<String> fieldsPredicate = _getFieldsPredicate(
-			modelClass, fields);
-
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
-
-		optional.map(
-			Representor::getNumberFunctions
-		).map(
-			Map::entrySet
-		).map(
-			Set::stream
-		).ifPresent(
-			stream -> stream.filter(
-				entry -> fieldsPredicate.test(entry.getKey())
-			).forEach(
-				entry -> {
-					Function<T, Number> fieldFunction = entry.getValue();
-
-					Number data = fieldFunction.apply(model);
-
-					if (data != null) {
-						biConsumer.accept(entry.getKey(), data);
-					}
-				}
-			)
-		);
-	}
-
 	/**
 	 * Writes the related collection's URL, using a {@code BiConsumer}.
 	 *
@@ -543,14 +596,8 @@ public class WriterHelper {
 		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
 			parentEmbeddedPathElements, key);
 
-		Stream<String> stream = Stream.concat(
-			Stream.of(embeddedPathElements.head()),
-			embeddedPathElements.tailStream());
-
-		String embeddedPath = String.join(
-			".", stream.collect(Collectors.toList()));
-
-		boolean isEmbedded = embeddedPredicate.test(embeddedPath);
+		boolean isEmbedded = embeddedPredicate.test(
+			embeddedPathElements.path());
 
 		Optional<String> optional = getSingleURLOptional(
 			singleModel, serverURL);
@@ -565,49 +612,6 @@ public class WriterHelper {
 			});
 	}
 
-	/**
-	 * Writes the model's string fields. This method uses a consumer so each
-	 * {@link javax.ws.rs.ext.MessageBodyWriter} can write each field
-	 * differently.
-	 *
-	 * @param model the model
-	 * @param modelClass the model's class
-	 * @param fields the requested fields
-	 * @param biConsumer the consumer that writes each field
-	 */
-	public <T> void writeStringFields(
-		T model, Class<T> modelClass, Fields fields,
-		BiConsumer<String, String> biConsumer) {
-
-		Predicate<String> fieldsPredicate = _getFieldsPredicate(
-			modelClass, fields);
-
-		Optional<Representor<T, Identifier>> optional =
-			_collectionResourceManager.getRepresentorOptional(modelClass);
-
-		optional.map(
-			Representor::getStringFunctions
-		).map(
-			Map::entrySet
-		).map(
-			Set::stream
-		).ifPresent(
-			stream -> stream.filter(
-				entry -> fieldsPredicate.test(entry.getKey())
-			).forEach(
-				entry -> {
-					Function<T, String> fieldFunction = entry.getValue();
-
-					String data = fieldFunction.apply(model);
-
-					if ((data != null) && !data.isEmpty()) {
-						biConsumer.accept(entry.getKey(), data);
-					}
-				}
-			)
-		);
-	}
-
 	/**
 	 * Writes the model's types. This method uses a consumer so each {@link
 	 * javax.ws.rs.ext.MessageBodyWriter} can write the types differently.
@@ -628,6 +632,47 @@ public class WriterHelper {
 		);
 	}
 
+	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
+	protected void setErrorMessageMapper(
+		ErrorMessageMapper errorMessageMapper) {
+
+		_errors.remove(errorMessageMapper);
+	}
+
+	@SuppressWarnings("unused")
+	protected void unsetErrorMessageMapper(
+		ErrorMessageMapper errorMessageMapper) {
+
+		_errors.remove(errorMessageMapper);
+	}
+
+	private Map<List<Object>, String> _createErrors() {
+		return Collections.synchronizedMap(
+			new LinkedHashMap<List<Object>, String>(16, 0.75F, true) {
+
+				@Override
+				protected boolean removeEldestEntry(
+					Map.Entry<List<Object>, String> entry) {
+
+					if (size() > _MAX_ERRORS) {
+						return true;
+					}
+
+					return false;
+				}
+
+			});
+	}
+
+	private <T, U> RelatedModel<T, ?> _getBatchedRelatedModel(
+		RelatedModel<T, U> relatedModel, Collection<T> models,
+		RequestContext requestContext) {
+
+		return new RelatedModel<>(
+			relatedModel.getKey(), relatedModel.getModelClass(),
+			relatedModel.getModelFunction(models, requestContext));
+	}
+
 	private <T> Predicate<String> _getFieldsPredicate(
 		Class<T> modelClass, Fields fields) {
 
@@ -660,12 +705,42 @@ public class WriterHelper {
 		};
 	}
 
+	private String _writeError(
+		ErrorMessageMapper errorMessageMapper, APIError apiError,
+		HttpHeaders httpHeaders) {
+
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		errorMessageMapper.onStart(jsonObjectBuilder, apiError, httpHeaders);
+
+		Optional<String> optional = apiError.getDescription();
+
+		optional.ifPresent(
+			description -> errorMessageMapper.mapDescription(
+				jsonObjectBuilder, description));
+
+		errorMessageMapper.mapStatusCode(
+			jsonObjectBuilder, apiError.getStatusCode());
+		errorMessageMapper.mapTitle(jsonObjectBuilder, apiError.getTitle());
+		errorMessageMapper.mapType(jsonObjectBuilder, apiError.getType());
+		errorMessageMapper.onFinish(jsonObjectBuilder, apiError, httpHeaders);
+
+		JsonObject jsonObject = jsonObjectBuilder.build();
+
+		return jsonObject.toString();
+	}
+
+	private static final int _MAX_ERRORS = 256;
+
 	@Reference
 	private CollectionResourceManager _collectionResourceManager;
 
 	@Reference(cardinality = OPTIONAL, policyOption = GREEDY)
 	private CollectionResourceURITransformer _collectionResourceURITransformer;
 
+	private final Map<ErrorMessageMapper, Map<List<Object>, String>> _errors =
+		new ConcurrentHashMap<>();
+
 	@Reference
 	private PathIdentifierMapperManager _pathIdentifierMapperManager;
 
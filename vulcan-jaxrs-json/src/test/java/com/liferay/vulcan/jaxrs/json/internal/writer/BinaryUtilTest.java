@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.file.Files;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BinaryUtilTest {
+
+	@Before
+	public void setUp() throws IOException {
+		_file = File.createTempFile("binary", ".bin");
+
+		Files.write(_file.toPath(), _BYTES);
+	}
+
+	@After
+	public void tearDown() {
+		_file.delete();
+	}
+
+	@Test
+	public void testGetLengthOptionalOfAFileStream() throws IOException {
+		try (FileInputStream fileInputStream = new FileInputStream(_file)) {
+			Assert.assertEquals(
+				Optional.of((long)_BYTES.length),
+				BinaryUtil.getLengthOptional(fileInputStream));
+		}
+	}
+
+	@Test
+	public void testGetLengthOptionalOfAnUnknownStream() {
+		InputStream inputStream = new InputStream() {
+
+			@Override
+			public int read() {
+				return -1;
+			}
+
+		};
+
+		Assert.assertEquals(
+			Optional.empty(), BinaryUtil.getLengthOptional(inputStream));
+	}
+
+	@Test
+	public void testWriteCompleteBinary() throws IOException {
+		Assert.assertArrayEquals(_BYTES, _writeFromMemory(0, -1));
+		Assert.assertArrayEquals(_BYTES, _writeFromFile(0, -1));
+	}
+
+	@Test
+	public void testWriteLengthBeyondTheEnd() throws IOException {
+		byte[] expected = Arrays.copyOfRange(_BYTES, 990, _BYTES.length);
+
+		Assert.assertArrayEquals(expected, _writeFromMemory(990, 100));
+		Assert.assertArrayEquals(expected, _writeFromFile(990, 100));
+	}
+
+	@Test
+	public void testWriteRange() throws IOException {
+		byte[] expected = Arrays.copyOfRange(_BYTES, 100, 200);
+
+		Assert.assertArrayEquals(expected, _writeFromMemory(100, 100));
+		Assert.assertArrayEquals(expected, _writeFromFile(100, 100));
+	}
+
+	@Test
+	public void testWriteStartBeyondTheEnd() throws IOException {
+		Assert.assertEquals(0, _writeFromMemory(2000, 10).length);
+		Assert.assertEquals(0, _writeFromFile(2000, 10).length);
+	}
+
+	@Test
+	public void testWriteStartsAtTheCurrentFilePosition() throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try (FileInputStream fileInputStream = new FileInputStream(_file)) {
+			fileInputStream.skip(10);
+
+			BinaryUtil.write(fileInputStream, byteArrayOutputStream, 5, 5);
+		}
+
+		Assert.assertArrayEquals(
+			Arrays.copyOfRange(_BYTES, 15, 20),
+			byteArrayOutputStream.toByteArray());
+	}
+
+	@Test
+	public void testWriteZeroLengthBinary() throws IOException {
+		Files.write(_file.toPath(), new byte[0]);
+
+		Assert.assertEquals(0, _writeFromFile(0, -1).length);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		BinaryUtil.write(
+			new ByteArrayInputStream(new byte[0]), byteArrayOutputStream, 0,
+			-1);
+
+		Assert.assertEquals(0, byteArrayOutputStream.size());
+	}
+
+	private static byte[] _createBytes() {
+		byte[] bytes = new byte[1000];
+
+		for (int i = 0; i < bytes.length; i++) {
+			bytes[i] = (byte)i;
+		}
+
+		return bytes;
+	}
+
+	private byte[] _writeFromFile(long start, long length)
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try (FileInputStream fileInputStream = new FileInputStream(_file)) {
+			BinaryUtil.write(
+				fileInputStream, byteArrayOutputStream, start, length);
+		}
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private byte[] _writeFromMemory(long start, long length)
+		throws IOException {
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		BinaryUtil.write(
+			new ByteArrayInputStream(_BYTES), byteArrayOutputStream, start,
+			length);
+
+		return byteArrayOutputStream.toByteArray();
+	}
+
+	private static final byte[] _BYTES = _createBytes();
+
+	private File _file;
+
+}
\ No newline at end of file
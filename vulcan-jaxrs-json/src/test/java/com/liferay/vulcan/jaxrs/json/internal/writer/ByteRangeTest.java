@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import java.util.Optional;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ByteRangeTest {
+
+	@Test
+	public void testParseClosedRange() {
+		ByteRange byteRange = _parse("bytes=10-19", 100);
+
+		Assert.assertTrue(byteRange.isSatisfiable());
+		Assert.assertEquals(10, byteRange.getStart());
+		Assert.assertEquals(19, byteRange.getEnd());
+		Assert.assertEquals(10, byteRange.getLength());
+		Assert.assertEquals("bytes 10-19/100", byteRange.toString());
+	}
+
+	@Test
+	public void testParseIgnoresInvalidRanges() {
+		Assert.assertFalse(_isPresent("items=0-10", 100));
+		Assert.assertFalse(_isPresent("bytes=10", 100));
+		Assert.assertFalse(_isPresent("bytes=a-b", 100));
+		Assert.assertFalse(_isPresent("bytes=20-10", 100));
+	}
+
+	@Test
+	public void testParseIgnoresMultipleRanges() {
+		Assert.assertFalse(_isPresent("bytes=0-9,20-29", 100));
+		Assert.assertFalse(_isPresent("bytes=0-9, -10", 100));
+	}
+
+	@Test
+	public void testParseLimitsTheEndToTheLastByte() {
+		ByteRange byteRange = _parse("bytes=90-200", 100);
+
+		Assert.assertEquals(90, byteRange.getStart());
+		Assert.assertEquals(99, byteRange.getEnd());
+		Assert.assertEquals("bytes 90-99/100", byteRange.toString());
+	}
+
+	@Test
+	public void testParseOpenEndedRange() {
+		ByteRange byteRange = _parse("bytes=40-", 100);
+
+		Assert.assertEquals(40, byteRange.getStart());
+		Assert.assertEquals(99, byteRange.getEnd());
+		Assert.assertEquals(60, byteRange.getLength());
+	}
+
+	@Test
+	public void testParseOutOfRangeStartIsUnsatisfiable() {
+		ByteRange byteRange = _parse("bytes=100-", 100);
+
+		Assert.assertFalse(byteRange.isSatisfiable());
+		Assert.assertEquals("bytes */100", byteRange.toString());
+
+		byteRange = _parse("bytes=150-200", 100);
+
+		Assert.assertFalse(byteRange.isSatisfiable());
+	}
+
+	@Test
+	public void testParseSuffixRange() {
+		ByteRange byteRange = _parse("bytes=-10", 100);
+
+		Assert.assertEquals(90, byteRange.getStart());
+		Assert.assertEquals(99, byteRange.getEnd());
+		Assert.assertEquals("bytes 90-99/100", byteRange.toString());
+	}
+
+	@Test
+	public void testParseSuffixRangeLongerThanTheBinary() {
+		ByteRange byteRange = _parse("bytes=-500", 100);
+
+		Assert.assertEquals(0, byteRange.getStart());
+		Assert.assertEquals(99, byteRange.getEnd());
+	}
+
+	@Test
+	public void testParseZeroLengthBinaryIsUnsatisfiable() {
+		ByteRange byteRange = _parse("bytes=0-", 0);
+
+		Assert.assertFalse(byteRange.isSatisfiable());
+		Assert.assertEquals("bytes */0", byteRange.toString());
+
+		byteRange = _parse("bytes=-10", 0);
+
+		Assert.assertFalse(byteRange.isSatisfiable());
+		Assert.assertEquals("bytes */0", byteRange.toString());
+	}
+
+	@Test
+	public void testParseZeroSuffixIsUnsatisfiable() {
+		ByteRange byteRange = _parse("bytes=-0", 100);
+
+		Assert.assertFalse(byteRange.isSatisfiable());
+		Assert.assertEquals("bytes */100", byteRange.toString());
+	}
+
+	private boolean _isPresent(String range, long completeLength) {
+		Optional<ByteRange> optional = ByteRange.parse(range, completeLength);
+
+		return optional.isPresent();
+	}
+
+	private ByteRange _parse(String range, long completeLength) {
+		Optional<ByteRange> optional = ByteRange.parse(range, completeLength);
+
+		Assert.assertTrue(optional.isPresent());
+
+		return optional.get();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import com.liferay.vulcan.context.ThreadContextPropagator;
+
+import java.lang.reflect.Field;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageItemsExecutorTest {
+
+	@Before
+	public void setUp() {
+		_pageItemsExecutor.activate();
+	}
+
+	@After
+	public void tearDown() {
+		_pageItemsExecutor.deactivate();
+
+		_context.remove();
+	}
+
+	@Test
+	public void testMapAppliesTheFunctionWithTheCallerContext()
+		throws Exception {
+
+		_setThreadContextPropagator(
+			new ThreadContextPropagator() {
+
+				@Override
+				public <T, R> Function<T, R> propagate(
+					Function<T, R> function) {
+
+					String context = _context.get();
+
+					return t -> {
+						_context.set(context);
+
+						try {
+							return function.apply(t);
+						}
+						finally {
+							_context.remove();
+						}
+					};
+				}
+
+			});
+
+		_context.set("request");
+
+		Stream<String> stream = _pageItemsExecutor.map(
+			_getItems(20), item -> _context.get(), 4);
+
+		List<String> contexts = stream.collect(Collectors.toList());
+
+		Assert.assertEquals(Collections.nCopies(20, "request"), contexts);
+	}
+
+	@Test
+	public void testMapKeepsTheOrderOfTheItems() {
+		List<Integer> items = _getItems(50);
+
+		Stream<Integer> stream = _pageItemsExecutor.map(
+			items,
+			item -> {
+				_sleep(50 - item);
+
+				return item;
+			},
+			8);
+
+		Assert.assertEquals(items, stream.collect(Collectors.toList()));
+	}
+
+	@Test
+	public void testMapProcessesAtMostParallelismItemsAtOnce() {
+		AtomicInteger running = new AtomicInteger();
+		List<Integer> maximums = Collections.synchronizedList(
+			new ArrayList<>());
+
+		Stream<Integer> stream = _pageItemsExecutor.map(
+			_getItems(30),
+			item -> {
+				maximums.add(running.incrementAndGet());
+
+				_sleep(5);
+
+				running.decrementAndGet();
+
+				return item;
+			},
+			3);
+
+		Assert.assertEquals(30, stream.count());
+		Assert.assertTrue(Collections.max(maximums) <= 3);
+	}
+
+	@Test
+	public void testMapUsesSeveralThreads() {
+		ConcurrentHashMap<String, Boolean> threadNames =
+			new ConcurrentHashMap<>();
+
+		Stream<Integer> stream = _pageItemsExecutor.map(
+			_getItems(20),
+			item -> {
+				Thread thread = Thread.currentThread();
+
+				threadNames.put(thread.getName(), true);
+
+				_sleep(10);
+
+				return item;
+			},
+			4);
+
+		Assert.assertEquals(20, stream.count());
+
+		Thread currentThread = Thread.currentThread();
+
+		Assert.assertTrue(threadNames.size() > 1);
+		Assert.assertFalse(threadNames.containsKey(currentThread.getName()));
+	}
+
+	private List<Integer> _getItems(int size) {
+		IntStream intStream = IntStream.range(0, size);
+
+		return intStream.boxed(
+		).collect(
+			Collectors.toList()
+		);
+	}
+
+	private void _setThreadContextPropagator(
+			ThreadContextPropagator threadContextPropagator)
+		throws Exception {
+
+		Field field = PageItemsExecutor.class.getDeclaredField(
+			"_threadContextPropagator");
+
+		field.setAccessible(true);
+
+		field.set(_pageItemsExecutor, threadContextPropagator);
+	}
+
+	private void _sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		}
+		catch (InterruptedException ie) {
+			throw new RuntimeException(ie);
+		}
+	}
+
+	private static final ThreadLocal<String> _context = new ThreadLocal<>();
+
+	private final PageItemsExecutor _pageItemsExecutor =
+		new PageItemsExecutor();
+
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.jaxrs.json.internal.writer;
+
+import com.liferay.vulcan.message.json.ErrorMessageMapper;
+import com.liferay.vulcan.message.json.JSONObjectBuilder;
+import com.liferay.vulcan.result.APIError;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.HttpHeaders;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class WriterHelperTest {
+
+	@Test
+	public void testWriteErrorDiscardsReusedErrorsWhenTheMapperIsRemoved() {
+		_writerHelper.writeError(
+			_errorMessageMapper, _createAPIError(null), null);
+
+		_writerHelper.unsetErrorMessageMapper(_errorMessageMapper);
+
+		_writerHelper.writeError(
+			_errorMessageMapper, _createAPIError(null), null);
+
+		Assert.assertEquals(2, _writes.get());
+	}
+
+	@Test
+	public void testWriteErrorDoesNotReuseErrorsWithDescription() {
+		String error = _writerHelper.writeError(
+			_errorMessageMapper, _createAPIError("first"), null);
+
+		String otherError = _writerHelper.writeError(
+			_errorMessageMapper, _createAPIError("second"), null);
+
+		Assert.assertEquals(2, _writes.get());
+		Assert.assertNotEquals(error, otherError);
+	}
+
+	@Test
+	public void testWriteErrorEvictsTheLeastRecentlyUsedErrors() {
+		for (int i = 0; i < 256; i++) {
+			_writerHelper.writeError(
+				_errorMessageMapper, _createAPIError(null, "Title " + i),
+				null);
+		}
+
+		_writerHelper.writeError(
+			_errorMessageMapper, _createAPIError(null, "Title 0"), null);
+		_writerHelper.writeError(
+			_errorMessageMapper, _createAPIError(null, "Title 256"), null);
+
+		Assert.assertEquals(257, _writes.get());
+
+		_writerHelper.writeError(
+			_errorMessageMapper, _createAPIError(null, "Title 0"), null);
+
+		Assert.assertEquals(257, _writes.get());
+
+		_writerHelper.writeError(
+			_errorMessageMapper, _createAPIError(null, "Title 1"), null);
+
+		Assert.assertEquals(258, _writes.get());
+	}
+
+	@Test
+	public void testWriteErrorKeepsReusedErrorsWhenOtherMapperIsRemoved() {
+		_writerHelper.writeError(
+			_errorMessageMapper, _createAPIError(null), null);
+
+		_writerHelper.unsetErrorMessageMapper(() -> "application/json");
+
+		_writerHelper.writeError(
+			_errorMessageMapper, _createAPIError(null), null);
+
+		Assert.assertEquals(1, _writes.get());
+	}
+
+	@Test
+	public void testWriteErrorReusesErrorsWithoutDescription() {
+		String error = _writerHelper.writeError(
+			_errorMessageMapper, _createAPIError(null), null);
+
+		String otherError = _writerHelper.writeError(
+			_errorMessageMapper, _createAPIError(null), null);
+
+		Assert.assertEquals(1, _writes.get());
+		Assert.assertEquals(error, otherError);
+	}
+
+	private static APIError _createAPIError(String description) {
+		return _createAPIError(description, "Not Found");
+	}
+
+	private static APIError _createAPIError(String description, String title) {
+		return new APIError() {
+
+			@Override
+			public Optional<String> getDescription() {
+				return Optional.ofNullable(description);
+			}
+
+			@Override
+			public Exception getException() {
+				return new Exception();
+			}
+
+			@Override
+			public int getStatusCode() {
+				return 404;
+			}
+
+			@Override
+			public String getTitle() {
+				return title;
+			}
+
+			@Override
+			public String getType() {
+				return "not-found";
+			}
+
+		};
+	}
+
+	private final ErrorMessageMapper _errorMessageMapper =
+		new ErrorMessageMapper() {
+
+			@Override
+			public String getMediaType() {
+				return "application/vnd.writer-helper-test+json";
+			}
+
+			@Override
+			public boolean isCacheable() {
+				return true;
+			}
+
+			@Override
+			public void mapDescription(
+				JSONObjectBuilder jsonObjectBuilder, String description) {
+
+				jsonObjectBuilder.field(
+					"description"
+				).stringValue(
+					description
+				);
+			}
+
+			@Override
+			public void onStart(
+				JSONObjectBuilder jsonObjectBuilder, APIError apiError,
+				HttpHeaders httpHeaders) {
+
+				_writes.incrementAndGet();
+			}
+
+		};
+	private final WriterHelper _writerHelper = new WriterHelper();
+	private final AtomicInteger _writes = new AtomicInteger();
+
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.liferay.portal.internal.context;
+
+import com.liferay.portal.kernel.security.auth.CompanyThreadLocal;
+import com.liferay.portal.kernel.security.auth.PrincipalThreadLocal;
+import com.liferay.portal.kernel.security.permission.PermissionChecker;
+import com.liferay.portal.kernel.security.permission.PermissionThreadLocal;
+import com.liferay.portal.kernel.service.ServiceContext;
+import com.liferay.portal.kernel.service.ServiceContextThreadLocal;
+import com.liferay.portal.kernel.util.LocaleThreadLocal;
+import com.liferay.vulcan.context.ThreadContextPropagator;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Propagates the company, principal, permission checker, locales and service
+ * context of the request thread to the threads that write parts of the
+ * response.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true)
+public class ThreadContextPropagatorImpl implements ThreadContextPropagator {
+
+	@Override
+	public <T, R> Function<T, R> propagate(Function<T, R> function) {
+		long companyId = CompanyThreadLocal.getCompanyId();
+		String name = PrincipalThreadLocal.getName();
+		PermissionChecker permissionChecker =
+			PermissionThreadLocal.getPermissionChecker();
+		Locale defaultLocale = LocaleThreadLocal.getDefaultLocale();
+		Locale themeDisplayLocale = LocaleThreadLocal.getThemeDisplayLocale();
+		ServiceContext serviceContext =
+			ServiceContextThreadLocal.getServiceContext();
+
+		return t -> {
+			long previousCompanyId = CompanyThreadLocal.getCompanyId();
+			String previousName = PrincipalThreadLocal.getName();
+			PermissionChecker previousPermissionChecker =
+				PermissionThreadLocal.getPermissionChecker();
+			Locale previousDefaultLocale = LocaleThreadLocal.getDefaultLocale();
+			Locale previousThemeDisplayLocale =
+				LocaleThreadLocal.getThemeDisplayLocale();
+
+			CompanyThreadLocal.setCompanyId(companyId);
+			PrincipalThreadLocal.setName(name);
+			PermissionThreadLocal.setPermissionChecker(permissionChecker);
+			LocaleThreadLocal.setDefaultLocale(defaultLocale);
+			LocaleThreadLocal.setThemeDisplayLocale(themeDisplayLocale);
+
+			if (serviceContext != null) {
+				ServiceContextThreadLocal.pushServiceContext(serviceContext);
+			}
+
+			try {
+				return function.apply(t);
+			}
+			finally {
+				if (serviceContext != null) {
+					ServiceContextThreadLocal.popServiceContext();
+				}
+
+				CompanyThreadLocal.setCompanyId(previousCompanyId);
+				PrincipalThreadLocal.setName(previousName);
+				PermissionThreadLocal.setPermissionChecker(
+					previousPermissionChecker);
+				LocaleThreadLocal.setDefaultLocale(previousDefaultLocale);
+				LocaleThreadLocal.setThemeDisplayLocale(
+					previousThemeDisplayLocale);
+			}
+		};
+	}
+
+}
\ No newline at end of file
@@ -17,10 +17,12 @@ package com.liferay.vulcan.message.hal.internal;
 import com.liferay.vulcan.list.FunctionalList;
 import com.liferay.vulcan.message.json.JSONObjectBuilder;
 import com.liferay.vulcan.message.json.PageMessageMapper;
+import com.liferay.vulcan.pagination.Page;
 import com.liferay.vulcan.resource.Representor;
 import com.liferay.vulcan.resource.identifier.Identifier;
 import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +42,19 @@ import org.osgi.service.component.annotations.Reference;
 @Component(immediate = true)
 public class HALPageMessageMapper<T> implements PageMessageMapper<T> {
 
+	@Override
+	public Optional<List<String>> getItemsPath(Page<T> page) {
+		Optional<Representor<T, Identifier>> optional =
+			_collectionResourceManager.getRepresentorOptional(
+				page.getModelClass());
+
+		return optional.map(
+			this::_getRelation
+		).map(
+			relation -> Arrays.asList("_embedded", relation)
+		);
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/hal+json";
@@ -269,10 +284,10 @@ public class HALPageMessageMapper<T> implements PageMessageMapper<T> {
 			_collectionResourceManager.getRepresentorOptional(modelClass);
 
 		optional.map(
-			Representor::getTypes
+			this::_getRelation
 		).ifPresent(
-			types -> pageJSONObjectBuilder.nestedField(
-				"_embedded", types.get(0)
+			relation -> pageJSONObjectBuilder.nestedField(
+				"_embedded", relation
 			).arrayValue(
 			).add(
 				itemJSONObjectBuilder
@@ -280,6 +295,16 @@ public class HALPageMessageMapper<T> implements PageMessageMapper<T> {
 		);
 	}
 
+	private String _getRelation(Representor<T, Identifier> representor) {
+		List<String> types = representor.getTypes();
+
+		if (types.isEmpty()) {
+			return "items";
+		}
+
+		return types.get(0);
+	}
+
 	@Reference
 	private CollectionResourceManager _collectionResourceManager;
 
@@ -18,11 +18,9 @@ import com.liferay.vulcan.list.FunctionalList;
 import com.liferay.vulcan.message.json.JSONObjectBuilder;
 import com.liferay.vulcan.message.json.SingleModelMessageMapper;
 
-import java.util.List;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.osgi.service.component.annotations.Component;
 
@@ -79,9 +77,7 @@ public class HALSingleModelMessageMapper<T>
 
 		String head = embeddedPathElements.head();
 
-		Stream<String> middleStream = embeddedPathElements.middleStream();
-
-		String[] middle = middleStream.toArray(String[]::new);
+		String[] middle = embeddedPathElements.middleArray(String[]::new);
 
 		jsonObjectBuilder.field(
 			"_embedded"
@@ -159,15 +155,14 @@ public class HALSingleModelMessageMapper<T>
 			);
 		}
 		else {
-			Stream<String> middleStream = embeddedPathElements.middleStream();
-
-			List<String> middleList = middleStream.collect(Collectors.toList());
+			String[] middleArray = embeddedPathElements.middleArray(
+				String[]::new);
 
-			if (!middleList.isEmpty()) {
-				String prelast = middleList.remove(middleList.size() - 1);
+			if (middleArray.length > 0) {
+				String prelast = middleArray[middleArray.length - 1];
 
-				String[] middle = middleList.toArray(
-					new String[middleList.size()]);
+				String[] middle = Arrays.copyOf(
+					middleArray, middleArray.length - 1);
 
 				jsonObjectBuilder.field(
 					"_embedded"
@@ -227,9 +222,7 @@ public class HALSingleModelMessageMapper<T>
 
 		String head = embeddedPathElements.head();
 
-		Stream<String> middleStream = embeddedPathElements.middleStream();
-
-		String[] middle = middleStream.toArray(String[]::new);
+		String[] middle = embeddedPathElements.middleArray(String[]::new);
 
 		JSONObjectBuilder.FieldStep builderStep = jsonObjectBuilder.field(
 			"_embedded"
@@ -17,15 +17,70 @@ package com.liferay.vulcan.message.hal.internal;
 import com.google.gson.JsonObject;
 
 import com.liferay.vulcan.message.json.JSONObjectBuilder;
+import com.liferay.vulcan.pagination.Page;
+import com.liferay.vulcan.resource.Representor;
+import com.liferay.vulcan.resource.identifier.Identifier;
+import com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager;
+
+import java.lang.reflect.Field;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import org.mockito.Mockito;
+
 /**
  * @author Javier Gamarra
  */
 public class HALPageMessageMapperTest {
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testGetItemsPathUsesTheFirstType() throws Exception {
+		HALPageMessageMapper<String> halPageMessageMapper =
+			_getHALPageMessageMapper(Arrays.asList("Person", "Thing"));
+
+		Page<String> page = Mockito.mock(Page.class);
+
+		Mockito.when(
+			page.getModelClass()
+		).thenReturn(
+			String.class
+		);
+
+		Optional<List<String>> optional = halPageMessageMapper.getItemsPath(
+			page);
+
+		Assert.assertEquals(
+			Optional.of(Arrays.asList("_embedded", "Person")), optional);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testGetItemsPathWithoutTypes() throws Exception {
+		HALPageMessageMapper<String> halPageMessageMapper =
+			_getHALPageMessageMapper(Collections.emptyList());
+
+		Page<String> page = Mockito.mock(Page.class);
+
+		Mockito.when(
+			page.getModelClass()
+		).thenReturn(
+			String.class
+		);
+
+		Optional<List<String>> optional = halPageMessageMapper.getItemsPath(
+			page);
+
+		Assert.assertEquals(
+			Optional.of(Arrays.asList("_embedded", "items")), optional);
+	}
+
 	@Test
 	public void testMapCollectionURL() {
 		_halPageMessageMapper.mapCollectionURL(
@@ -83,6 +138,30 @@ public class HALPageMessageMapperTest {
 		Assert.assertEquals("{\"fieldName\":true}", jsonObject.toString());
 	}
 
+	@Test
+	public void testOnFinishItemWithoutTypes() throws Exception {
+		HALPageMessageMapper<String> halPageMessageMapper =
+			_getHALPageMessageMapper(Collections.emptyList());
+
+		JSONObjectBuilder itemJSONObjectBuilder = new JSONObjectBuilder();
+
+		itemJSONObjectBuilder.field(
+			"name"
+		).stringValue(
+			"Alice"
+		);
+
+		halPageMessageMapper.onFinishItem(
+			_jsonObjectBuilder, itemJSONObjectBuilder, "Alice", String.class,
+			null);
+
+		JsonObject jsonObject = _jsonObjectBuilder.build();
+
+		Assert.assertEquals(
+			"{\"_embedded\":{\"items\":[{\"name\":\"Alice\"}]}}",
+			jsonObject.toString());
+	}
+
 	@Test
 	public void testMapPageCount() {
 		_halPageMessageMapper.mapPageCount(_jsonObjectBuilder, 1);
@@ -92,6 +171,42 @@ public class HALPageMessageMapperTest {
 		Assert.assertEquals("{\"count\":1}", jsonObject.toString());
 	}
 
+	@SuppressWarnings("unchecked")
+	private HALPageMessageMapper<String> _getHALPageMessageMapper(
+			List<String> types)
+		throws Exception {
+
+		Representor<String, Identifier> representor = Mockito.mock(
+			Representor.class);
+
+		Mockito.when(
+			representor.getTypes()
+		).thenReturn(
+			types
+		);
+
+		CollectionResourceManager collectionResourceManager = Mockito.mock(
+			CollectionResourceManager.class);
+
+		Mockito.when(
+			collectionResourceManager.getRepresentorOptional(String.class)
+		).thenReturn(
+			Optional.of(representor)
+		);
+
+		HALPageMessageMapper<String> halPageMessageMapper =
+			new HALPageMessageMapper<>();
+
+		Field field = HALPageMessageMapper.class.getDeclaredField(
+			"_collectionResourceManager");
+
+		field.setAccessible(true);
+
+		field.set(halPageMessageMapper, collectionResourceManager);
+
+		return halPageMessageMapper;
+	}
+
 	private final HALPageMessageMapper _halPageMessageMapper =
 		new HALPageMessageMapper();
 	private final JSONObjectBuilder _jsonObjectBuilder =
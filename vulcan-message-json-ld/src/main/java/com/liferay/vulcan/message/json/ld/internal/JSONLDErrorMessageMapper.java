@@ -37,6 +37,11 @@ public class JSONLDErrorMessageMapper implements ErrorMessageMapper {
 		return "application/ld+json";
 	}
 
+	@Override
+	public boolean isCacheable() {
+		return true;
+	}
+
 	@Override
 	public void mapDescription(
 		JSONObjectBuilder jsonObjectBuilder, String description) {
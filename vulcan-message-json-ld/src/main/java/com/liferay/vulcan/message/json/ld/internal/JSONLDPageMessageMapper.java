@@ -19,8 +19,9 @@ import com.liferay.vulcan.message.json.JSONObjectBuilder;
 import com.liferay.vulcan.message.json.PageMessageMapper;
 import com.liferay.vulcan.pagination.Page;
 
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Optional;
 
 import javax.ws.rs.core.HttpHeaders;
 
@@ -42,6 +43,11 @@ import org.osgi.service.component.annotations.Reference;
 @Component(immediate = true)
 public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 
+	@Override
+	public Optional<List<String>> getItemsPath(Page<T> page) {
+		return Optional.of(Collections.singletonList("members"));
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/ld+json";
@@ -96,10 +102,9 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Boolean value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		itemJSONObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			fieldName
 		).booleanValue(
@@ -125,10 +130,9 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Number value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		itemJSONObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			fieldName
 		).numberValue(
@@ -143,10 +147,9 @@ public class JSONLDPageMessageMapper<T> implements PageMessageMapper<T> {
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		itemJSONObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			fieldName
 		).stringValue(
@@ -20,7 +20,6 @@ import com.liferay.vulcan.message.json.SingleModelMessageMapper;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import javax.ws.rs.core.HttpHeaders;
 
@@ -68,10 +67,9 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Boolean value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			fieldName
 		).booleanValue(
@@ -85,10 +83,9 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			fieldName
 		).stringValue(
@@ -102,10 +99,9 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Number value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			fieldName
 		).numberValue(
@@ -119,10 +115,9 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			fieldName
 		).stringValue(
@@ -135,10 +130,9 @@ public class JSONLDSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, List<String> types) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			"@type"
 		).arrayValue(
@@ -152,10 +146,9 @@ public class JSONLDSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			"@id"
 		).stringValue(
@@ -181,9 +174,7 @@ public class JSONLDSingleModelMessageMapper<T>
 
 		String head = embeddedPathElements.head();
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		String[] tail = tailStream.toArray(String[]::new);
+		String[] tail = embeddedPathElements.tailArray(String[]::new);
 
 		jsonObjectBuilder.nestedField(
 			head, tail
@@ -191,9 +182,7 @@ public class JSONLDSingleModelMessageMapper<T>
 			url
 		);
 
-		Stream<String> middleStream = embeddedPathElements.middleStream();
-
-		String[] middle = middleStream.toArray(String[]::new);
+		String[] middle = embeddedPathElements.middleArray(String[]::new);
 
 		Optional<String> optional = embeddedPathElements.lastOptional();
 
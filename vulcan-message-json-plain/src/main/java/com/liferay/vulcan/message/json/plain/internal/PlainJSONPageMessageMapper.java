@@ -17,6 +17,11 @@ package com.liferay.vulcan.message.json.plain.internal;
 import com.liferay.vulcan.list.FunctionalList;
 import com.liferay.vulcan.message.json.JSONObjectBuilder;
 import com.liferay.vulcan.message.json.PageMessageMapper;
+import com.liferay.vulcan.pagination.Page;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 import javax.ws.rs.core.HttpHeaders;
 
@@ -33,6 +38,11 @@ import org.osgi.service.component.annotations.Reference;
 @Component(immediate = true)
 public class PlainJSONPageMessageMapper<T> implements PageMessageMapper<T> {
 
+	@Override
+	public Optional<List<String>> getItemsPath(Page<T> page) {
+		return Optional.of(Collections.singletonList("elements"));
+	}
+
 	@Override
 	public String getMediaType() {
 		return "application/json";
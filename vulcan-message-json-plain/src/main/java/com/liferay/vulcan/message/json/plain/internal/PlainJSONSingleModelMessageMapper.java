@@ -18,8 +18,6 @@ import com.liferay.vulcan.list.FunctionalList;
 import com.liferay.vulcan.message.json.JSONObjectBuilder;
 import com.liferay.vulcan.message.json.SingleModelMessageMapper;
 
-import java.util.stream.Stream;
-
 import org.osgi.service.component.annotations.Component;
 
 /**
@@ -60,10 +58,9 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Boolean value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			fieldName
 		).booleanValue(
@@ -77,10 +74,9 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			fieldName
 		).stringValue(
@@ -94,10 +90,9 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Number value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			fieldName
 		).numberValue(
@@ -111,10 +106,9 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			fieldName
 		).stringValue(
@@ -127,10 +121,9 @@ public class PlainJSONSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).field(
 			"self"
 		).stringValue(
@@ -154,10 +147,9 @@ public class PlainJSONSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
 		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
+			embeddedPathElements.head(),
+			embeddedPathElements.tailArray(String[]::new)
 		).stringValue(
 			url
 		);
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.response.control.internal;
+
+import com.liferay.vulcan.pagination.CursorPagination;
+import com.liferay.vulcan.provider.Provider;
+import com.liferay.vulcan.result.Try;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Lets resources provide {@link CursorPagination} as a parameter in the methods
+ * of {@link com.liferay.vulcan.resource.builder.RoutesBuilder}.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true)
+public class CursorPaginationProvider implements Provider<CursorPagination> {
+
+	@Override
+	public CursorPagination createContext(
+		HttpServletRequest httpServletRequest) {
+
+		String cursor = httpServletRequest.getParameter("cursor");
+
+		if ((cursor != null) && cursor.isEmpty()) {
+			cursor = null;
+		}
+
+		int itemsPerPage = _getAsInt(
+			httpServletRequest.getParameter("per_page"),
+			_ITEMS_PER_PAGE_DEFAULT);
+
+		return new DefaultCursorPagination(cursor, itemsPerPage);
+	}
+
+	private int _getAsInt(String parameterValue, int defaultValue) {
+		Try<String> stringTry = Try.success(parameterValue);
+
+		return stringTry.map(
+			Integer::parseInt
+		).filter(
+			integer -> {
+				if (integer > 0) {
+					return true;
+				}
+
+				return false;
+			}
+		).orElse(
+			defaultValue
+		);
+	}
+
+	private static final int _ITEMS_PER_PAGE_DEFAULT = 30;
+
+	private static class DefaultCursorPagination implements CursorPagination {
+
+		public DefaultCursorPagination(String cursor, int itemsPerPage) {
+			_cursor = cursor;
+			_itemsPerPage = itemsPerPage;
+		}
+
+		@Override
+		public Optional<String> getCursorOptional() {
+			return Optional.ofNullable(_cursor);
+		}
+
+		@Override
+		public int getItemsPerPage() {
+			return _itemsPerPage;
+		}
+
+		private final String _cursor;
+		private final int _itemsPerPage;
+
+	}
+
+}
\ No newline at end of file
@@ -52,17 +52,132 @@ public class EmbeddedProvider implements Provider<Embedded> {
 
 		public EmbeddedImpl(List<String> embedded) {
 			_embedded = embedded;
+
+			EmbeddedNode rootEmbeddedNode = new EmbeddedNode();
+
+			for (String path : embedded) {
+				EmbeddedNode embeddedNode = rootEmbeddedNode;
+
+				for (String element : _elementsPattern.split(path, -1)) {
+					embeddedNode = embeddedNode.getOrAddChild(element);
+				}
+
+				embeddedNode.setEmbedded();
+			}
+
+			_rootEmbeddedNode = rootEmbeddedNode;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof EmbeddedImpl)) {
+				return false;
+			}
+
+			EmbeddedImpl embeddedImpl = (EmbeddedImpl)object;
+
+			return _embedded.equals(embeddedImpl._embedded);
 		}
 
 		@Override
 		public Predicate<String> getEmbeddedPredicate() {
-			return _embedded::contains;
+			return _embeddedPredicate;
+		}
+
+		@Override
+		public int hashCode() {
+			return _embedded.hashCode();
+		}
+
+		private boolean _isEmbedded(String path) {
+			EmbeddedNode embeddedNode = _rootEmbeddedNode;
+
+			int start = 0;
+
+			while (embeddedNode != null) {
+				int end = path.indexOf('.', start);
+
+				if (end == -1) {
+					end = path.length();
+				}
+
+				embeddedNode = embeddedNode.getChild(path, start, end);
+
+				if (end == path.length()) {
+					break;
+				}
+
+				start = end + 1;
+			}
+
+			if ((embeddedNode != null) && embeddedNode.isEmbedded()) {
+				return true;
+			}
+
+			return false;
 		}
 
 		private final List<String> _embedded;
+		private final Predicate<String> _embeddedPredicate = this::_isEmbedded;
+		private final EmbeddedNode _rootEmbeddedNode;
 
 	}
 
+	private static final Pattern _elementsPattern = Pattern.compile("\\.");
 	private static final Pattern _pattern = Pattern.compile("\\s*,\\s*");
 
+	private static class EmbeddedNode {
+
+		public EmbeddedNode getChild(String path, int start, int end) {
+			int length = end - start;
+
+			for (int i = 0; i < _elements.length; i++) {
+				String element = _elements[i];
+
+				if ((element.length() == length) &&
+					path.regionMatches(start, element, 0, length)) {
+
+					return _children[i];
+				}
+			}
+
+			return null;
+		}
+
+		public EmbeddedNode getOrAddChild(String element) {
+			for (int i = 0; i < _elements.length; i++) {
+				if (_elements[i].equals(element)) {
+					return _children[i];
+				}
+			}
+
+			EmbeddedNode embeddedNode = new EmbeddedNode();
+
+			_children = Arrays.copyOf(_children, _children.length + 1);
+			_elements = Arrays.copyOf(_elements, _elements.length + 1);
+
+			_children[_children.length - 1] = embeddedNode;
+			_elements[_elements.length - 1] = element;
+
+			return embeddedNode;
+		}
+
+		public boolean isEmbedded() {
+			return _embedded;
+		}
+
+		public void setEmbedded() {
+			_embedded = true;
+		}
+
+		private EmbeddedNode[] _children = new EmbeddedNode[0];
+		private String[] _elements = new String[0];
+		private boolean _embedded;
+
+	}
+
 }
\ No newline at end of file
@@ -18,10 +18,13 @@ import com.liferay.vulcan.provider.Provider;
 import com.liferay.vulcan.response.control.Fields;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -81,33 +84,71 @@ public class FieldsProvider implements Provider<Fields> {
 
 		public FieldsImpl(Map<String, List<String>> fieldsMap) {
 			_fieldsMap = fieldsMap;
+
+			Map<String, Set<String>> fieldSets = new HashMap<>();
+
+			fieldsMap.forEach(
+				(type, fields) -> fieldSets.put(
+					type, Collections.unmodifiableSet(new HashSet<>(fields))));
+
+			_fieldSets = fieldSets;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof FieldsImpl)) {
+				return false;
+			}
+
+			FieldsImpl fieldsImpl = (FieldsImpl)object;
+
+			return _fieldsMap.equals(fieldsImpl._fieldsMap);
 		}
 
 		@Override
 		public Predicate<String> getFieldsPredicate(List<String> types) {
-			return field -> {
-				Stream<String> stream = types.stream();
-
-				List<String> fields = stream.map(
-					_fieldsMap::get
-				).filter(
-					Objects::nonNull
-				).flatMap(
-					List::stream
-				).collect(
-					Collectors.toList()
-				);
-
-				if (fields.isEmpty() || fields.contains(field)) {
-					return true;
-				}
-				else {
-					return false;
+			if (_fieldSets.isEmpty()) {
+				return _ALL_FIELDS_PREDICATE;
+			}
+
+			return _fieldsPredicates.computeIfAbsent(
+				types, this::_getFieldsPredicate);
+		}
+
+		@Override
+		public int hashCode() {
+			return _fieldsMap.hashCode();
+		}
+
+		private Predicate<String> _getFieldsPredicate(List<String> types) {
+			Set<String> fields = new HashSet<>();
+
+			for (String type : types) {
+				Set<String> typeFields = _fieldSets.get(type);
+
+				if (typeFields != null) {
+					fields.addAll(typeFields);
 				}
-			};
+			}
+
+			if (fields.isEmpty()) {
+				return _ALL_FIELDS_PREDICATE;
+			}
+
+			return fields::contains;
 		}
 
+		private static final Predicate<String> _ALL_FIELDS_PREDICATE =
+			field -> true;
+
+		private final Map<String, Set<String>> _fieldSets;
 		private final Map<String, List<String>> _fieldsMap;
+		private final Map<List<String>, Predicate<String>> _fieldsPredicates =
+			new ConcurrentHashMap<>();
 
 	}
 
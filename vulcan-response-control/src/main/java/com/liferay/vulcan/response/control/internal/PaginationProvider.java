@@ -42,7 +42,11 @@ public class PaginationProvider implements Provider<Pagination> {
 		int pageNumber = _getAsInt(
 			httpServletRequest.getParameter("page"), _PAGE_NUMBER_DEFAULT);
 
-		return new DefaultPagination(itemsPerPage, pageNumber);
+		boolean totalCountRequested = Boolean.parseBoolean(
+			httpServletRequest.getParameter("total_count"));
+
+		return new DefaultPagination(
+			itemsPerPage, pageNumber, totalCountRequested);
 	}
 
 	private int _getAsInt(String parameterValue, int defaultValue) {
@@ -69,9 +73,12 @@ public class PaginationProvider implements Provider<Pagination> {
 
 	private static class DefaultPagination implements Pagination {
 
-		public DefaultPagination(int itemsPerPage, int pageNumber) {
+		public DefaultPagination(
+			int itemsPerPage, int pageNumber, boolean totalCountRequested) {
+
 			_itemsPerPage = itemsPerPage;
 			_pageNumber = pageNumber;
+			_totalCountRequested = totalCountRequested;
 		}
 
 		@Override
@@ -94,8 +101,14 @@ public class PaginationProvider implements Provider<Pagination> {
 			return (_pageNumber - 1) * _itemsPerPage;
 		}
 
+		@Override
+		public boolean isTotalCountRequested() {
+			return _totalCountRequested;
+		}
+
 		private final int _itemsPerPage;
 		private final int _pageNumber;
+		private final boolean _totalCountRequested;
 
 	}
 
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.vulcan.response.control.internal;
+
+import com.liferay.vulcan.response.control.internal.EmbeddedProvider.EmbeddedImpl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class EmbeddedProviderTest {
+
+	@Test
+	public void testEmbeddedPredicateMatchesEveryRequestedPath() {
+		Predicate<String> predicate = _getEmbeddedPredicate(
+			"author", "author.folder", "comment.author.folder");
+
+		Assert.assertTrue(predicate.test("author"));
+		Assert.assertTrue(predicate.test("author.folder"));
+		Assert.assertTrue(predicate.test("comment.author.folder"));
+	}
+
+	@Test
+	public void testEmbeddedPredicateOnlyMatchesCompleteElements() {
+		Predicate<String> predicate = _getEmbeddedPredicate(
+			"author", "comment.author");
+
+		Assert.assertFalse(predicate.test("authors"));
+		Assert.assertFalse(predicate.test("autho"));
+		Assert.assertFalse(predicate.test("comment.authors"));
+		Assert.assertFalse(predicate.test("comments.author"));
+		Assert.assertFalse(predicate.test("author."));
+	}
+
+	@Test
+	public void testEmbeddedPredicateWithoutEmbeddedPaths() {
+		EmbeddedImpl embeddedImpl = new EmbeddedImpl(Collections.emptyList());
+
+		Predicate<String> predicate = embeddedImpl.getEmbeddedPredicate();
+
+		Assert.assertFalse(predicate.test("author"));
+		Assert.assertFalse(predicate.test(""));
+	}
+
+	@Test
+	public void testEmbeddedPredicatesDoNotMatchPrefixesOrExtensions() {
+		Predicate<String> predicate = _getEmbeddedPredicate(
+			"comment.author");
+
+		Assert.assertFalse(predicate.test("comment"));
+		Assert.assertFalse(predicate.test("comment.author.folder"));
+		Assert.assertFalse(predicate.test("author"));
+	}
+
+	@Test
+	public void testEqualEmbeddedPathsAreEqual() {
+		EmbeddedImpl embeddedImpl = new EmbeddedImpl(
+			Arrays.asList("author", "comment.author"));
+		EmbeddedImpl otherEmbeddedImpl = new EmbeddedImpl(
+			Arrays.asList("author", "comment.author"));
+
+		Assert.assertEquals(embeddedImpl, otherEmbeddedImpl);
+		Assert.assertEquals(
+			embeddedImpl.hashCode(), otherEmbeddedImpl.hashCode());
+		Assert.assertNotEquals(
+			embeddedImpl,
+			new EmbeddedImpl(Collections.singletonList("author")));
+	}
+
+	private Predicate<String> _getEmbeddedPredicate(String... embedded) {
+		EmbeddedImpl embeddedImpl = new EmbeddedImpl(Arrays.asList(embedded));
+
+		return embeddedImpl.getEmbeddedPredicate();
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.vulcan.response.control.internal;
+
+import com.liferay.vulcan.response.control.internal.FieldsProvider.FieldsImpl;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class FieldsProviderTest {
+
+	@Test
+	public void testFieldsPredicateIsNotAffectedByChangesToTheMap() {
+		Map<String, List<String>> fieldsMap = new HashMap<>(_fieldsMap);
+
+		FieldsImpl fieldsImpl = new FieldsImpl(fieldsMap);
+
+		fieldsMap.put("Person", Collections.singletonList("url"));
+
+		Predicate<String> predicate = fieldsImpl.getFieldsPredicate(
+			Collections.singletonList("Person"));
+
+		Assert.assertTrue(predicate.test("name"));
+		Assert.assertFalse(predicate.test("url"));
+	}
+
+	@Test
+	public void testFieldsPredicateIsReusedForTheSameTypes() {
+		FieldsImpl fieldsImpl = new FieldsImpl(_fieldsMap);
+
+		Predicate<String> predicate = fieldsImpl.getFieldsPredicate(
+			Arrays.asList("Person", "Thing"));
+
+		Assert.assertSame(
+			predicate,
+			fieldsImpl.getFieldsPredicate(Arrays.asList("Person", "Thing")));
+	}
+
+	@Test
+	public void testFieldsPredicateMatchesTheFieldsOfEveryType() {
+		FieldsImpl fieldsImpl = new FieldsImpl(_fieldsMap);
+
+		Predicate<String> predicate = fieldsImpl.getFieldsPredicate(
+			Arrays.asList("Person", "Thing"));
+
+		Assert.assertTrue(predicate.test("name"));
+		Assert.assertTrue(predicate.test("email"));
+		Assert.assertTrue(predicate.test("url"));
+		Assert.assertFalse(predicate.test("jobTitle"));
+	}
+
+	@Test
+	public void testFieldsPredicateMatchesTheFieldsOfTheType() {
+		FieldsImpl fieldsImpl = new FieldsImpl(_fieldsMap);
+
+		Predicate<String> predicate = fieldsImpl.getFieldsPredicate(
+			Collections.singletonList("Person"));
+
+		Assert.assertTrue(predicate.test("name"));
+		Assert.assertTrue(predicate.test("email"));
+		Assert.assertFalse(predicate.test("url"));
+		Assert.assertFalse(predicate.test("nam"));
+	}
+
+	@Test
+	public void testFieldsPredicateOfTypesWithoutFieldsMatchesEveryField() {
+		FieldsImpl fieldsImpl = new FieldsImpl(_fieldsMap);
+
+		Predicate<String> predicate = fieldsImpl.getFieldsPredicate(
+			Collections.singletonList("BlogPosting"));
+
+		Assert.assertTrue(predicate.test("headline"));
+		Assert.assertTrue(predicate.test("name"));
+	}
+
+	@Test
+	public void testFieldsPredicateWithoutFieldsMatchesEveryField() {
+		FieldsImpl fieldsImpl = new FieldsImpl(Collections.emptyMap());
+
+		Predicate<String> predicate = fieldsImpl.getFieldsPredicate(
+			Collections.singletonList("Person"));
+
+		Assert.assertTrue(predicate.test("name"));
+		Assert.assertTrue(predicate.test("url"));
+	}
+
+	private static final Map<String, List<String>> _fieldsMap =
+		new HashMap<>();
+
+	static {
+		_fieldsMap.put("Person", Arrays.asList("name", "email"));
+		_fieldsMap.put("Thing", Arrays.asList("name", "url"));
+	}
+
+}
\ No newline at end of file
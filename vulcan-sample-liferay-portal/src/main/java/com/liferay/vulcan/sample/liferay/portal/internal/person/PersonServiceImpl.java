@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.vulcan.sample.liferay.portal.internal.person;
+
+import com.liferay.portal.kernel.dao.orm.DynamicQuery;
+import com.liferay.portal.kernel.dao.orm.RestrictionsFactoryUtil;
+import com.liferay.portal.kernel.model.User;
+import com.liferay.portal.kernel.service.UserLocalService;
+import com.liferay.vulcan.sample.liferay.portal.person.PersonService;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true)
+public class PersonServiceImpl implements PersonService {
+
+	@Override
+	public Map<Long, User> getUsers(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		DynamicQuery dynamicQuery = _userLocalService.dynamicQuery();
+
+		dynamicQuery.add(RestrictionsFactoryUtil.in("userId", userIds));
+
+		List<User> users = _userLocalService.dynamicQuery(dynamicQuery);
+
+		Stream<User> stream = users.stream();
+
+		return stream.collect(
+			Collectors.toMap(User::getUserId, Function.identity()));
+	}
+
+	@Reference
+	private UserLocalService _userLocalService;
+
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.vulcan.sample.liferay.portal.person;
+
+import com.liferay.portal.kernel.model.User;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Provides the service for getting the {@code User} models related to other
+ * resources, like the author of a comment.
+ *
+ * @author Alejandro Hernández
+ */
+public interface PersonService {
+
+	/**
+	 * Returns the users that match the IDs, mapped by ID. IDs without a user
+	 * aren't included in the map. The users are loaded with a single query.
+	 *
+	 * @param  userIds the users' IDs
+	 * @return the users, mapped by ID
+	 */
+	public Map<Long, User> getUsers(Collection<Long> userIds);
+
+}
\ No newline at end of file
@@ -18,12 +18,10 @@ import com.liferay.blogs.kernel.exception.NoSuchEntryException;
 import com.liferay.blogs.kernel.model.BlogsEntry;
 import com.liferay.blogs.kernel.service.BlogsEntryService;
 import com.liferay.portal.kernel.comment.Comment;
-import com.liferay.portal.kernel.exception.NoSuchUserException;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.model.User;
 import com.liferay.portal.kernel.security.auth.PrincipalException;
 import com.liferay.portal.kernel.service.ServiceContext;
-import com.liferay.portal.kernel.service.UserService;
 import com.liferay.portal.kernel.util.DateUtil;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.vulcan.pagination.PageItems;
@@ -36,6 +34,7 @@ import com.liferay.vulcan.resource.builder.RepresentorBuilder;
 import com.liferay.vulcan.resource.builder.RoutesBuilder;
 import com.liferay.vulcan.resource.identifier.LongIdentifier;
 import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.sample.liferay.portal.person.PersonService;
 import com.liferay.vulcan.sample.liferay.portal.rating.AggregateRating;
 import com.liferay.vulcan.sample.liferay.portal.rating.AggregateRatingService;
 import com.liferay.vulcan.sample.liferay.portal.resource.identifier.AggregateRatingIdentifier;
@@ -47,7 +46,9 @@ import java.text.DateFormat;
 import java.text.ParseException;
 
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -80,13 +81,13 @@ public class BlogPostingScopedCollectionResource
 		return representorBuilder.identifier(
 			blogsEntry -> blogsEntry::getEntryId
 		).addBidirectionalModel(
-			"webSite", "blogs", WebSite.class, this::_getWebSiteOptional,
-			WebSite::getWebSiteLongIdentifier
+			"webSite", "blogs", WebSite.class, BlogsEntry::getGroupId,
+			this::_getWebSites, WebSite::getWebSiteLongIdentifier
 		).addDate(
 			"createDate", BlogsEntry::getCreateDate
 		).addDate(
 			"displayDate", BlogsEntry::getDisplayDate
-		).addDate(
+		).addModifiedDate(
 			"modifiedDate", BlogsEntry::getModifiedDate
 		).addDate(
 			"publishedDate", BlogsEntry::getLastPublishDate
@@ -94,11 +95,13 @@ public class BlogPostingScopedCollectionResource
 			"aggregateRating", AggregateRating.class,
 			this::_getAggregateRatingOptional
 		).addEmbeddedModel(
-			"creator", User.class, this::_getUserOptional
+			"creator", User.class, BlogsEntry::getUserId,
+			_personService::getUsers
 		).addLink(
 			"license", "https://creativecommons.org/licenses/by/4.0"
 		).addLinkedModel(
-			"author", User.class, this::_getUserOptional
+			"author", User.class, BlogsEntry::getUserId,
+			_personService::getUsers
 		).addRelatedCollection(
 			"comment", Comment.class, CommentableIdentifier::create
 		).addString(
@@ -232,29 +235,24 @@ public class BlogPostingScopedCollectionResource
 
 		List<BlogsEntry> blogsEntries = _blogsService.getGroupEntries(
 			groupIdLongIdentifier.getId(), 0, pagination.getStartPosition(),
-			pagination.getEndPosition());
-		int count = _blogsService.getGroupEntriesCount(
-			groupIdLongIdentifier.getId(), 0);
+			pagination.getEndPosition() + 1);
 
-		return new PageItems<>(blogsEntries, count);
+		return new PageItems<>(
+			blogsEntries,
+			() -> _blogsService.getGroupEntriesCount(
+				groupIdLongIdentifier.getId(), 0));
 	}
 
-	private Optional<User> _getUserOptional(BlogsEntry blogsEntry) {
-		try {
-			return Optional.ofNullable(
-				_userService.getUserById(blogsEntry.getUserId()));
-		}
-		catch (NoSuchUserException | PrincipalException e) {
-			throw new NotFoundException(
-				"Unable to get user " + blogsEntry.getUserId(), e);
-		}
-		catch (PortalException pe) {
-			throw new ServerErrorException(500, pe);
+	private Map<Long, WebSite> _getWebSites(Collection<Long> groupIds) {
+		Map<Long, WebSite> webSites = new HashMap<>();
+
+		for (Long groupId : groupIds) {
+			Optional<WebSite> optional = _webSiteService.getWebSite(groupId);
+
+			optional.ifPresent(webSite -> webSites.put(groupId, webSite));
 		}
-	}
 
-	private Optional<WebSite> _getWebSiteOptional(BlogsEntry blogsEntry) {
-		return _webSiteService.getWebSite(blogsEntry.getGroupId());
+		return webSites;
 	}
 
 	private BlogsEntry _updateBlogsEntry(
@@ -320,7 +318,7 @@ public class BlogPostingScopedCollectionResource
 	private BlogsEntryService _blogsService;
 
 	@Reference
-	private UserService _userService;
+	private PersonService _personService;
 
 	@Reference
 	private WebSiteService _webSiteService;
@@ -21,13 +21,10 @@ import com.liferay.portal.kernel.comment.CommentManager;
 import com.liferay.portal.kernel.comment.Discussion;
 import com.liferay.portal.kernel.comment.DiscussionComment;
 import com.liferay.portal.kernel.comment.DiscussionCommentIterator;
-import com.liferay.portal.kernel.exception.NoSuchUserException;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.model.User;
-import com.liferay.portal.kernel.security.auth.PrincipalException;
 import com.liferay.portal.kernel.service.IdentityServiceContextFunction;
 import com.liferay.portal.kernel.service.ServiceContext;
-import com.liferay.portal.kernel.service.UserLocalService;
 import com.liferay.portal.kernel.util.Function;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Validator;
@@ -42,15 +39,14 @@ import com.liferay.vulcan.resource.builder.RepresentorBuilder;
 import com.liferay.vulcan.resource.builder.RoutesBuilder;
 import com.liferay.vulcan.resource.identifier.LongIdentifier;
 import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.sample.liferay.portal.person.PersonService;
 import com.liferay.vulcan.sample.liferay.portal.resource.identifier.CommentableIdentifier;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import javax.ws.rs.BadRequestException;
-import javax.ws.rs.NotFoundException;
 import javax.ws.rs.ServerErrorException;
 
 import org.osgi.service.component.annotations.Component;
@@ -74,7 +70,8 @@ public class CommentScopedCollectionResource
 		return representorBuilder.identifier(
 			comment -> comment::getCommentId
 		).addEmbeddedModel(
-			"author", User.class, this::_getUserOptional
+			"author", User.class, Comment::getUserId,
+			_personService::getUsers
 		).addString(
 			"text", Comment::getBody
 		).addType(
@@ -207,20 +204,6 @@ public class CommentScopedCollectionResource
 		return new PageItems<>(comments, count);
 	}
 
-	private Optional<User> _getUserOptional(Comment comment) {
-		try {
-			return Optional.ofNullable(
-				_userService.getUserById(comment.getUserId()));
-		}
-		catch (NoSuchUserException | PrincipalException e) {
-			throw new NotFoundException(
-				"Unable to get user " + comment.getUserId(), e);
-		}
-		catch (PortalException pe) {
-			throw new ServerErrorException(500, pe);
-		}
-	}
-
 	private Comment _updateComment(
 		LongIdentifier commentLongIdentifier, Map<String, Object> body) {
 
@@ -253,6 +236,6 @@ public class CommentScopedCollectionResource
 	private CommentManager _commentManager;
 
 	@Reference
-	private UserLocalService _userService;
+	private PersonService _personService;
 
 }
\ No newline at end of file
@@ -15,16 +15,16 @@
 package com.liferay.vulcan.sample.liferay.portal.resource.internal;
 
 import com.liferay.blogs.kernel.exception.NoSuchEntryException;
+import com.liferay.document.library.kernel.exception.NoSuchFileEntryException;
 import com.liferay.document.library.kernel.exception.NoSuchFolderException;
 import com.liferay.document.library.kernel.model.DLFileEntry;
 import com.liferay.document.library.kernel.model.DLFolder;
+import com.liferay.document.library.kernel.service.DLFileEntryLocalService;
 import com.liferay.document.library.kernel.service.DLFileEntryService;
 import com.liferay.document.library.kernel.service.DLFolderService;
-import com.liferay.portal.kernel.exception.NoSuchUserException;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.model.User;
 import com.liferay.portal.kernel.security.auth.PrincipalException;
-import com.liferay.portal.kernel.service.UserLocalService;
 import com.liferay.vulcan.pagination.PageItems;
 import com.liferay.vulcan.pagination.Pagination;
 import com.liferay.vulcan.resource.CollectionResource;
@@ -34,6 +34,7 @@ import com.liferay.vulcan.resource.ScopedCollectionResource;
 import com.liferay.vulcan.resource.builder.RepresentorBuilder;
 import com.liferay.vulcan.resource.builder.RoutesBuilder;
 import com.liferay.vulcan.resource.identifier.LongIdentifier;
+import com.liferay.vulcan.sample.liferay.portal.person.PersonService;
 
 import java.io.InputStream;
 
@@ -67,16 +68,17 @@ public class MediaObjectScopedCollectionResource
 			"folder", "mediaObjects", DLFolder.class,
 			this::_getDLFolderOptional,
 			dlFolder -> (LongIdentifier)dlFolder::getFolderId
-		).addBinary(
+		).addIdentifierBinary(
 			"contentStream", this::_getInputStream
 		).addDate(
 			"dateCreated", DLFileEntry::getCreateDate
-		).addDate(
+		).addModifiedDate(
 			"dateModified", DLFileEntry::getModifiedDate
 		).addDate(
 			"datePublished", DLFileEntry::getLastPublishDate
 		).addEmbeddedModel(
-			"author", User.class, this::_getUserOptional
+			"author", User.class, DLFileEntry::getUserId,
+			_personService::getUsers
 		).addNumber(
 			"contentSize", DLFileEntry::getSize
 		).addString(
@@ -150,9 +152,19 @@ public class MediaObjectScopedCollectionResource
 		}
 	}
 
-	private InputStream _getInputStream(DLFileEntry dlFileEntry) {
+	private InputStream _getInputStream(
+		LongIdentifier dlFileEntryLongIdentifier) {
+
 		try {
-			return dlFileEntry.getContentStream();
+			DLFileEntry dlFileEntry = _dlFileEntryService.getFileEntry(
+				dlFileEntryLongIdentifier.getId());
+
+			return _dlFileEntryLocalService.getFileAsStream(
+				dlFileEntry.getFileEntryId(), dlFileEntry.getVersion(), false);
+		}
+		catch (NoSuchFileEntryException | PrincipalException e) {
+			throw new NotFoundException(
+				"Unable to get file " + dlFileEntryLongIdentifier.getId(), e);
 		}
 		catch (PortalException pe) {
 			throw new ServerErrorException(500, pe);
@@ -181,19 +193,8 @@ public class MediaObjectScopedCollectionResource
 		}
 	}
 
-	private Optional<User> _getUserOptional(DLFileEntry dlFileEntry) {
-		try {
-			return Optional.ofNullable(
-				_userService.getUserById(dlFileEntry.getUserId()));
-		}
-		catch (NoSuchUserException | PrincipalException e) {
-			throw new NotFoundException(
-				"Unable to get user " + dlFileEntry.getUserId(), e);
-		}
-		catch (PortalException pe) {
-			throw new ServerErrorException(500, pe);
-		}
-	}
+	@Reference
+	private DLFileEntryLocalService _dlFileEntryLocalService;
 
 	@Reference
 	private DLFileEntryService _dlFileEntryService;
@@ -202,6 +203,6 @@ public class MediaObjectScopedCollectionResource
 	private DLFolderService _dlFolderService;
 
 	@Reference
-	private UserLocalService _userService;
+	private PersonService _personService;
 
 }
\ No newline at end of file
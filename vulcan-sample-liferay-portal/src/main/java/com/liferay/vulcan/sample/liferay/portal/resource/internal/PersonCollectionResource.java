@@ -205,11 +205,12 @@ public class PersonCollectionResource
 
 		List<User> users = _userLocalService.getCompanyUsers(
 			company.getCompanyId(), pagination.getStartPosition(),
-			pagination.getEndPosition());
-		int count = _userLocalService.getCompanyUsersCount(
-			company.getCompanyId());
+			pagination.getEndPosition() + 1);
 
-		return new PageItems<>(users, count);
+		return new PageItems<>(
+			users,
+			() -> _userLocalService.getCompanyUsersCount(
+				company.getCompanyId()));
 	}
 
 	private User _getUser(LongIdentifier userLongIdentifier) {
@@ -18,12 +18,9 @@ import com.liferay.document.library.kernel.service.DLFolderService;
 import com.liferay.journal.exception.NoSuchArticleException;
 import com.liferay.journal.model.JournalArticle;
 import com.liferay.journal.service.JournalArticleService;
-import com.liferay.portal.kernel.exception.NoSuchUserException;
 import com.liferay.portal.kernel.exception.PortalException;
 import com.liferay.portal.kernel.model.User;
-import com.liferay.portal.kernel.security.auth.PrincipalException;
 import com.liferay.portal.kernel.service.ServiceContext;
-import com.liferay.portal.kernel.service.UserService;
 import com.liferay.portal.kernel.util.DateUtil;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.vulcan.pagination.PageItems;
@@ -36,6 +33,7 @@ import com.liferay.vulcan.resource.builder.RepresentorBuilder;
 import com.liferay.vulcan.resource.builder.RoutesBuilder;
 import com.liferay.vulcan.resource.identifier.LongIdentifier;
 import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.sample.liferay.portal.person.PersonService;
 import com.liferay.vulcan.sample.liferay.portal.website.WebSite;
 import com.liferay.vulcan.sample.liferay.portal.website.WebSiteService;
 
@@ -80,17 +78,19 @@ public class WebPageElementScopedCollectionResource
 			"webSite", "webPageElements", WebSite.class,
 			this::_getWebSiteOptional, WebSite::getWebSiteLongIdentifier
 		).addEmbeddedModel(
-			"creator", User.class, this::_getUserOptional
+			"creator", User.class, JournalArticle::getUserId,
+			_personService::getUsers
 		).addDate(
 			"dateCreated", JournalArticle::getCreateDate
-		).addDate(
+		).addModifiedDate(
 			"dateModified", JournalArticle::getModifiedDate
 		).addDate(
 			"datePublished", JournalArticle::getLastPublishDate
 		).addDate(
 			"lastReviewed", JournalArticle::getReviewDate
 		).addLinkedModel(
-			"author", User.class, this::_getUserOptional
+			"author", User.class, JournalArticle::getUserId,
+			_personService::getUsers
 		).addString(
 			"description", JournalArticle::getDescription
 		).addString(
@@ -245,20 +245,6 @@ public class WebPageElementScopedCollectionResource
 		return new PageItems<>(journalArticles, count);
 	}
 
-	private Optional<User> _getUserOptional(JournalArticle journalArticle) {
-		try {
-			return Optional.ofNullable(
-				_userService.getUserById(journalArticle.getUserId()));
-		}
-		catch (NoSuchUserException | PrincipalException e) {
-			throw new NotFoundException(
-				"Unable to get user " + journalArticle.getUserId(), e);
-		}
-		catch (PortalException pe) {
-			throw new ServerErrorException(500, pe);
-		}
-	}
-
 	private Optional<WebSite> _getWebSiteOptional(
 		JournalArticle journalArticle) {
 
@@ -339,7 +325,7 @@ public class WebPageElementScopedCollectionResource
 	private JournalArticleService _journalArticleService;
 
 	@Reference
-	private UserService _userService;
+	private PersonService _personService;
 
 	@Reference
 	private WebSiteService _webSiteService;
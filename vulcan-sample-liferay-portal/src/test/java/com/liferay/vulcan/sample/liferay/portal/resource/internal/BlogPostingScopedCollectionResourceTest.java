@@ -50,7 +50,7 @@ public class BlogPostingScopedCollectionResourceTest
 
 		verifyIdentifier().addBidirectionalModel(
 			eq("webSite"), eq("blogs"), any(Class.class), any(Function.class),
-			any(Function.class));
+			any(Function.class), any(Function.class));
 
 		verifyIdentifier().addDate(eq("createDate"), any(Function.class));
 		verifyIdentifier().addDate(eq("displayDate"), any(Function.class));
@@ -59,11 +59,15 @@ public class BlogPostingScopedCollectionResourceTest
 		verifyIdentifier().addEmbeddedModel(
 			eq("aggregateRating"), any(Class.class), any(Function.class));
 		verifyIdentifier().addEmbeddedModel(
-			eq("creator"), eq(User.class), any(Function.class));
+			eq("creator"), eq(User.class), any(Function.class),
+			any(Function.class));
 		verifyIdentifier().addLink(
 			eq("license"), eq("https://creativecommons.org/licenses/by/4.0"));
 		verifyIdentifier().addLinkedModel(
-			eq("author"), eq(User.class), any(Function.class));
+			eq("author"), eq(User.class), any(Function.class),
+			any(Function.class));
+		verifyIdentifier().addModifiedDate(
+			eq("modifiedDate"), any(Function.class));
 		verifyIdentifier().addRelatedCollection(
 			eq("comment"), any(Class.class), any(Function.class));
 		verifyIdentifier().addString(
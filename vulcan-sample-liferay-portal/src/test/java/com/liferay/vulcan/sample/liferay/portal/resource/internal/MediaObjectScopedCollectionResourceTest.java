@@ -19,7 +19,7 @@ import static org.mockito.Matchers.eq;
 
 import com.liferay.document.library.kernel.model.DLFolder;
 import com.liferay.portal.kernel.model.User;
-import com.liferay.vulcan.alias.BinaryFunction;
+import com.liferay.vulcan.alias.IdentifierBinaryFunction;
 
 import java.util.function.Function;
 
@@ -43,13 +43,16 @@ public class MediaObjectScopedCollectionResourceTest
 		verifyIdentifier().addBidirectionalModel(
 			eq("folder"), eq("mediaObjects"), eq(DLFolder.class),
 			any(Function.class), any(Function.class));
-		verifyIdentifier().addBinary(
-			eq("contentStream"), any(BinaryFunction.class));
+		verifyIdentifier().addIdentifierBinary(
+			eq("contentStream"), any(IdentifierBinaryFunction.class));
 		verifyIdentifier().addDate(eq("dateCreated"), any(Function.class));
 		verifyIdentifier().addDate(eq("dateModified"), any(Function.class));
 		verifyIdentifier().addDate(eq("datePublished"), any(Function.class));
 		verifyIdentifier().addEmbeddedModel(
-			eq("author"), eq(User.class), any(Function.class));
+			eq("author"), eq(User.class), any(Function.class),
+			any(Function.class));
+		verifyIdentifier().addModifiedDate(
+			eq("dateModified"), any(Function.class));
 		verifyIdentifier().addNumber(eq("contentSize"), any(Function.class));
 		verifyIdentifier().addString(eq("fileFormat"), any(Function.class));
 		verifyIdentifier().addString(eq("headline"), any(Function.class));
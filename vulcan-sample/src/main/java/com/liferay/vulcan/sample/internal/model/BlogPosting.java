@@ -176,6 +176,16 @@ public class BlogPosting {
 		return new Date(_createDate.getTime());
 	}
 
+	/**
+	 * Returns the time that the current blog posting was created, in
+	 * milliseconds since the epoch.
+	 *
+	 * @return the current blog posting's creation time
+	 */
+	public long getCreateTime() {
+		return _createDate.getTime();
+	}
+
 	/**
 	 * Returns the ID of the current blog posting's creator.
 	 *
@@ -234,6 +234,16 @@ public class BlogPostingComment {
 		return new Date(_createDate.getTime());
 	}
 
+	/**
+	 * Returns the current blog posting comment's creation time, in
+	 * milliseconds since the epoch.
+	 *
+	 * @return the current blog posting comment's creation time
+	 */
+	public long getCreateTime() {
+		return _createDate.getTime();
+	}
+
 	/**
 	 * Returns the current blog posting comment's modification date.
 	 *
@@ -52,16 +52,16 @@ public class BlogPostingCollectionResource
 
 		return representorBuilder.identifier(
 			blogPosting -> blogPosting::getBlogPostingId
-		).addDate(
-			"dateCreated", BlogPosting::getCreateDate
-		).addDate(
+		).addEpochMillis(
+			"dateCreated", BlogPosting::getCreateTime
+		).addModifiedDate(
 			"dateModified", BlogPosting::getModifiedDate
 		).addEmbeddedModel(
 			"creator", Person.class,
 			blogPosting -> Person.getPerson(blogPosting.getCreatorId())
-		).addRelatedCollection(
+		).addIdentifierRelatedCollection(
 			"comments", BlogPostingComment.class,
-			blogPosting -> (LongIdentifier)blogPosting::getBlogPostingId
+			blogPostingLongIdentifier -> blogPostingLongIdentifier
 		).addString(
 			"alternativeHeadline", BlogPosting::getSubtitle
 		).addString(
@@ -52,9 +52,9 @@ public class BlogPostingCommentScopedCollectionResource
 
 		return representorBuilder.identifier(
 			blogPostingComment -> blogPostingComment::getBlogPostingCommentId
-		).addDate(
-			"dateCreated", BlogPostingComment::getCreateDate
-		).addDate(
+		).addEpochMillis(
+			"dateCreated", BlogPostingComment::getCreateTime
+		).addModifiedDate(
 			"dateModified", BlogPostingComment::getModifiedDate
 		).addEmbeddedModel(
 			"author", Person.class,
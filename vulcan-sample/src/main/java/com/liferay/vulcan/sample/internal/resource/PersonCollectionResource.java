@@ -31,6 +31,8 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.ws.rs.NotFoundException;
 
@@ -79,12 +81,19 @@ public class PersonCollectionResource
 		return "people";
 	}
 
+	@Override
+	public long getRepresentationTimeToLive() {
+		return 60000;
+	}
+
 	@Override
 	public Routes<Person> routes(
 		RoutesBuilder<Person, LongIdentifier> routesBuilder) {
 
 		return routesBuilder.addCollectionPageGetter(
 			this::_getPageItems, RootIdentifier.class
+		).addCollectionPageItemBatchGetter(
+			this::_getPeople
 		).addCollectionPageItemCreator(
 			this::_addPerson, RootIdentifier.class
 		).addCollectionPageItemGetter(
@@ -129,6 +138,24 @@ public class PersonCollectionResource
 		return new PageItems<>(persons, count);
 	}
 
+	private List<Person> _getPeople(
+		List<LongIdentifier> personLongIdentifiers) {
+
+		Stream<LongIdentifier> stream = personLongIdentifiers.stream();
+
+		return stream.map(
+			LongIdentifier::getId
+		).map(
+			Person::getPerson
+		).filter(
+			Optional::isPresent
+		).map(
+			Optional::get
+		).collect(
+			Collectors.toList()
+		);
+	}
+
 	private Person _getPerson(LongIdentifier personLongIdentifier) {
 		Optional<Person> optional = Person.getPerson(
 			personLongIdentifier.getId());
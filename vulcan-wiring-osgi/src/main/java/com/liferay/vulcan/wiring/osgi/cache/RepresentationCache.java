@@ -0,0 +1,386 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.vulcan.wiring.osgi.cache;
+
+import com.liferay.vulcan.uri.Path;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Stores serialized representations of single models, so they can be written
+ * again without being rebuilt. Each representation is stored under the
+ * model's {@link Path} and a variant, a list with the values the
+ * representation depends on (for example, the media type or the requested
+ * fields).
+ *
+ * <p>
+ * The cache is bounded by the total size of the stored representations. When
+ * the bound is exceeded, the least recently used representations are evicted.
+ * Each representation also expires after its time to live.
+ * </p>
+ *
+ * <p>
+ * Each path has a generation that changes every time the path's
+ * representations are invalidated. A representation is only stored if the
+ * path's generation hasn't changed since its model was loaded, so a request
+ * that loaded the model before an update can't store a stale representation
+ * after the update invalidates the path.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true, service = RepresentationCache.class)
+public class RepresentationCache {
+
+	/**
+	 * Removes every stored representation. Representations can embed models
+	 * of any collection resource, so they are all removed when a collection
+	 * resource is unregistered.
+	 */
+	public void clear() {
+		for (int i = 0; i < _STRIPES; i++) {
+			synchronized (_locks[i]) {
+				_generations.incrementAndGet(i);
+			}
+		}
+
+		for (Key key : _entries.keySet()) {
+			synchronized (_getLock(key._uri)) {
+				_remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Returns the representation stored for the path and variant, if it
+	 * exists and hasn't expired. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  path the model's path
+	 * @param  variant the values the representation depends on
+	 * @return the representation, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public Optional<byte[]> get(Path path, List<?> variant) {
+		Key key = new Key(path.asURI(), variant);
+
+		Entry entry = _entries.get(key);
+
+		if (entry == null) {
+			return Optional.empty();
+		}
+
+		if (entry._expirationTime < System.currentTimeMillis()) {
+			synchronized (_getLock(key._uri)) {
+				if (_entries.remove(key, entry)) {
+					_removeKey(key);
+
+					_size.addAndGet(-entry._bytes.length);
+				}
+			}
+
+			return Optional.empty();
+		}
+
+		entry._accessTime = System.nanoTime();
+
+		return Optional.of(entry._bytes);
+	}
+
+	/**
+	 * Returns the current generation of the path.
+	 *
+	 * @param  path the model's path
+	 * @return the path's generation
+	 */
+	public long getGeneration(Path path) {
+		return _generations.get(_getStripe(path.asURI()));
+	}
+
+	/**
+	 * Returns the generation of the path stored in the request by {@link
+	 * #setGeneration(HttpServletRequest, Path)}, if present. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  path the model's path
+	 * @return the path's generation stored in the request, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public Optional<Long> getGenerationOptional(
+		HttpServletRequest httpServletRequest, Path path) {
+
+		Object generation = httpServletRequest.getAttribute(
+			_GENERATION + path.asURI());
+
+		return Optional.ofNullable(
+			generation
+		).filter(
+			Long.class::isInstance
+		).map(
+			Long.class::cast
+		);
+	}
+
+	/**
+	 * Removes every representation stored for the path, regardless of its
+	 * variant, and changes the path's generation.
+	 *
+	 * @param path the model's path
+	 */
+	public void invalidate(Path path) {
+		String uri = path.asURI();
+
+		int stripe = _getStripe(uri);
+
+		synchronized (_locks[stripe]) {
+			_generations.incrementAndGet(stripe);
+
+			Set<Key> keys = _keys.remove(uri);
+
+			if (keys == null) {
+				return;
+			}
+
+			for (Key key : keys) {
+				Entry entry = _entries.remove(key);
+
+				if (entry != null) {
+					_size.addAndGet(-entry._bytes.length);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Stores the representation for the path and variant, if the path's
+	 * generation is still the provided one, evicting the least recently used
+	 * representations if the cache's size bound is exceeded. Representations
+	 * bigger than a fraction of the bound aren't stored.
+	 *
+	 * @param path the model's path
+	 * @param variant the values the representation depends on
+	 * @param bytes the representation
+	 * @param timeToLive the time, in milliseconds, the representation is valid
+	 * @param generation the path's generation when the model was loaded
+	 */
+	public void put(
+		Path path, List<?> variant, byte[] bytes, long timeToLive,
+		long generation) {
+
+		if ((timeToLive <= 0) || (bytes.length > _MAX_ENTRY_SIZE)) {
+			return;
+		}
+
+		String uri = path.asURI();
+
+		int stripe = _getStripe(uri);
+
+		synchronized (_locks[stripe]) {
+			if (_generations.get(stripe) != generation) {
+				return;
+			}
+
+			Key key = new Key(uri, variant);
+
+			Entry entry = _entries.put(
+				key,
+				new Entry(bytes, System.currentTimeMillis() + timeToLive));
+
+			if (entry != null) {
+				_size.addAndGet(-entry._bytes.length);
+			}
+
+			Set<Key> keys = _keys.computeIfAbsent(
+				uri, keyURI -> ConcurrentHashMap.newKeySet());
+
+			keys.add(key);
+		}
+
+		if (_size.addAndGet(bytes.length) > _MAX_SIZE) {
+			_evict();
+		}
+	}
+
+	/**
+	 * Stores, in the request, the path's current generation. This method must
+	 * be called before loading the model whose representation is stored.
+	 *
+	 * @param httpServletRequest the current request
+	 * @param path the model's path
+	 */
+	public void setGeneration(
+		HttpServletRequest httpServletRequest, Path path) {
+
+		httpServletRequest.setAttribute(
+			_GENERATION + path.asURI(), getGeneration(path));
+	}
+
+	private Object[] _createLocks() {
+		Object[] locks = new Object[_STRIPES];
+
+		for (int i = 0; i < _STRIPES; i++) {
+			locks[i] = new Object();
+		}
+
+		return locks;
+	}
+
+	private void _evict() {
+		synchronized (_entries) {
+			if (_size.get() <= _MAX_SIZE) {
+				return;
+			}
+
+			List<Map.Entry<Key, Entry>> entries = new ArrayList<>(
+				_entries.entrySet());
+
+			entries.sort(
+				Comparator.comparingLong(
+					entry -> entry.getValue()._accessTime));
+
+			for (Map.Entry<Key, Entry> entry : entries) {
+				if (_size.get() <= _TARGET_SIZE) {
+					return;
+				}
+
+				Key key = entry.getKey();
+
+				synchronized (_getLock(key._uri)) {
+					if (_entries.remove(key, entry.getValue())) {
+						_removeKey(key);
+
+						_size.addAndGet(-entry.getValue()._bytes.length);
+					}
+				}
+			}
+		}
+	}
+
+	private Object _getLock(String uri) {
+		return _locks[_getStripe(uri)];
+	}
+
+	private int _getStripe(String uri) {
+		return (uri.hashCode() & Integer.MAX_VALUE) % _STRIPES;
+	}
+
+	private void _remove(Key key) {
+		Entry entry = _entries.remove(key);
+
+		if (entry != null) {
+			_removeKey(key);
+
+			_size.addAndGet(-entry._bytes.length);
+		}
+	}
+
+	private void _removeKey(Key key) {
+		Set<Key> keys = _keys.get(key._uri);
+
+		if (keys == null) {
+			return;
+		}
+
+		keys.remove(key);
+
+		if (keys.isEmpty()) {
+			_keys.remove(key._uri);
+		}
+	}
+
+	private static final String _GENERATION =
+		RepresentationCache.class.getName() + "_GENERATION_";
+
+	private static final long _MAX_ENTRY_SIZE = 1024 * 1024;
+
+	private static final long _MAX_SIZE = 32 * 1024 * 1024;
+
+	private static final int _STRIPES = 64;
+
+	private static final long _TARGET_SIZE = 24 * 1024 * 1024;
+
+	private final Map<Key, Entry> _entries = new ConcurrentHashMap<>();
+	private final AtomicLongArray _generations = new AtomicLongArray(
+		_STRIPES);
+	private final Map<String, Set<Key>> _keys = new ConcurrentHashMap<>();
+	private final Object[] _locks = _createLocks();
+	private final AtomicLong _size = new AtomicLong();
+
+	private static class Entry {
+
+		public Entry(byte[] bytes, long expirationTime) {
+			_bytes = bytes;
+			_expirationTime = expirationTime;
+
+			_accessTime = System.nanoTime();
+		}
+
+		private volatile long _accessTime;
+		private final byte[] _bytes;
+		private final long _expirationTime;
+
+	}
+
+	private static class Key {
+
+		public Key(String uri, List<?> variant) {
+			_uri = uri;
+			_variant = variant;
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof Key)) {
+				return false;
+			}
+
+			Key key = (Key)object;
+
+			if (_uri.equals(key._uri) &&
+				Objects.equals(_variant, key._variant)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(_uri, _variant);
+		}
+
+		private final String _uri;
+		private final List<?> _variant;
+
+	}
+
+}
\ No newline at end of file
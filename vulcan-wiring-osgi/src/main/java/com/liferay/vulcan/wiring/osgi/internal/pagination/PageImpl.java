@@ -15,25 +15,105 @@
 package com.liferay.vulcan.wiring.osgi.internal.pagination;
 
 import com.liferay.vulcan.pagination.Page;
+import com.liferay.vulcan.pagination.PageItems;
 import com.liferay.vulcan.uri.Path;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * @author Alejandro Hernández
  */
 public class PageImpl<T> implements Page<T> {
 
+	public PageImpl(Class<T> modelClass, Collection<T> items, Path path) {
+		_modelClass = modelClass;
+		_items = items;
+		_path = path;
+
+		_batch = true;
+		_cursor = null;
+		_cursorBased = false;
+		_hasMore = false;
+		_itemsPerPage = Math.max(items.size(), 1);
+		_nextCursor = null;
+		_pageNumber = 1;
+		_previousCursor = null;
+		_totalCount = items.size();
+	}
+
+	public PageImpl(
+		Class<T> modelClass, PageItems<T> pageItems, int itemsPerPage,
+		int pageNumber, boolean totalCountRequested, Path path) {
+
+		_modelClass = modelClass;
+		_itemsPerPage = itemsPerPage;
+		_pageNumber = pageNumber;
+		_path = path;
+
+		Collection<T> items = pageItems.getItems();
+
+		if (items.size() > itemsPerPage) {
+			Stream<T> stream = items.stream();
+
+			_items = stream.limit(
+				itemsPerPage
+			).collect(
+				Collectors.toList()
+			);
+
+			_hasMore = true;
+		}
+		else {
+			_items = items;
+
+			_hasMore = false;
+		}
+
+		Optional<IntSupplier> totalCountSupplierOptional =
+			pageItems.getTotalCountSupplierOptional();
+
+		if (pageItems.isTotalCountCalculated() ||
+			(totalCountRequested && totalCountSupplierOptional.isPresent())) {
+
+			_totalCount = pageItems.getTotalCount();
+		}
+		else {
+			_totalCount = null;
+		}
+
+		_batch = false;
+		_cursor = null;
+		_cursorBased = false;
+		_nextCursor = null;
+		_previousCursor = null;
+	}
+
 	public PageImpl(
 		Class<T> modelClass, Collection<T> items, int itemsPerPage,
-		int pageNumber, int totalCount, Path path) {
+		String cursor, String nextCursor, String previousCursor, Path path) {
 
 		_modelClass = modelClass;
 		_items = items;
 		_itemsPerPage = itemsPerPage;
-		_pageNumber = pageNumber;
-		_totalCount = totalCount;
+		_cursor = cursor;
+		_nextCursor = nextCursor;
+		_previousCursor = previousCursor;
 		_path = path;
+
+		_batch = false;
+		_cursorBased = true;
+		_hasMore = false;
+		_pageNumber = 1;
+		_totalCount = null;
+	}
+
+	@Override
+	public Optional<String> getCursorOptional() {
+		return Optional.ofNullable(_cursor);
 	}
 
 	@Override
@@ -48,7 +128,7 @@ public class PageImpl<T> implements Page<T> {
 
 	@Override
 	public int getLastPageNumber() {
-		return -Math.floorDiv(-_totalCount, _itemsPerPage);
+		return -Math.floorDiv(-getTotalCount(), _itemsPerPage);
 	}
 
 	@Override
@@ -56,6 +136,11 @@ public class PageImpl<T> implements Page<T> {
 		return _modelClass;
 	}
 
+	@Override
+	public Optional<String> getNextCursorOptional() {
+		return Optional.ofNullable(_nextCursor);
+	}
+
 	@Override
 	public int getPageNumber() {
 		return _pageNumber;
@@ -66,13 +151,35 @@ public class PageImpl<T> implements Page<T> {
 		return _path;
 	}
 
+	@Override
+	public Optional<String> getPreviousCursorOptional() {
+		return Optional.ofNullable(_previousCursor);
+	}
+
 	@Override
 	public int getTotalCount() {
+		if (_totalCount == null) {
+			throw new IllegalStateException(
+				"Page has no total count, check hasTotalCount first");
+		}
+
 		return _totalCount;
 	}
 
 	@Override
 	public boolean hasNext() {
+		if (_cursorBased) {
+			return getNextCursorOptional().isPresent();
+		}
+
+		if (_hasMore) {
+			return true;
+		}
+
+		if (_totalCount == null) {
+			return false;
+		}
+
 		if (getLastPageNumber() > _pageNumber) {
 			return true;
 		}
@@ -82,6 +189,10 @@ public class PageImpl<T> implements Page<T> {
 
 	@Override
 	public boolean hasPrevious() {
+		if (_cursorBased) {
+			return getPreviousCursorOptional().isPresent();
+		}
+
 		if (_pageNumber > 1) {
 			return true;
 		}
@@ -89,11 +200,36 @@ public class PageImpl<T> implements Page<T> {
 		return false;
 	}
 
+	@Override
+	public boolean hasTotalCount() {
+		if (_totalCount != null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	@Override
+	public boolean isBatch() {
+		return _batch;
+	}
+
+	@Override
+	public boolean isCursorBased() {
+		return _cursorBased;
+	}
+
+	private final boolean _batch;
+	private final String _cursor;
+	private final boolean _cursorBased;
+	private final boolean _hasMore;
 	private final Collection<T> _items;
 	private final int _itemsPerPage;
 	private final Class<T> _modelClass;
+	private final String _nextCursor;
 	private final int _pageNumber;
 	private final Path _path;
-	private final int _totalCount;
+	private final String _previousCursor;
+	private final Integer _totalCount;
 
 }
\ No newline at end of file
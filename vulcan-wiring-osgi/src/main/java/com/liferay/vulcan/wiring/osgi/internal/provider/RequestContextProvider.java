@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.internal.provider;
+
+import com.liferay.vulcan.context.RequestContext;
+import com.liferay.vulcan.provider.Provider;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Lets resources provide the current {@link RequestContext} as a parameter in
+ * the methods of {@link com.liferay.vulcan.resource.builder.RoutesBuilder}.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true)
+public class RequestContextProvider implements Provider<RequestContext> {
+
+	@Override
+	public RequestContext createContext(HttpServletRequest httpServletRequest) {
+		return RequestContext.from(httpServletRequest);
+	}
+
+}
\ No newline at end of file
@@ -20,87 +20,159 @@ import com.liferay.vulcan.resource.Routes;
 import com.liferay.vulcan.resource.identifier.Identifier;
 import com.liferay.vulcan.uri.Path;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import javax.servlet.http.HttpServletRequest;
+
 /**
+ * Holds the routes of a collection resource. Routes are created once per
+ * collection resource, and receive the current request only when they are
+ * requested through a {@code RoutesImpl} bound to that request.
+ *
  * @author Alejandro Hernández
  */
 public class RoutesImpl<T> implements Routes<T> {
 
+	public RoutesImpl() {
+		_httpServletRequest = null;
+	}
+
+	public RoutesImpl(
+		RoutesImpl<T> routesImpl, HttpServletRequest httpServletRequest) {
+
+		_batchPageFunction = routesImpl._batchPageFunction;
+		_deleteSingleModelConsumer = routesImpl._deleteSingleModelConsumer;
+		_pageFunction = routesImpl._pageFunction;
+		_postSingleModelFunction = routesImpl._postSingleModelFunction;
+		_putSingleModelFunction = routesImpl._putSingleModelFunction;
+		_singleModelFunction = routesImpl._singleModelFunction;
+
+		_httpServletRequest = httpServletRequest;
+	}
+
+	@Override
+	public Optional<Function<List<Path>, Page<T>>>
+		getBatchPageFunctionOptional() {
+
+		Optional<Function<HttpServletRequest, Function<List<Path>, Page<T>>>>
+			optional = Optional.ofNullable(_batchPageFunction);
+
+		return optional.map(function -> function.apply(_httpServletRequest));
+	}
+
 	@Override
 	public Optional<Consumer<Path>> getDeleteSingleModelConsumerOptional() {
-		return Optional.ofNullable(_deleteSingleModelConsumer);
+		Optional<Function<HttpServletRequest, Consumer<Path>>> optional =
+			Optional.ofNullable(_deleteSingleModelConsumer);
+
+		return optional.map(function -> function.apply(_httpServletRequest));
 	}
 
 	@Override
 	public Optional<Function<Path, Function<Identifier, Page<T>>>>
 		getPageFunctionOptional() {
 
-		return Optional.ofNullable(_pageFunction);
+		Optional<Function<HttpServletRequest,
+			Function<Path, Function<Identifier, Page<T>>>>> optional =
+				Optional.ofNullable(_pageFunction);
+
+		return optional.map(function -> function.apply(_httpServletRequest));
 	}
 
 	@Override
 	public Optional<Function<Identifier, Function<Map<String, Object>,
 		SingleModel<T>>>> getPostSingleModelFunctionOptional() {
 
-		return Optional.ofNullable(_postSingleModelFunction);
+		Optional<Function<HttpServletRequest, Function<Identifier,
+			Function<Map<String, Object>, SingleModel<T>>>>> optional =
+				Optional.ofNullable(_postSingleModelFunction);
+
+		return optional.map(function -> function.apply(_httpServletRequest));
 	}
 
 	@Override
 	public Optional<Function<Path, SingleModel<T>>>
 		getSingleModelFunctionOptional() {
 
-		return Optional.ofNullable(_singleModelFunction);
+		Optional<Function<HttpServletRequest, Function<Path, SingleModel<T>>>>
+			optional = Optional.ofNullable(_singleModelFunction);
+
+		return optional.map(function -> function.apply(_httpServletRequest));
 	}
 
 	@Override
 	public Optional<Function<Path, Function<Map<String, Object>,
 		SingleModel<T>>>> getUpdateSingleModelFunctionOptional() {
 
-		return Optional.ofNullable(_putSingleModelFunction);
+		Optional<Function<HttpServletRequest, Function<Path,
+			Function<Map<String, Object>, SingleModel<T>>>>> optional =
+				Optional.ofNullable(_putSingleModelFunction);
+
+		return optional.map(function -> function.apply(_httpServletRequest));
+	}
+
+	public void setBatchPageFunction(
+		Function<HttpServletRequest, Function<List<Path>, Page<T>>>
+			batchPageFunction) {
+
+		_batchPageFunction = batchPageFunction;
 	}
 
 	public void setDeleteSingleModelConsumer(
-		Consumer<Path> deleteSingleModelConsumer) {
+		Function<HttpServletRequest, Consumer<Path>>
+			deleteSingleModelConsumer) {
 
 		_deleteSingleModelConsumer = deleteSingleModelConsumer;
 	}
 
 	public void setPageFunction(
-		Function<Path, Function<Identifier, Page<T>>> pageFunction) {
+		Function<HttpServletRequest,
+			Function<Path, Function<Identifier, Page<T>>>> pageFunction) {
 
 		_pageFunction = pageFunction;
 	}
 
 	public void setPostSingleModelFunction(
-		Function<Identifier, Function<Map<String, Object>, SingleModel<T>>>
-			postSingleModelFunction) {
+		Function<HttpServletRequest, Function<Identifier,
+			Function<Map<String, Object>, SingleModel<T>>>>
+				postSingleModelFunction) {
 
 		_postSingleModelFunction = postSingleModelFunction;
 	}
 
 	public void setPutSingleModelFunction(
-		Function<Path, Function<Map<String, Object>, SingleModel<T>>>
-			putSingleModelFunction) {
+		Function<HttpServletRequest, Function<Path,
+			Function<Map<String, Object>, SingleModel<T>>>>
+				putSingleModelFunction) {
 
 		_putSingleModelFunction = putSingleModelFunction;
 	}
 
 	public void setSingleModelFunction(
-		Function<Path, SingleModel<T>> singleModelFunction) {
+		Function<HttpServletRequest, Function<Path, SingleModel<T>>>
+			singleModelFunction) {
 
 		_singleModelFunction = singleModelFunction;
 	}
 
-	private Consumer<Path> _deleteSingleModelConsumer;
-	private Function<Path, Function<Identifier, Page<T>>> _pageFunction;
-	private Function<Identifier, Function<Map<String, Object>, SingleModel<T>>>
-		_postSingleModelFunction;
-	private Function<Path, Function<Map<String, Object>, SingleModel<T>>>
-		_putSingleModelFunction;
-	private Function<Path, SingleModel<T>> _singleModelFunction;
+	private Function<HttpServletRequest, Function<List<Path>, Page<T>>>
+		_batchPageFunction;
+	private Function<HttpServletRequest, Consumer<Path>>
+		_deleteSingleModelConsumer;
+	private final HttpServletRequest _httpServletRequest;
+	private Function<HttpServletRequest,
+		Function<Path, Function<Identifier, Page<T>>>> _pageFunction;
+	private Function<HttpServletRequest, Function<Identifier,
+		Function<Map<String, Object>, SingleModel<T>>>>
+			_postSingleModelFunction;
+	private Function<HttpServletRequest, Function<Path,
+		Function<Map<String, Object>, SingleModel<T>>>>
+			_putSingleModelFunction;
+	private Function<HttpServletRequest, Function<Path, SingleModel<T>>>
+		_singleModelFunction;
 
 }
\ No newline at end of file
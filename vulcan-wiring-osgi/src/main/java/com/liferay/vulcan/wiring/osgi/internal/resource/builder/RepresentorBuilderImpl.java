@@ -15,16 +15,18 @@
 package com.liferay.vulcan.wiring.osgi.internal.resource.builder;
 
 import com.liferay.vulcan.alias.BinaryFunction;
+import com.liferay.vulcan.alias.IdentifierBinaryFunction;
 import com.liferay.vulcan.consumer.TriConsumer;
 import com.liferay.vulcan.language.Language;
+import com.liferay.vulcan.resource.BatchRelatedModel;
 import com.liferay.vulcan.resource.RelatedCollection;
 import com.liferay.vulcan.resource.RelatedModel;
 import com.liferay.vulcan.resource.Representor;
 import com.liferay.vulcan.resource.builder.RepresentorBuilder;
 import com.liferay.vulcan.resource.identifier.Identifier;
+import com.liferay.vulcan.wiring.osgi.util.DateFormatUtil;
 
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -34,10 +36,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.TimeZone;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 import java.util.stream.Stream;
 
 /**
@@ -90,6 +92,13 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			return _identifierFunction.apply(model);
 		}
 
+		@Override
+		public Map<String, IdentifierBinaryFunction<U>>
+			getIdentifierBinaryFunctions() {
+
+			return _identifierBinaryFunctions;
+		}
+
 		@Override
 		public Class<U> getIdentifierClass() {
 			return _identifierClass;
@@ -112,6 +121,11 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			return _localizedStringFunctions;
 		}
 
+		@Override
+		public Optional<Function<T, Date>> getModifiedDateFunctionOptional() {
+			return Optional.ofNullable(_modifiedDateFunction);
+		}
+
 		@Override
 		public Map<String, Function<T, Number>> getNumberFunctions() {
 			return _numberFunctions;
@@ -139,6 +153,11 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			return _types;
 		}
 
+		@Override
+		public Optional<Function<T, ?>> getVersionFunctionOptional() {
+			return Optional.ofNullable(_versionFunction);
+		}
+
 		private void _addBinary(String key, BinaryFunction<T> binaryFunction) {
 			_binaryFunctions.put(key, binaryFunction);
 		}
@@ -157,6 +176,38 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 				new RelatedModel<>(key, modelClass, modelFunction));
 		}
 
+		private <K, S> void _addEmbeddedModel(
+			String key, Class<S> modelClass, Function<T, K> keyFunction,
+			Function<Collection<K>, Map<K, S>> batchFunction) {
+
+			_embeddedRelatedModels.add(
+				new BatchRelatedModel<>(
+					key, modelClass, keyFunction, batchFunction));
+		}
+
+		private void _addIdentifierBinary(
+			String key, IdentifierBinaryFunction<U> identifierBinaryFunction) {
+
+			_identifierBinaryFunctions.put(key, identifierBinaryFunction);
+
+			_binaryFunctions.put(
+				key,
+				model -> identifierBinaryFunction.apply(
+					_identifierFunction.apply(model)));
+		}
+
+		private <S> void _addIdentifierRelatedCollection(
+			String key, Class<S> modelClass,
+			Function<U, Identifier> identifierFunction) {
+
+			_relatedCollections.add(
+				new RelatedCollection<>(
+					key, modelClass,
+					model -> identifierFunction.apply(
+						_identifierFunction.apply(model)),
+					(Function<Identifier, Identifier>)identifierFunction));
+		}
+
 		private void _addLink(String key, String url) {
 			_links.put(key, url);
 		}
@@ -169,12 +220,25 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 				new RelatedModel<>(key, modelClass, modelFunction));
 		}
 
+		private <K, S> void _addLinkedModel(
+			String key, Class<S> modelClass, Function<T, K> keyFunction,
+			Function<Collection<K>, Map<K, S>> batchFunction) {
+
+			_linkedRelatedModels.add(
+				new BatchRelatedModel<>(
+					key, modelClass, keyFunction, batchFunction));
+		}
+
 		private void _addLocalizedString(
 			String key, BiFunction<T, Language, String> fieldFunction) {
 
 			_localizedStringFunctions.put(key, fieldFunction);
 		}
 
+		private void _addModifiedDate(Function<T, Date> dateFunction) {
+			_modifiedDateFunction = dateFunction;
+		}
+
 		private void _addNumber(String key, Function<T, Number> fieldFunction) {
 			_numberFunctions.put(key, fieldFunction);
 		}
@@ -195,18 +259,25 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			_types.add(type);
 		}
 
+		private void _addVersion(Function<T, ?> versionFunction) {
+			_versionFunction = versionFunction;
+		}
+
 		private Map<String, BinaryFunction<T>> _binaryFunctions =
 			new HashMap<>();
 		private Map<String, Function<T, Boolean>> _booleanFunctions =
 			new HashMap<>();
 		private List<RelatedModel<T, ?>> _embeddedRelatedModels =
 			new ArrayList<>();
+		private Map<String, IdentifierBinaryFunction<U>>
+			_identifierBinaryFunctions = new HashMap<>();
 		private final Function<T, U> _identifierFunction;
 		private List<RelatedModel<T, ?>> _linkedRelatedModels =
 			new ArrayList<>();
 		private Map<String, String> _links = new HashMap<>();
 		private Map<String, BiFunction<T, Language, String>>
 			_localizedStringFunctions = new HashMap<>();
+		private Function<T, Date> _modifiedDateFunction;
 		private Map<String, Function<T, Number>> _numberFunctions =
 			new HashMap<>();
 		private List<RelatedCollection<T, ?>> _relatedCollections =
@@ -214,6 +285,7 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 		private Map<String, Function<T, String>> _stringFunctions =
 			new HashMap<>();
 		private List<String> _types = new ArrayList<>();
+		private Function<T, ?> _versionFunction;
 
 	}
 
@@ -244,6 +316,23 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			return this;
 		}
 
+		@Override
+		public <K, S> FirstStep<T, U> addBidirectionalModel(
+			String key, String relatedKey, Class<S> modelClass,
+			Function<T, K> keyFunction,
+			Function<Collection<K>, Map<K, S>> batchFunction,
+			Function<S, Identifier> identifierFunction) {
+
+			_representor._addLinkedModel(
+				key, modelClass, keyFunction, batchFunction);
+
+			_addRelatedCollectionTriConsumer.accept(
+				relatedKey, modelClass,
+				(Function<Object, Identifier>)identifierFunction);
+
+			return this;
+		}
+
 		@Override
 		public FirstStep<T, U> addBinary(
 			String key, BinaryFunction<T> binaryFunction) {
@@ -266,32 +355,72 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 		public FirstStep<T, U> addDate(
 			String key, Function<T, Date> dateFunction) {
 
-			Function<Date, String> formatFunction = date -> {
-				if (date == null) {
-					return null;
-				}
+			_representor._addString(
+				key, model -> DateFormatUtil.format(dateFunction.apply(model)));
 
-				TimeZone timeZone = TimeZone.getTimeZone("UTC");
+			return this;
+		}
 
-				DateFormat dateFormat = new SimpleDateFormat(
-					"yyyy-MM-dd'T'HH:mm'Z'");
+		@Override
+		public <S> FirstStep<T, U> addEmbeddedModel(
+			String key, Class<S> modelClass,
+			Function<T, Optional<S>> modelFunction) {
+
+			_representor._addEmbeddedModel(key, modelClass, modelFunction);
 
-				dateFormat.setTimeZone(timeZone);
+			return this;
+		}
 
-				return dateFormat.format(date);
-			};
+		@Override
+		public <K, S> FirstStep<T, U> addEmbeddedModel(
+			String key, Class<S> modelClass, Function<T, K> keyFunction,
+			Function<Collection<K>, Map<K, S>> batchFunction) {
 
-			_representor._addString(key, dateFunction.andThen(formatFunction));
+			_representor._addEmbeddedModel(
+				key, modelClass, keyFunction, batchFunction);
 
 			return this;
 		}
 
 		@Override
-		public <S> FirstStep<T, U> addEmbeddedModel(
+		public FirstStep<T, U> addEpochMillis(
+			String key, ToLongFunction<T> epochMillisFunction) {
+
+			_representor._addString(
+				key,
+				model -> DateFormatUtil.format(
+					epochMillisFunction.applyAsLong(model)));
+
+			return this;
+		}
+
+		@Override
+		public FirstStep<T, U> addIdentifierBinary(
+			String key, IdentifierBinaryFunction<U> identifierBinaryFunction) {
+
+			_representor._addIdentifierBinary(key, identifierBinaryFunction);
+
+			return this;
+		}
+
+		@Override
+		public <S> FirstStep<T, U> addIdentifierRelatedCollection(
 			String key, Class<S> modelClass,
-			Function<T, Optional<S>> modelFunction) {
+			Function<U, Identifier> identifierFunction) {
 
-			_representor._addEmbeddedModel(key, modelClass, modelFunction);
+			_representor._addIdentifierRelatedCollection(
+				key, modelClass, identifierFunction);
+
+			return this;
+		}
+
+		@Override
+		public FirstStep<T, U> addInstant(
+			String key, Function<T, Instant> instantFunction) {
+
+			_representor._addString(
+				key,
+				model -> DateFormatUtil.format(instantFunction.apply(model)));
 
 			return this;
 		}
@@ -313,6 +442,17 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			return this;
 		}
 
+		@Override
+		public <K, S> FirstStep<T, U> addLinkedModel(
+			String key, Class<S> modelClass, Function<T, K> keyFunction,
+			Function<Collection<K>, Map<K, S>> batchFunction) {
+
+			_representor._addLinkedModel(
+				key, modelClass, keyFunction, batchFunction);
+
+			return this;
+		}
+
 		@Override
 		public FirstStep<T, U> addLocalizedString(
 			String key, BiFunction<T, Language, String> stringFunction) {
@@ -322,6 +462,15 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			return this;
 		}
 
+		@Override
+		public FirstStep<T, U> addModifiedDate(
+			String key, Function<T, Date> dateFunction) {
+
+			_representor._addModifiedDate(dateFunction);
+
+			return addDate(key, dateFunction);
+		}
+
 		@Override
 		public FirstStep<T, U> addNumber(
 			String key, Function<T, Number> numberFunction) {
@@ -358,6 +507,13 @@ public class RepresentorBuilderImpl<T, U extends Identifier>
 			return this;
 		}
 
+		@Override
+		public FirstStep<T, U> addVersion(Function<T, ?> versionFunction) {
+			_representor._addVersion(versionFunction);
+
+			return this;
+		}
+
 		@Override
 		public Representor<T, U> build() {
 			return _representor;
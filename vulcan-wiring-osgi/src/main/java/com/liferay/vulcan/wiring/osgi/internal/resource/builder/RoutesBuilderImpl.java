@@ -34,6 +34,9 @@ import com.liferay.vulcan.function.PentaFunction;
 import com.liferay.vulcan.function.TetraFunction;
 import com.liferay.vulcan.function.TriFunction;
 import com.liferay.vulcan.function.UndecaFunction;
+import com.liferay.vulcan.pagination.CursorPageItems;
+import com.liferay.vulcan.pagination.CursorPagination;
+import com.liferay.vulcan.pagination.Page;
 import com.liferay.vulcan.pagination.PageItems;
 import com.liferay.vulcan.pagination.Pagination;
 import com.liferay.vulcan.pagination.SingleModel;
@@ -44,12 +47,17 @@ import com.liferay.vulcan.uri.Path;
 import com.liferay.vulcan.wiring.osgi.internal.pagination.PageImpl;
 import com.liferay.vulcan.wiring.osgi.internal.resource.RoutesImpl;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.servlet.http.HttpServletRequest;
 
 /**
  * @author Alejandro Hernández
@@ -59,7 +67,8 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 
 	public RoutesBuilderImpl(
 		Class<T> modelClass, Class<U> singleModelIdentifierClass,
-		Function<Class<?>, Optional<?>> provideClassFunction,
+		BiFunction<Class<?>, HttpServletRequest, Optional<?>>
+			provideClassFunction,
 		BiFunction<Class<? extends Identifier>, Path,
 			Optional<? extends Identifier>> identifierFunction) {
 
@@ -69,6 +78,58 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		_identifierFunction = identifierFunction;
 	}
 
+	@Override
+	public <V extends Identifier> RoutesBuilder<T, U>
+		addCollectionCursorPageGetter(
+			BiFunction<CursorPagination, V, CursorPageItems<T>> biFunction,
+			Class<V> identifierClass) {
+
+		Function<Identifier, V> collectionIdentifierFunction =
+			_getCollectionIdentifierFunction(identifierClass);
+
+		_routesImpl.setPageFunction(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
+				identifier -> {
+					CursorPagination cursorPagination = _provideClass(
+						CursorPagination.class, httpServletRequest);
+
+					CursorPageItems<T> cursorPageItems = biFunction.apply(
+						cursorPagination, identifier);
+
+					return _getCursorPage(
+						cursorPagination, cursorPageItems, path);
+				}));
+
+		return this;
+	}
+
+	@Override
+	public <V extends Identifier, A> RoutesBuilder<T, U>
+		addCollectionCursorPageGetter(
+			TriFunction<CursorPagination, V, A, CursorPageItems<T>>
+				triFunction,
+			Class<V> identifierClass, Class<A> aClass) {
+
+		Function<Identifier, V> collectionIdentifierFunction =
+			_getCollectionIdentifierFunction(identifierClass);
+
+		_routesImpl.setPageFunction(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
+				identifier -> {
+					CursorPagination cursorPagination = _provideClass(
+						CursorPagination.class, httpServletRequest);
+					A a = _provideClass(aClass, httpServletRequest);
+
+					CursorPageItems<T> cursorPageItems = triFunction.apply(
+						cursorPagination, identifier, a);
+
+					return _getCursorPage(
+						cursorPagination, cursorPageItems, path);
+				}));
+
+		return this;
+	}
+
 	@Override
 	public <V extends Identifier> RoutesBuilder<T, U> addCollectionPageGetter(
 		BiFunction<Pagination, V, PageItems<T>> biFunction,
@@ -78,18 +139,18 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
+					Pagination pagination = _provideClass(
+						Pagination.class, httpServletRequest);
 
 					PageItems<T> pageItems = biFunction.apply(
 						pagination, identifier);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination.getItemsPerPage(),
+						pagination.getPageNumber(),
+						pagination.isTotalCountRequested(), path);
 				}));
 
 		return this;
@@ -108,26 +169,26 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
-					H h = _provideClass(hClass);
+					Pagination pagination = _provideClass(
+						Pagination.class, httpServletRequest);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
+					G g = _provideClass(gClass, httpServletRequest);
+					H h = _provideClass(hClass, httpServletRequest);
 
 					PageItems<T> pageItems = decaFunction.apply(
 						pagination, identifier, a, b, c, d, e, f, g, h);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination.getItemsPerPage(),
+						pagination.getPageNumber(),
+						pagination.isTotalCountRequested(), path);
 				}));
 
 		return this;
@@ -146,25 +207,25 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
+					Pagination pagination = _provideClass(
+						Pagination.class, httpServletRequest);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
+					G g = _provideClass(gClass, httpServletRequest);
 
 					PageItems<T> pageItems = enneaFunction.apply(
 						pagination, identifier, a, b, c, d, e, f, g);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination.getItemsPerPage(),
+						pagination.getPageNumber(),
+						pagination.isTotalCountRequested(), path);
 				}));
 
 		return this;
@@ -182,23 +243,23 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
+					Pagination pagination = _provideClass(
+						Pagination.class, httpServletRequest);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
 
 					PageItems<T> pageItems = heptaFunction.apply(
 						pagination, identifier, a, b, c, d, e);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination.getItemsPerPage(),
+						pagination.getPageNumber(),
+						pagination.isTotalCountRequested(), path);
 				}));
 
 		return this;
@@ -215,22 +276,22 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
+					Pagination pagination = _provideClass(
+						Pagination.class, httpServletRequest);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
 
 					PageItems<T> pageItems = hexaFunction.apply(
 						pagination, identifier, a, b, c, d);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination.getItemsPerPage(),
+						pagination.getPageNumber(),
+						pagination.isTotalCountRequested(), path);
 				}));
 
 		return this;
@@ -249,24 +310,24 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
+					Pagination pagination = _provideClass(
+						Pagination.class, httpServletRequest);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
 
 					PageItems<T> pageItems = octaFunction.apply(
 						pagination, identifier, a, b, c, d, e, f);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination.getItemsPerPage(),
+						pagination.getPageNumber(),
+						pagination.isTotalCountRequested(), path);
 				}));
 
 		return this;
@@ -283,21 +344,21 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
+					Pagination pagination = _provideClass(
+						Pagination.class, httpServletRequest);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
 
 					PageItems<T> pageItems = pentaFunction.apply(
 						pagination, identifier, a, b, c);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination.getItemsPerPage(),
+						pagination.getPageNumber(),
+						pagination.isTotalCountRequested(), path);
 				}));
 
 		return this;
@@ -313,20 +374,20 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
+					Pagination pagination = _provideClass(
+						Pagination.class, httpServletRequest);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
 
 					PageItems<T> pageItems = tetraFunction.apply(
 						pagination, identifier, a, b);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination.getItemsPerPage(),
+						pagination.getPageNumber(),
+						pagination.isTotalCountRequested(), path);
 				}));
 
 		return this;
@@ -342,24 +403,65 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPageFunction(
-			path -> collectionIdentifierFunction.andThen(
+			httpServletRequest -> path -> collectionIdentifierFunction.andThen(
 				identifier -> {
-					Pagination pagination = _provideClass(Pagination.class);
-					A a = _provideClass(aClass);
+					Pagination pagination = _provideClass(
+						Pagination.class, httpServletRequest);
+					A a = _provideClass(aClass, httpServletRequest);
 
 					PageItems<T> pageItems = triFunction.apply(
 						pagination, identifier, a);
 
 					return new PageImpl<>(
-						_modelClass, pageItems.getItems(),
-						pagination.getItemsPerPage(),
-						pagination.getPageNumber(), pageItems.getTotalCount(),
-						path);
+						_modelClass, pageItems, pagination.getItemsPerPage(),
+						pagination.getPageNumber(),
+						pagination.isTotalCountRequested(), path);
 				}));
 
 		return this;
 	}
 
+	@Override
+	public <A> RoutesBuilder<T, U> addCollectionPageItemBatchGetter(
+		BiFunction<List<U>, A, List<T>> biFunction, Class<A> aClass) {
+
+		Function<List<Path>, List<U>> identifiersFunction =
+			_convertIdentifiers(_singleModelIdentifierClass);
+
+		_routesImpl.setBatchPageFunction(
+			httpServletRequest -> identifiersFunction.andThen(
+				ids -> {
+					A a = _provideClass(aClass, httpServletRequest);
+
+					return biFunction.apply(ids, a);
+				}
+			).andThen(
+				this::_getBatchPage
+			));
+
+		return this;
+	}
+
+	@Override
+	public RoutesBuilder<T, U> addCollectionPageItemBatchGetter(
+		Function<List<U>, List<T>> function) {
+
+		Function<List<Path>, List<U>> identifiersFunction =
+			_convertIdentifiers(_singleModelIdentifierClass);
+
+		Function<List<Path>, Page<T>> batchPageFunction =
+			identifiersFunction.andThen(
+				function
+			).andThen(
+				this::_getBatchPage
+			);
+
+		_routesImpl.setBatchPageFunction(
+			httpServletRequest -> batchPageFunction);
+
+		return this;
+	}
+
 	@Override
 	public <V extends Identifier> RoutesBuilder<T, U>
 		addCollectionPageItemCreator(
@@ -370,7 +472,7 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
 					T t = biFunction.apply(v, body);
 
@@ -393,16 +495,16 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
-					H h = _provideClass(hClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
+					G g = _provideClass(gClass, httpServletRequest);
+					H h = _provideClass(hClass, httpServletRequest);
 
 					T t = decaFunction.apply(v, body, a, b, c, d, e, f, g, h);
 
@@ -425,15 +527,15 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
+					G g = _provideClass(gClass, httpServletRequest);
 
 					T t = enneaFunction.apply(v, body, a, b, c, d, e, f, g);
 
@@ -455,13 +557,13 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
 
 					T t = heptaFunction.apply(v, body, a, b, c, d, e);
 
@@ -482,12 +584,12 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
 
 					T t = hexaFunction.apply(v, body, a, b, c, d);
 
@@ -510,14 +612,14 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
 
 					T t = octaFunction.apply(v, body, a, b, c, d, e, f);
 
@@ -538,11 +640,11 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
 
 					T t = pentaFunction.apply(v, body, a, b, c);
 
@@ -562,10 +664,10 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
 
 					T t = tetraFunction.apply(v, body, a, b);
 
@@ -585,9 +687,9 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
+					A a = _provideClass(aClass, httpServletRequest);
 
 					T t = triFunction.apply(v, body, a);
 
@@ -610,17 +712,17 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_getCollectionIdentifierFunction(identifierClass);
 
 		_routesImpl.setPostSingleModelFunction(
-			collectionIdentifierFunction.andThen(
+			httpServletRequest -> collectionIdentifierFunction.andThen(
 				v -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
-					H h = _provideClass(hClass);
-					I i = _provideClass(iClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
+					G g = _provideClass(gClass, httpServletRequest);
+					H h = _provideClass(hClass, httpServletRequest);
+					I i = _provideClass(iClass, httpServletRequest);
 
 					T t = undecaFunction.apply(
 						v, body, a, b, c, d, e, f, g, h, i);
@@ -638,15 +740,16 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-
-				return biFunction.apply(id, a);
-			});
-
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = _provideClass(aClass, httpServletRequest);
+
+					return biFunction.apply(id, a);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -662,23 +765,24 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-				D d = _provideClass(dClass);
-				E e = _provideClass(eClass);
-				F f = _provideClass(fClass);
-				G g = _provideClass(gClass);
-				H h = _provideClass(hClass);
-				I i = _provideClass(iClass);
-
-				return decaFunction.apply(id, a, b, c, d, e, f, g, h, i);
-			});
-
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
+					G g = _provideClass(gClass, httpServletRequest);
+					H h = _provideClass(hClass, httpServletRequest);
+					I i = _provideClass(iClass, httpServletRequest);
+
+					return decaFunction.apply(id, a, b, c, d, e, f, g, h, i);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -694,22 +798,23 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-				D d = _provideClass(dClass);
-				E e = _provideClass(eClass);
-				F f = _provideClass(fClass);
-				G g = _provideClass(gClass);
-				H h = _provideClass(hClass);
-
-				return enneaFunction.apply(id, a, b, c, d, e, f, g, h);
-			});
-
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
+					G g = _provideClass(gClass, httpServletRequest);
+					H h = _provideClass(hClass, httpServletRequest);
+
+					return enneaFunction.apply(id, a, b, c, d, e, f, g, h);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -723,8 +828,11 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 
 		Function<Path, T> modelFunction = identifierFunction.andThen(function);
 
+		Function<Path, SingleModel<T>> singleModelFunction =
+			modelFunction.andThen(_getCreateSingleModelFunction());
+
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> singleModelFunction);
 
 		return this;
 	}
@@ -738,20 +846,21 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-				D d = _provideClass(dClass);
-				E e = _provideClass(eClass);
-				F f = _provideClass(fClass);
-
-				return heptaFunction.apply(id, a, b, c, d, e, f);
-			});
-
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
+
+					return heptaFunction.apply(id, a, b, c, d, e, f);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -764,19 +873,20 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-				D d = _provideClass(dClass);
-				E e = _provideClass(eClass);
-
-				return hexaFunction.apply(id, a, b, c, d, e);
-			});
-
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+
+					return hexaFunction.apply(id, a, b, c, d, e);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -791,21 +901,22 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-				D d = _provideClass(dClass);
-				E e = _provideClass(eClass);
-				F f = _provideClass(fClass);
-				G g = _provideClass(gClass);
-
-				return octaFunction.apply(id, a, b, c, d, e, f, g);
-			});
-
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
+					G g = _provideClass(gClass, httpServletRequest);
+
+					return octaFunction.apply(id, a, b, c, d, e, f, g);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -818,18 +929,19 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-				D d = _provideClass(dClass);
-
-				return pentaFunction.apply(id, a, b, c, d);
-			});
-
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+
+					return pentaFunction.apply(id, a, b, c, d);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -842,17 +954,18 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-				C c = _provideClass(cClass);
-
-				return tetraFunction.apply(id, a, b, c);
-			});
-
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+
+					return tetraFunction.apply(id, a, b, c);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -864,16 +977,17 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Function<Path, T> modelFunction = identifierFunction.andThen(
-			id -> {
-				A a = _provideClass(aClass);
-				B b = _provideClass(bClass);
-
-				return triFunction.apply(id, a, b);
-			});
-
 		_routesImpl.setSingleModelFunction(
-			modelFunction.andThen(_getCreateSingleModelFunction()));
+			httpServletRequest -> identifierFunction.andThen(
+				id -> {
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+
+					return triFunction.apply(id, a, b);
+				}
+			).andThen(
+				_getCreateSingleModelFunction()
+			));
 
 		return this;
 	}
@@ -885,14 +999,13 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-
-			biConsumer.accept(u, a);
-		};
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = _provideClass(aClass, httpServletRequest);
 
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+				biConsumer.accept(u, a);
+			});
 
 		return this;
 	}
@@ -910,7 +1023,8 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			consumer.accept(u);
 		};
 
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> deleteSingleModelConsumer);
 
 		return this;
 	}
@@ -926,22 +1040,21 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-			D d = _provideClass(dClass);
-			E e = _provideClass(eClass);
-			F f = _provideClass(fClass);
-			G g = _provideClass(gClass);
-			H h = _provideClass(hClass);
-			I i = _provideClass(iClass);
-
-			decaConsumer.accept(u, a, b, c, d, e, f, g, h, i);
-		};
-
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = _provideClass(aClass, httpServletRequest);
+				B b = _provideClass(bClass, httpServletRequest);
+				C c = _provideClass(cClass, httpServletRequest);
+				D d = _provideClass(dClass, httpServletRequest);
+				E e = _provideClass(eClass, httpServletRequest);
+				F f = _provideClass(fClass, httpServletRequest);
+				G g = _provideClass(gClass, httpServletRequest);
+				H h = _provideClass(hClass, httpServletRequest);
+				I i = _provideClass(iClass, httpServletRequest);
+
+				decaConsumer.accept(u, a, b, c, d, e, f, g, h, i);
+			});
 
 		return this;
 	}
@@ -957,21 +1070,20 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-			D d = _provideClass(dClass);
-			E e = _provideClass(eClass);
-			F f = _provideClass(fClass);
-			G g = _provideClass(gClass);
-			H h = _provideClass(hClass);
-
-			enneaConsumer.accept(u, a, b, c, d, e, f, g, h);
-		};
-
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = _provideClass(aClass, httpServletRequest);
+				B b = _provideClass(bClass, httpServletRequest);
+				C c = _provideClass(cClass, httpServletRequest);
+				D d = _provideClass(dClass, httpServletRequest);
+				E e = _provideClass(eClass, httpServletRequest);
+				F f = _provideClass(fClass, httpServletRequest);
+				G g = _provideClass(gClass, httpServletRequest);
+				H h = _provideClass(hClass, httpServletRequest);
+
+				enneaConsumer.accept(u, a, b, c, d, e, f, g, h);
+			});
 
 		return this;
 	}
@@ -985,19 +1097,18 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-			D d = _provideClass(dClass);
-			E e = _provideClass(eClass);
-			F f = _provideClass(fClass);
-
-			heptaConsumer.accept(u, a, b, c, d, e, f);
-		};
-
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = _provideClass(aClass, httpServletRequest);
+				B b = _provideClass(bClass, httpServletRequest);
+				C c = _provideClass(cClass, httpServletRequest);
+				D d = _provideClass(dClass, httpServletRequest);
+				E e = _provideClass(eClass, httpServletRequest);
+				F f = _provideClass(fClass, httpServletRequest);
+
+				heptaConsumer.accept(u, a, b, c, d, e, f);
+			});
 
 		return this;
 	}
@@ -1010,18 +1121,17 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-			D d = _provideClass(dClass);
-			E e = _provideClass(eClass);
-
-			hexaConsumer.accept(u, a, b, c, d, e);
-		};
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = _provideClass(aClass, httpServletRequest);
+				B b = _provideClass(bClass, httpServletRequest);
+				C c = _provideClass(cClass, httpServletRequest);
+				D d = _provideClass(dClass, httpServletRequest);
+				E e = _provideClass(eClass, httpServletRequest);
 
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+				hexaConsumer.accept(u, a, b, c, d, e);
+			});
 
 		return this;
 	}
@@ -1036,20 +1146,19 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-			D d = _provideClass(dClass);
-			E e = _provideClass(eClass);
-			F f = _provideClass(fClass);
-			G g = _provideClass(gClass);
-
-			octaConsumer.accept(u, a, b, c, d, e, f, g);
-		};
-
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = _provideClass(aClass, httpServletRequest);
+				B b = _provideClass(bClass, httpServletRequest);
+				C c = _provideClass(cClass, httpServletRequest);
+				D d = _provideClass(dClass, httpServletRequest);
+				E e = _provideClass(eClass, httpServletRequest);
+				F f = _provideClass(fClass, httpServletRequest);
+				G g = _provideClass(gClass, httpServletRequest);
+
+				octaConsumer.accept(u, a, b, c, d, e, f, g);
+			});
 
 		return this;
 	}
@@ -1062,17 +1171,16 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-			D d = _provideClass(dClass);
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = _provideClass(aClass, httpServletRequest);
+				B b = _provideClass(bClass, httpServletRequest);
+				C c = _provideClass(cClass, httpServletRequest);
+				D d = _provideClass(dClass, httpServletRequest);
 
-			pentaConsumer.accept(u, a, b, c, d);
-		};
-
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+				pentaConsumer.accept(u, a, b, c, d);
+			});
 
 		return this;
 	}
@@ -1085,16 +1193,15 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-			C c = _provideClass(cClass);
-
-			tetraConsumer.accept(u, a, b, c);
-		};
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = _provideClass(aClass, httpServletRequest);
+				B b = _provideClass(bClass, httpServletRequest);
+				C c = _provideClass(cClass, httpServletRequest);
 
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+				tetraConsumer.accept(u, a, b, c);
+			});
 
 		return this;
 	}
@@ -1106,15 +1213,14 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		Function<Path, U> identifierFunction = _convertIdentifier(
 			_singleModelIdentifierClass);
 
-		Consumer<Path> deleteSingleModelConsumer = path -> {
-			U u = identifierFunction.apply(path);
-			A a = _provideClass(aClass);
-			B b = _provideClass(bClass);
-
-			triConsumer.accept(u, a, b);
-		};
+		_routesImpl.setDeleteSingleModelConsumer(
+			httpServletRequest -> path -> {
+				U u = identifierFunction.apply(path);
+				A a = _provideClass(aClass, httpServletRequest);
+				B b = _provideClass(bClass, httpServletRequest);
 
-		_routesImpl.setDeleteSingleModelConsumer(deleteSingleModelConsumer);
+				triConsumer.accept(u, a, b);
+			});
 
 		return this;
 	}
@@ -1127,7 +1233,7 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_singleModelIdentifierClass);
 
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
 					T t = biFunction.apply(id, body);
 
@@ -1150,16 +1256,16 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_singleModelIdentifierClass);
 
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
-					H h = _provideClass(hClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
+					G g = _provideClass(gClass, httpServletRequest);
+					H h = _provideClass(hClass, httpServletRequest);
 
 					T t = decaFunction.apply(id, body, a, b, c, d, e, f, g, h);
 
@@ -1181,15 +1287,15 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_singleModelIdentifierClass);
 
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
+					G g = _provideClass(gClass, httpServletRequest);
 
 					T t = enneaFunction.apply(id, body, a, b, c, d, e, f, g);
 
@@ -1209,13 +1315,13 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_singleModelIdentifierClass);
 
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
 
 					T t = heptaFunction.apply(id, body, a, b, c, d, e);
 
@@ -1234,12 +1340,12 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_singleModelIdentifierClass);
 
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
 
 					T t = hexaFunction.apply(id, body, a, b, c, d);
 
@@ -1259,14 +1365,14 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_singleModelIdentifierClass);
 
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
 
 					T t = octaFunction.apply(id, body, a, b, c, d, e, f);
 
@@ -1285,11 +1391,11 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_singleModelIdentifierClass);
 
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
 
 					T t = pentaFunction.apply(id, body, a, b, c);
 
@@ -1308,10 +1414,10 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_singleModelIdentifierClass);
 
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
 
 					T t = tetraFunction.apply(id, body, a, b);
 
@@ -1330,9 +1436,9 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_singleModelIdentifierClass);
 
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
+					A a = _provideClass(aClass, httpServletRequest);
 
 					T t = triFunction.apply(id, body, a);
 
@@ -1355,17 +1461,17 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 			_singleModelIdentifierClass);
 
 		_routesImpl.setPutSingleModelFunction(
-			identifierFunction.andThen(
+			httpServletRequest -> identifierFunction.andThen(
 				id -> body -> {
-					A a = _provideClass(aClass);
-					B b = _provideClass(bClass);
-					C c = _provideClass(cClass);
-					D d = _provideClass(dClass);
-					E e = _provideClass(eClass);
-					F f = _provideClass(fClass);
-					G g = _provideClass(gClass);
-					H h = _provideClass(hClass);
-					I i = _provideClass(iClass);
+					A a = _provideClass(aClass, httpServletRequest);
+					B b = _provideClass(bClass, httpServletRequest);
+					C c = _provideClass(cClass, httpServletRequest);
+					D d = _provideClass(dClass, httpServletRequest);
+					E e = _provideClass(eClass, httpServletRequest);
+					F f = _provideClass(fClass, httpServletRequest);
+					G g = _provideClass(gClass, httpServletRequest);
+					H h = _provideClass(hClass, httpServletRequest);
+					I i = _provideClass(iClass, httpServletRequest);
 
 					T t = undecaFunction.apply(
 						id, body, a, b, c, d, e, f, g, h, i);
@@ -1396,6 +1502,27 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		};
 	}
 
+	private <V extends Identifier> Function<List<Path>, List<V>>
+		_convertIdentifiers(Class<V> identifierClass) {
+
+		Function<Path, V> identifierFunction = _convertIdentifier(
+			identifierClass);
+
+		return paths -> {
+			Stream<Path> stream = paths.stream();
+
+			return stream.map(
+				identifierFunction
+			).collect(
+				Collectors.toList()
+			);
+		};
+	}
+
+	private Page<T> _getBatchPage(List<T> items) {
+		return new PageImpl<>(_modelClass, items, new Path());
+	}
+
 	private <V extends Identifier> Function<Identifier, V>
 		_getCollectionIdentifierFunction(Class<V> identifierClass) {
 
@@ -1414,8 +1541,29 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 		return t -> new SingleModel<>(t, _modelClass);
 	}
 
-	private <V> V _provideClass(Class<V> clazz) {
-		Optional<?> optional = _provideClassFunction.apply(clazz);
+	private Page<T> _getCursorPage(
+		CursorPagination cursorPagination, CursorPageItems<T> cursorPageItems,
+		Path path) {
+
+		Optional<String> cursorOptional =
+			cursorPagination.getCursorOptional();
+		Optional<String> nextCursorOptional =
+			cursorPageItems.getNextCursorOptional();
+		Optional<String> previousCursorOptional =
+			cursorPageItems.getPreviousCursorOptional();
+
+		return new PageImpl<>(
+			_modelClass, cursorPageItems.getItems(),
+			cursorPagination.getItemsPerPage(), cursorOptional.orElse(null),
+			nextCursorOptional.orElse(null),
+			previousCursorOptional.orElse(null), path);
+	}
+
+	private <V> V _provideClass(
+		Class<V> clazz, HttpServletRequest httpServletRequest) {
+
+		Optional<?> optional = _provideClassFunction.apply(
+			clazz, httpServletRequest);
 
 		return optional.map(
 			provided -> (V)provided
@@ -1427,7 +1575,8 @@ public class RoutesBuilderImpl<T, U extends Identifier>
 	private final BiFunction<Class<? extends Identifier>, Path,
 		Optional<? extends Identifier>> _identifierFunction;
 	private final Class<T> _modelClass;
-	private final Function<Class<?>, Optional<?>> _provideClassFunction;
+	private final BiFunction<Class<?>, HttpServletRequest, Optional<?>>
+		_provideClassFunction;
 	private final RoutesImpl<T> _routesImpl = new RoutesImpl<>();
 	private final Class<U> _singleModelIdentifierClass;
 
@@ -18,10 +18,12 @@ import com.liferay.vulcan.error.VulcanDeveloperError;
 import com.liferay.vulcan.result.Try;
 import com.liferay.vulcan.wiring.osgi.util.GenericUtil;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 import org.osgi.framework.Bundle;
@@ -32,6 +34,12 @@ import org.osgi.framework.ServiceReference;
 /**
  * Manages services that have a generic type.
  *
+ * <p>
+ * The services are kept in an immutable snapshot that is replaced, under a
+ * lock, each time a service is added or removed. Reading a service never
+ * locks and always sees a consistent snapshot.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 public abstract class BaseManager<T> {
@@ -62,16 +70,21 @@ public abstract class BaseManager<T> {
 
 		Class<U> genericClass = _getGenericClass(service);
 
-		_services.computeIfAbsent(
-			genericClass.getName(), name -> new TreeSet<>());
-
-		TreeSet<ServiceReferenceServiceTuple<T>> serviceReferenceServiceTuples =
-			_services.get(genericClass.getName());
-
 		ServiceReferenceServiceTuple<T> serviceReferenceServiceTuple =
 			new ServiceReferenceServiceTuple<>(serviceReference, service);
 
-		serviceReferenceServiceTuples.add(serviceReferenceServiceTuple);
+		_updateServices(
+			genericClass.getName(),
+			serviceReferenceServiceTuples -> {
+				if (!serviceReferenceServiceTuples.contains(
+						serviceReferenceServiceTuple)) {
+
+					serviceReferenceServiceTuples.add(
+						serviceReferenceServiceTuple);
+
+					Collections.sort(serviceReferenceServiceTuples);
+				}
+			});
 
 		return Optional.of(genericClass);
 	}
@@ -96,16 +109,16 @@ public abstract class BaseManager<T> {
 	 * @return the service, if present; {@code Optional#empty()} otherwise
 	 */
 	protected Optional<T> getServiceOptional(String className) {
-		TreeSet<ServiceReferenceServiceTuple<T>> serviceReferenceServiceTuples =
-			_services.get(className);
+		Map<String, List<ServiceReferenceServiceTuple<T>>> services =
+			_services;
 
-		Optional<TreeSet<ServiceReferenceServiceTuple<T>>> optional =
-			Optional.ofNullable(serviceReferenceServiceTuples);
+		Optional<List<ServiceReferenceServiceTuple<T>>> optional =
+			Optional.ofNullable(services.get(className));
 
 		return optional.filter(
-			treeSet -> !treeSet.isEmpty()
+			list -> !list.isEmpty()
 		).map(
-			TreeSet::first
+			list -> list.get(0)
 		).map(
 			ServiceReferenceServiceTuple::getService
 		);
@@ -151,21 +164,21 @@ public abstract class BaseManager<T> {
 
 		Class<U> genericClass = _getGenericClass(service);
 
-		TreeSet<ServiceReferenceServiceTuple<T>> serviceReferenceServiceTuples =
-			_services.get(genericClass.getName());
-
 		beforeRemovingConsumer.accept(service);
 
-		if (serviceReferenceServiceTuples != null) {
-			serviceReferenceServiceTuples.removeIf(
-				serviceReferenceServiceTuple -> {
-					if (serviceReferenceServiceTuple.getService() == service) {
-						return true;
-					}
+		_updateServices(
+			genericClass.getName(),
+			serviceReferenceServiceTuples ->
+				serviceReferenceServiceTuples.removeIf(
+					serviceReferenceServiceTuple -> {
+						if (serviceReferenceServiceTuple.getService() ==
+								service) {
 
-					return false;
-				});
-		}
+							return true;
+						}
+
+						return false;
+					}));
 
 		return Optional.of(genericClass);
 	}
@@ -181,9 +194,34 @@ public abstract class BaseManager<T> {
 				serviceClass));
 	}
 
+	private synchronized void _updateServices(
+		String className,
+		Consumer<List<ServiceReferenceServiceTuple<T>>> consumer) {
+
+		Map<String, List<ServiceReferenceServiceTuple<T>>> services =
+			new HashMap<>(_services);
+
+		List<ServiceReferenceServiceTuple<T>> serviceReferenceServiceTuples =
+			new ArrayList<>(
+				services.getOrDefault(className, Collections.emptyList()));
+
+		consumer.accept(serviceReferenceServiceTuples);
+
+		if (serviceReferenceServiceTuples.isEmpty()) {
+			services.remove(className);
+		}
+		else {
+			services.put(
+				className,
+				Collections.unmodifiableList(serviceReferenceServiceTuples));
+		}
+
+		_services = Collections.unmodifiableMap(services);
+	}
+
 	private final BundleContext _bundleContext;
-	private final Map<String, TreeSet<ServiceReferenceServiceTuple<T>>>
-		_services = new ConcurrentHashMap<>();
+	private volatile Map<String, List<ServiceReferenceServiceTuple<T>>>
+		_services = Collections.emptyMap();
 
 	private static class ServiceReferenceServiceTuple<T>
 		implements Comparable<ServiceReferenceServiceTuple> {
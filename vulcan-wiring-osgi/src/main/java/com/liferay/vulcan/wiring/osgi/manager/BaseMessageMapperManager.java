@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.manager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.osgi.framework.ServiceReference;
+
+/**
+ * Manages message mappers indexed by the media type they write. The index is
+ * rebuilt each time a mapper is added or removed, so finding the mappers of a
+ * media type is a single map lookup.
+ *
+ * <p>
+ * The mappers acceptable for each distinct {@code Accept} header are also
+ * memoized, in the order given by the header's quality values.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public abstract class BaseMessageMapperManager<T> {
+
+	public BaseMessageMapperManager(Function<T, String> mediaTypeFunction) {
+		_mediaTypeFunction = mediaTypeFunction;
+	}
+
+	/**
+	 * Adds a message mapper to the index.
+	 *
+	 * @param serviceReference the message mapper's service reference
+	 * @param messageMapper the message mapper
+	 */
+	protected synchronized void addMessageMapper(
+		ServiceReference<T> serviceReference, T messageMapper) {
+
+		_serviceReferenceMessageMappers.put(serviceReference, messageMapper);
+
+		_rebuild();
+	}
+
+	/**
+	 * Returns the message mappers for the media types accepted by the request,
+	 * ordered by the quality value of each media type in the request's {@code
+	 * Accept} header, and by service ranking for the same media type. Wildcard
+	 * media ranges ({@code *}/{@code *}) don't add any mapper.
+	 *
+	 * @param  httpHeaders the current request's HTTP headers
+	 * @return the message mappers acceptable for the request
+	 */
+	protected List<T> getAcceptableMessageMappers(HttpHeaders httpHeaders) {
+		String accept = httpHeaders.getHeaderString(HttpHeaders.ACCEPT);
+
+		if (accept == null) {
+			accept = MediaType.WILDCARD;
+		}
+
+		Map<String, List<T>> acceptableMessageMappers =
+			_acceptableMessageMappers;
+
+		List<T> messageMappers = acceptableMessageMappers.get(accept);
+
+		if (messageMappers != null) {
+			return messageMappers;
+		}
+
+		messageMappers = _getAcceptableMessageMappers(
+			httpHeaders.getAcceptableMediaTypes());
+
+		if (acceptableMessageMappers.size() >= _MAX_ACCEPT_HEADERS) {
+			acceptableMessageMappers.clear();
+		}
+
+		acceptableMessageMappers.put(accept, messageMappers);
+
+		return messageMappers;
+	}
+
+	/**
+	 * Returns the message mappers for the media type, ordered by service
+	 * ranking. Media type parameters are ignored if no mapper exists for the
+	 * media type with the parameters.
+	 *
+	 * @param  mediaType the media type
+	 * @return the message mappers for the media type
+	 */
+	protected List<T> getMessageMappers(MediaType mediaType) {
+		Map<MediaType, List<T>> messageMappers = _messageMappers;
+
+		List<T> list = messageMappers.get(mediaType);
+
+		if ((list == null) && !mediaType.getParameters().isEmpty()) {
+			list = messageMappers.get(
+				new MediaType(mediaType.getType(), mediaType.getSubtype()));
+		}
+
+		if (list == null) {
+			return Collections.emptyList();
+		}
+
+		return list;
+	}
+
+	/**
+	 * Removes a message mapper from the index.
+	 *
+	 * @param serviceReference the message mapper's service reference
+	 */
+	protected synchronized void removeMessageMapper(
+		ServiceReference<T> serviceReference) {
+
+		_serviceReferenceMessageMappers.remove(serviceReference);
+
+		_rebuild();
+	}
+
+	private List<T> _getAcceptableMessageMappers(
+		List<MediaType> acceptableMediaTypes) {
+
+		Set<T> messageMappers = new LinkedHashSet<>();
+
+		for (MediaType acceptableMediaType : acceptableMediaTypes) {
+			if (acceptableMediaType.isWildcardType() ||
+				!_isAcceptable(acceptableMediaType)) {
+
+				continue;
+			}
+
+			if (!acceptableMediaType.isWildcardSubtype()) {
+				messageMappers.addAll(getMessageMappers(acceptableMediaType));
+
+				continue;
+			}
+
+			_messageMappers.forEach(
+				(mediaType, list) -> {
+					if (acceptableMediaType.isCompatible(mediaType)) {
+						messageMappers.addAll(list);
+					}
+				});
+		}
+
+		return Collections.unmodifiableList(new ArrayList<>(messageMappers));
+	}
+
+	private boolean _isAcceptable(MediaType mediaType) {
+		Map<String, String> parameters = mediaType.getParameters();
+
+		String quality = parameters.get("q");
+
+		if (quality == null) {
+			return true;
+		}
+
+		try {
+			if (Double.parseDouble(quality) > 0) {
+				return true;
+			}
+
+			return false;
+		}
+		catch (NumberFormatException nfe) {
+			return true;
+		}
+	}
+
+	private void _rebuild() {
+		Map<MediaType, List<T>> messageMappers = new LinkedHashMap<>();
+
+		_serviceReferenceMessageMappers.forEach(
+			(serviceReference, messageMapper) -> {
+				MediaType mediaType = MediaType.valueOf(
+					_mediaTypeFunction.apply(messageMapper));
+
+				List<T> list = messageMappers.computeIfAbsent(
+					mediaType, key -> new ArrayList<>());
+
+				list.add(messageMapper);
+			});
+
+		_messageMappers = messageMappers;
+		_acceptableMessageMappers = new ConcurrentHashMap<>();
+	}
+
+	private static final int _MAX_ACCEPT_HEADERS = 256;
+
+	private volatile Map<String, List<T>> _acceptableMessageMappers =
+		new ConcurrentHashMap<>();
+	private final Function<T, String> _mediaTypeFunction;
+	private volatile Map<MediaType, List<T>> _messageMappers =
+		Collections.emptyMap();
+	private final Map<ServiceReference<T>, T> _serviceReferenceMessageMappers =
+		new TreeMap<>(Collections.reverseOrder());
+
+}
\ No newline at end of file
@@ -27,19 +27,26 @@ import com.liferay.vulcan.resource.Routes;
 import com.liferay.vulcan.resource.ScopedCollectionResource;
 import com.liferay.vulcan.resource.identifier.Identifier;
 import com.liferay.vulcan.result.Try;
+import com.liferay.vulcan.wiring.osgi.cache.RepresentationCache;
+import com.liferay.vulcan.wiring.osgi.internal.resource.RoutesImpl;
 import com.liferay.vulcan.wiring.osgi.internal.resource.builder.RepresentorBuilderImpl;
 import com.liferay.vulcan.wiring.osgi.internal.resource.builder.RepresentorBuilderImpl.RepresentorImpl;
 import com.liferay.vulcan.wiring.osgi.internal.resource.builder.RoutesBuilderImpl;
+import com.liferay.vulcan.wiring.osgi.representor.RepresentorPlan;
 import com.liferay.vulcan.wiring.osgi.util.GenericUtil;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -87,6 +94,56 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 		return optional.map(CollectionResource::getName);
 	}
 
+	/**
+	 * Returns the maximum number of page items of the model class that can be
+	 * written in parallel for a single request. Returns {@code 1} if no
+	 * collection resource for the model class exists.
+	 *
+	 * @param  modelClass the collection resource's model class
+	 * @return the maximum number of page items written in parallel
+	 * @see    CollectionResource#getPageItemsParallelism()
+	 */
+	public int getPageItemsParallelism(Class<?> modelClass) {
+		Optional<CollectionResource> optional = _getCollectionResourceOptional(
+			modelClass.getName());
+
+		return optional.map(
+			CollectionResource::getPageItemsParallelism
+		).orElse(
+			1
+		);
+	}
+
+	/**
+	 * Returns the related collection of the collection resource that is exposed
+	 * under the nested name, if that related collection exists. Returns {@code
+	 * Optional#empty()} otherwise. Related collections are indexed by both
+	 * names each time a collection resource is added or removed. If several
+	 * related collections have the nested resource's model class, the one
+	 * whose key is the nested name is used, or else the first one added.
+	 *
+	 * @param  name the collection resource's name
+	 * @param  nestedName the related collection resource's name
+	 * @return the related collection, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public <T> Optional<RelatedCollection<T, ?>> getRelatedCollectionOptional(
+		String name, String nestedName) {
+
+		Map<String, RelatedCollection<?, ?>> relatedCollections =
+			_indexedRelatedCollections.get(name);
+
+		if (relatedCollections == null) {
+			return Optional.empty();
+		}
+
+		Optional<RelatedCollection<?, ?>> optional = Optional.ofNullable(
+			relatedCollections.get(nestedName));
+
+		return optional.map(
+			relatedCollection -> (RelatedCollection<T, ?>)relatedCollection);
+	}
+
 	/**
 	 * Returns the representor of the collection resource's model class, if that
 	 * representor exists. Returns {@code Optional#empty()} otherwise.
@@ -105,7 +162,48 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 	}
 
 	/**
-	 * Returns the root collection resource's list of names.
+	 * Returns the precompiled plan of the collection resource model class's
+	 * representor, if that representor exists. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  modelClass the collection resource's model class
+	 * @return the representor's plan, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public <T> Optional<RepresentorPlan<T>> getRepresentorPlanOptional(
+		Class<T> modelClass) {
+
+		Optional<RepresentorPlan<?>> optional = Optional.ofNullable(
+			_representorPlans.get(modelClass.getName()));
+
+		return optional.map(
+			representorPlan -> (RepresentorPlan<T>)representorPlan);
+	}
+
+	/**
+	 * Returns the time, in milliseconds, that the representations of the model
+	 * class can be reused. Returns {@code 0} if no collection resource for the
+	 * model class exists.
+	 *
+	 * @param  modelClass the collection resource's model class
+	 * @return the time to live of the model class's representations
+	 * @see    CollectionResource#getRepresentationTimeToLive()
+	 */
+	public long getRepresentationTimeToLive(Class<?> modelClass) {
+		Optional<CollectionResource> optional = _getCollectionResourceOptional(
+			modelClass.getName());
+
+		return optional.map(
+			CollectionResource::getRepresentationTimeToLive
+		).orElse(
+			0L
+		);
+	}
+
+	/**
+	 * Returns the root collection resource's list of names. The list is an
+	 * immutable snapshot, replaced each time a root collection resource is
+	 * added or removed.
 	 *
 	 * @return the root collection resource's list of names
 	 */
@@ -114,7 +212,9 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 	}
 
 	/**
-	 * Returns the model class's routes for the collection resource's name.
+	 * Returns the model class's routes for the collection resource's name. The
+	 * routes are created once, when the collection resource is registered, and
+	 * bound to the request here.
 	 *
 	 * @param  name the collection resource's name
 	 * @param  httpServletRequest the request
@@ -123,33 +223,36 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 	public <T> Optional<Routes<T>> getRoutesOptional(
 		String name, HttpServletRequest httpServletRequest) {
 
-		Optional<Function<HttpServletRequest, Routes<?>>> optional =
-			Optional.ofNullable(_routesFunctions.get(name));
+		Optional<RoutesImpl<?>> optional = Optional.ofNullable(
+			_routes.get(name));
 
 		return optional.map(
-			routesFunction -> routesFunction.apply(httpServletRequest)
-		).map(
-			routes -> (Routes<T>)routes
+			routes -> new RoutesImpl<>(
+				(RoutesImpl<T>)routes, httpServletRequest)
 		);
 	}
 
 	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
-	protected void setServiceReference(
+	protected synchronized void setServiceReference(
 		ServiceReference<CollectionResource> serviceReference) {
 
 		Optional<Class<Object>> optional = addService(serviceReference);
 
 		optional.ifPresent(this::_addModelClassMaps);
+
+		_indexRelatedCollections();
 	}
 
 	@SuppressWarnings("unused")
-	protected void unsetServiceReference(
+	protected synchronized void unsetServiceReference(
 		ServiceReference<CollectionResource> serviceReference) {
 
 		Optional<Class<Object>> optional = removeService(serviceReference);
 
 		optional.ifPresent(this::_removeModelClassMaps);
 
+		_representationCache.clear();
+
 		optional.filter(
 			modelClass -> {
 				Optional<CollectionResource> collectionResourceOptional =
@@ -160,6 +263,8 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 		).ifPresent(
 			this::_addModelClassMaps
 		);
+
+		_indexRelatedCollections();
 	}
 
 	private <T, U extends Identifier> void _addModelClassMaps(
@@ -175,7 +280,7 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 				_classes.put(collectionResource.getName(), modelClass);
 
 				if (!(collectionResource instanceof ScopedCollectionResource)) {
-					_rootCollectionResourceNames.add(
+					_addRootCollectionResourceName(
 						collectionResource.getName());
 				}
 
@@ -196,12 +301,13 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 
 				_representors.put(modelClass.getName(), representor);
 
-				Function<HttpServletRequest, Routes<?>> routesFunction =
-					_getRoutesFunction(
-						modelClass, identifierClass, collectionResource);
+				_representorPlans.put(
+					modelClass.getName(), new RepresentorPlan<>(representor));
+
+				RoutesImpl<T> routes = _buildRoutes(
+					modelClass, identifierClass, collectionResource);
 
-				_routesFunctions.put(
-					collectionResource.getName(), routesFunction);
+				_routes.put(collectionResource.getName(), routes);
 			}
 		);
 	}
@@ -210,16 +316,51 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 		_addRelatedCollectionTriConsumer(Class<T> relatedModelClass) {
 
 		return (key, modelClass, identifierFunction) -> {
-			List<RelatedCollection<?, ?>> relatedCollections =
-				_relatedCollections.computeIfAbsent(
-					modelClass.getName(), className -> new ArrayList<>());
-
-			relatedCollections.add(
+			RelatedCollection<?, ?> relatedCollection =
 				new RelatedCollection<>(
-					key, relatedModelClass, identifierFunction));
+					key, relatedModelClass, identifierFunction);
+
+			_relatedCollections.compute(
+				modelClass.getName(),
+				(className, relatedCollections) -> {
+					List<RelatedCollection<?, ?>> list = new ArrayList<>();
+
+					if (relatedCollections != null) {
+						list.addAll(relatedCollections);
+					}
+
+					list.add(relatedCollection);
+
+					return Collections.unmodifiableList(list);
+				});
 		};
 	}
 
+	private void _addRootCollectionResourceName(String name) {
+		if (_rootCollectionResourceNames.contains(name)) {
+			return;
+		}
+
+		List<String> rootCollectionResourceNames = new ArrayList<>(
+			_rootCollectionResourceNames);
+
+		rootCollectionResourceNames.add(name);
+
+		_rootCollectionResourceNames = Collections.unmodifiableList(
+			rootCollectionResourceNames);
+	}
+
+	private <T, U extends Identifier> RoutesImpl<T> _buildRoutes(
+		Class<T> modelClass, Class<U> identifierClass,
+		CollectionResource<T, U> collectionResource) {
+
+		RoutesBuilderImpl<T, U> routesBuilder = new RoutesBuilderImpl<>(
+			modelClass, identifierClass, _providerManager::provide,
+			_pathIdentifierMapperManager::map);
+
+		return (RoutesImpl<T>)collectionResource.routes(routesBuilder);
+	}
+
 	private Optional<CollectionResource> _getCollectionResourceOptional(
 		String modelClassName) {
 
@@ -240,40 +381,136 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 				resourceClass));
 	}
 
-	private Function<Class<?>, Optional<?>> _getProvideClassFunction(
-		HttpServletRequest httpServletRequest) {
+	private Optional<RelatedCollection<Object, ?>>
+		_getRelatedCollectionOptional(
+			List<RelatedCollection<Object, ?>> relatedCollections,
+			String nestedName, Class<?> nestedModelClass) {
+
+		Stream<RelatedCollection<Object, ?>> stream =
+			relatedCollections.stream();
+
+		List<RelatedCollection<Object, ?>> matchingRelatedCollections =
+			stream.filter(
+				relatedCollection -> nestedModelClass.equals(
+					relatedCollection.getModelClass())
+			).collect(
+				Collectors.toList()
+			);
+
+		Stream<RelatedCollection<Object, ?>> matchingStream =
+			matchingRelatedCollections.stream();
 
-		return clazz -> _providerManager.provide(clazz, httpServletRequest);
+		Optional<RelatedCollection<Object, ?>> optional =
+			matchingStream.filter(
+				relatedCollection -> nestedName.equals(
+					relatedCollection.getKey())
+			).findFirst();
+
+		if (optional.isPresent()) {
+			return optional;
+		}
+
+		matchingStream = matchingRelatedCollections.stream();
+
+		return matchingStream.findFirst();
 	}
 
-	private <T, U extends Identifier> Function<HttpServletRequest, Routes<?>>
-		_getRoutesFunction(
-			Class<T> modelClass, Class<U> identifierClass,
-			CollectionResource<T, U> collectionResource) {
+	private Map<String, RelatedCollection<?, ?>> _getRelatedCollections(
+		Class<?> modelClass) {
 
-		return httpServletRequest -> {
-			RoutesBuilderImpl<T, U> routesBuilder = new RoutesBuilderImpl<>(
-				modelClass, identifierClass,
-				_getProvideClassFunction(httpServletRequest),
-				_pathIdentifierMapperManager::map);
+		Map<String, RelatedCollection<?, ?>> relatedCollections =
+			new HashMap<>();
 
-			return collectionResource.routes(routesBuilder);
-		};
+		Optional<Representor<Object, Identifier>> optional =
+			getRepresentorOptional((Class<Object>)modelClass);
+
+		Stream<RelatedCollection<Object, ?>> stream = optional.map(
+			Representor::getRelatedCollections
+		).orElseGet(
+			Stream::empty
+		);
+
+		List<RelatedCollection<Object, ?>> representorRelatedCollections =
+			stream.collect(Collectors.toList());
+
+		_classes.forEach(
+			(nestedName, nestedModelClass) -> {
+				Optional<RelatedCollection<Object, ?>>
+					relatedCollectionOptional = _getRelatedCollectionOptional(
+						representorRelatedCollections, nestedName,
+						nestedModelClass);
+
+				relatedCollectionOptional.ifPresent(
+					relatedCollection -> relatedCollections.put(
+						nestedName, relatedCollection));
+			});
+
+		return relatedCollections;
+	}
+
+	private void _indexRelatedCollections() {
+		Map<String, Map<String, RelatedCollection<?, ?>>>
+			indexedRelatedCollections = new HashMap<>();
+
+		_classes.forEach(
+			(name, modelClass) -> {
+				Map<String, RelatedCollection<?, ?>> relatedCollections =
+					_getRelatedCollections(modelClass);
+
+				if (!relatedCollections.isEmpty()) {
+					indexedRelatedCollections.put(name, relatedCollections);
+				}
+			});
+
+		_indexedRelatedCollections = indexedRelatedCollections;
 	}
 
 	private <T> void _removeModelClassMaps(Class<T> modelClass) {
-		Collection<Class<?>> classes = _classes.values();
+		Set<Map.Entry<String, Class<?>>> entries = _classes.entrySet();
+
+		entries.removeIf(
+			entry -> {
+				if (!modelClass.equals(entry.getValue())) {
+					return false;
+				}
 
-		classes.removeIf(next -> next.equals(modelClass));
+				_removeRootCollectionResourceName(entry.getKey());
 
-		_relatedCollections.forEach(
-			(className, relatedCollections) -> relatedCollections.removeIf(
-				relatedCollection ->
-					relatedCollection.getModelClass().equals(modelClass)));
+				_routes.remove(entry.getKey());
+
+				return true;
+			});
+
+		_relatedCollections.replaceAll(
+			(className, relatedCollections) -> {
+				Stream<RelatedCollection<?, ?>> stream =
+					relatedCollections.stream();
+
+				return stream.filter(
+					relatedCollection ->
+						!modelClass.equals(relatedCollection.getModelClass())
+				).collect(
+					Collectors.collectingAndThen(
+						Collectors.toList(), Collections::unmodifiableList)
+				);
+			});
 		_representors.remove(modelClass.getName());
+		_representorPlans.remove(modelClass.getName());
+	}
+
+	private void _removeRootCollectionResourceName(String name) {
+		List<String> rootCollectionResourceNames = new ArrayList<>(
+			_rootCollectionResourceNames);
+
+		if (rootCollectionResourceNames.remove(name)) {
+			_rootCollectionResourceNames = Collections.unmodifiableList(
+				rootCollectionResourceNames);
+		}
 	}
 
 	private final Map<String, Class<?>> _classes = new ConcurrentHashMap<>();
+	private volatile Map<String, Map<String, RelatedCollection<?, ?>>>
+		_indexedRelatedCollections = Collections.emptyMap();
 
 	@Reference
 	private PathIdentifierMapperManager _pathIdentifierMapperManager;
@@ -283,10 +520,17 @@ public class CollectionResourceManager extends BaseManager<CollectionResource> {
 
 	private final Map<String, List<RelatedCollection<?, ?>>>
 		_relatedCollections = new ConcurrentHashMap<>();
+
+	@Reference
+	private RepresentationCache _representationCache;
+
+	private final Map<String, RepresentorPlan<?>> _representorPlans =
+		new ConcurrentHashMap<>();
 	private final Map<String, RepresentorImpl> _representors =
 		new ConcurrentHashMap<>();
-	private final List<String> _rootCollectionResourceNames = new ArrayList<>();
-	private final Map<String, Function<HttpServletRequest, Routes<?>>>
-		_routesFunctions = new ConcurrentHashMap<>();
+	private volatile List<String> _rootCollectionResourceNames =
+		Collections.emptyList();
+	private final Map<String, RoutesImpl<?>> _routes =
+		new ConcurrentHashMap<>();
 
 }
\ No newline at end of file
@@ -15,12 +15,12 @@
 package com.liferay.vulcan.wiring.osgi.manager;
 
 import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIPLE;
+import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
 import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
 
 import com.liferay.vulcan.error.VulcanDeveloperError.MustHaveProblemJSONErrorMessageMapper;
 import com.liferay.vulcan.message.json.ErrorMessageMapper;
 import com.liferay.vulcan.result.APIError;
-import com.liferay.vulcan.result.Try;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,6 +29,7 @@ import java.util.stream.Stream;
 import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 
+import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Reference;
 
@@ -39,13 +40,18 @@ import org.osgi.service.component.annotations.Reference;
  * @author Alejandro Hernández
  */
 @Component(immediate = true, service = ErrorMessageMapperManager.class)
-public class ErrorMessageMapperManager {
+public class ErrorMessageMapperManager
+	extends BaseMessageMapperManager<ErrorMessageMapper> {
+
+	public ErrorMessageMapperManager() {
+		super(ErrorMessageMapper::getMediaType);
+	}
 
 	/**
 	 * Returns the {@code ErrorMessageMapper} that corresponds to the {@code
-	 * APIError} and {@code HttpHeaders}. If no acceptable media type is found
-	 * in the current request, or no mapper is found for that request's {@code
-	 * Accept} type, this method returns a mapper for the {@code
+	 * APIError} and {@code HttpHeaders}. The media types of the request's
+	 * {@code Accept} header are tried in order of preference. If no mapper is
+	 * found for any of them, this method returns a mapper for the {@code
 	 * application/problem+json} media type.
 	 *
 	 * @param  apiError the {@code APIError}
@@ -56,53 +62,54 @@ public class ErrorMessageMapperManager {
 	public ErrorMessageMapper getErrorMessageMapper(
 		APIError apiError, HttpHeaders httpHeaders) {
 
-		String mediaType = _getMediaType(httpHeaders);
+		List<ErrorMessageMapper> errorMessageMappers =
+			getAcceptableMessageMappers(httpHeaders);
 
 		Optional<ErrorMessageMapper> optional = _getErrorMessageMapper(
-			mediaType, apiError, httpHeaders);
+			errorMessageMappers, apiError, httpHeaders);
 
 		return optional.orElseGet(
 			() -> _getProblemJSONMessageMapper(apiError, httpHeaders));
 	}
 
-	private Optional<ErrorMessageMapper> _getErrorMessageMapper(
-		String mediaTypeString, APIError apiError, HttpHeaders httpHeaders) {
+	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
+	protected void setServiceReference(
+		ServiceReference<ErrorMessageMapper> serviceReference,
+		ErrorMessageMapper errorMessageMapper) {
 
-		Stream<ErrorMessageMapper> stream = _errorMessageMappers.stream();
+		addMessageMapper(serviceReference, errorMessageMapper);
+	}
 
-		return stream.filter(
-			messageMapper ->
-				mediaTypeString.equals(messageMapper.getMediaType()) &&
-				messageMapper.supports(apiError, httpHeaders)
-		).findFirst();
+	@SuppressWarnings("unused")
+	protected void unsetServiceReference(
+		ServiceReference<ErrorMessageMapper> serviceReference,
+		ErrorMessageMapper errorMessageMapper) {
+
+		removeMessageMapper(serviceReference);
 	}
 
-	private String _getMediaType(HttpHeaders httpHeaders) {
-		List<MediaType> acceptableMediaTypes =
-			httpHeaders.getAcceptableMediaTypes();
+	private Optional<ErrorMessageMapper> _getErrorMessageMapper(
+		List<ErrorMessageMapper> errorMessageMappers, APIError apiError,
+		HttpHeaders httpHeaders) {
 
-		Try<MediaType> mediaTypeTry = Try.fromFallible(
-			() -> acceptableMediaTypes.get(0));
+		Stream<ErrorMessageMapper> stream = errorMessageMappers.stream();
 
-		return mediaTypeTry.filter(
-			mediaType -> mediaType != MediaType.WILDCARD_TYPE
-		).map(
-			MediaType::toString
-		).orElse(
-			"application/problem+json"
-		);
+		return stream.filter(
+			messageMapper -> messageMapper.supports(apiError, httpHeaders)
+		).findFirst();
 	}
 
 	private ErrorMessageMapper _getProblemJSONMessageMapper(
 		APIError apiError, HttpHeaders httpHeaders) {
 
 		Optional<ErrorMessageMapper> optional = _getErrorMessageMapper(
-			"application/problem+json", apiError, httpHeaders);
+			getMessageMappers(_PROBLEM_JSON_MEDIA_TYPE), apiError,
+			httpHeaders);
 
 		return optional.orElseThrow(MustHaveProblemJSONErrorMessageMapper::new);
 	}
 
-	@Reference(cardinality = MULTIPLE, policyOption = GREEDY)
-	private List<ErrorMessageMapper> _errorMessageMappers;
+	private static final MediaType _PROBLEM_JSON_MEDIA_TYPE = new MediaType(
+		"application", "problem+json");
 
 }
\ No newline at end of file
@@ -44,6 +44,9 @@ public class ExceptionConverterManager extends BaseManager<ExceptionConverter> {
 	 * <p>
 	 * If no {@code ExceptionConverter} can be found for the exception class,
 	 * this method tries to use the superclass of {@code ExceptionConverter}.
+	 * The converter found for each exception class is memoized in a {@code
+	 * ClassValue}, so exception classes can still be unloaded, until a
+	 * converter is added or removed.
 	 * </p>
 	 *
 	 * @param  exception the exception to convert
@@ -52,7 +55,14 @@ public class ExceptionConverterManager extends BaseManager<ExceptionConverter> {
 	 *         otherwise
 	 */
 	public <T extends Exception> Optional<APIError> convert(T exception) {
-		return _convert(exception, (Class<T>)exception.getClass());
+		Optional<ExceptionConverter> optional = _getExceptionConverterOptional(
+			exception.getClass());
+
+		return optional.map(
+			exceptionConverter -> (ExceptionConverter<T>)exceptionConverter
+		).map(
+			exceptionConverter -> exceptionConverter.convert(exception)
+		);
 	}
 
 	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
@@ -60,6 +70,8 @@ public class ExceptionConverterManager extends BaseManager<ExceptionConverter> {
 		ServiceReference<ExceptionConverter> serviceReference) {
 
 		addService(serviceReference);
+
+		_exceptionConverters = _createExceptionConverters();
 	}
 
 	@SuppressWarnings("unused")
@@ -67,30 +79,53 @@ public class ExceptionConverterManager extends BaseManager<ExceptionConverter> {
 		ServiceReference<ExceptionConverter> serviceReference) {
 
 		removeService(serviceReference);
+
+		_exceptionConverters = _createExceptionConverters();
 	}
 
-	private <T extends Exception> Optional<APIError> _convert(
-		T exception, Class<T> exceptionClass) {
+	private ClassValue<Optional<ExceptionConverter>>
+		_createExceptionConverters() {
+
+		return new ClassValue<Optional<ExceptionConverter>>() {
+
+			@Override
+			protected Optional<ExceptionConverter> computeValue(
+				Class<?> clazz) {
+
+				return _findExceptionConverterOptional(clazz);
+			}
+
+		};
+	}
 
-		Optional<ExceptionConverter> optional = getServiceOptional(
-			exceptionClass);
+	private Optional<ExceptionConverter> _findExceptionConverterOptional(
+		Class<?> exceptionClass) {
 
-		if (!optional.isPresent()) {
-			Optional<Class<?>> classOptional = Optional.ofNullable(
-				exceptionClass.getSuperclass());
+		Class<?> clazz = exceptionClass;
 
-			return classOptional.filter(
-				Exception.class::isAssignableFrom
-			).flatMap(
-				clazz -> _convert(exception, (Class<T>)clazz)
-			);
+		while ((clazz != null) && Exception.class.isAssignableFrom(clazz)) {
+			Optional<ExceptionConverter> optional = getServiceOptional(clazz);
+
+			if (optional.isPresent()) {
+				return optional;
+			}
+
+			clazz = clazz.getSuperclass();
 		}
 
-		return optional.map(
-			exceptionConverter -> (ExceptionConverter<T>)exceptionConverter
-		).map(
-			exceptionConverter -> exceptionConverter.convert(exception)
-		);
+		return Optional.empty();
+	}
+
+	private Optional<ExceptionConverter> _getExceptionConverterOptional(
+		Class<?> exceptionClass) {
+
+		ClassValue<Optional<ExceptionConverter>> exceptionConverters =
+			_exceptionConverters;
+
+		return exceptionConverters.get(exceptionClass);
 	}
 
+	private volatile ClassValue<Optional<ExceptionConverter>>
+		_exceptionConverters = _createExceptionConverters();
+
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.manager;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIPLE;
+import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import com.liferay.vulcan.message.json.PageMessageMapper;
+import com.liferay.vulcan.pagination.Page;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Provides methods to get the {@link PageMessageMapper} that corresponds to a
+ * media type and a {@link Page}.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true, service = PageMessageMapperManager.class)
+public class PageMessageMapperManager
+	extends BaseMessageMapperManager<PageMessageMapper> {
+
+	public PageMessageMapperManager() {
+		super(PageMessageMapper::getMediaType);
+	}
+
+	/**
+	 * Returns the {@code PageMessageMapper} that corresponds to the media type
+	 * and supports the page, if present. Returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * @param  mediaType the media type
+	 * @param  page the page
+	 * @param  httpHeaders the current request's HTTP headers
+	 * @return the {@code PageMessageMapper}, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public <T> Optional<PageMessageMapper<T>> getPageMessageMapperOptional(
+		MediaType mediaType, Page<T> page, HttpHeaders httpHeaders) {
+
+		List<PageMessageMapper> pageMessageMappers = getMessageMappers(
+			mediaType);
+
+		Stream<PageMessageMapper> stream = pageMessageMappers.stream();
+
+		return stream.map(
+			pageMessageMapper -> (PageMessageMapper<T>)pageMessageMapper
+		).filter(
+			pageMessageMapper -> pageMessageMapper.supports(page, httpHeaders)
+		).findFirst();
+	}
+
+	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
+	protected void setServiceReference(
+		ServiceReference<PageMessageMapper> serviceReference,
+		PageMessageMapper pageMessageMapper) {
+
+		addMessageMapper(serviceReference, pageMessageMapper);
+	}
+
+	@SuppressWarnings("unused")
+	protected void unsetServiceReference(
+		ServiceReference<PageMessageMapper> serviceReference,
+		PageMessageMapper pageMessageMapper) {
+
+		removeMessageMapper(serviceReference);
+	}
+
+}
\ No newline at end of file
@@ -18,6 +18,7 @@ import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIP
 import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
 import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
 
+import com.liferay.vulcan.context.RequestContext;
 import com.liferay.vulcan.provider.Provider;
 
 import java.util.Optional;
@@ -40,7 +41,9 @@ public class ProviderManager extends BaseManager<Provider> {
 
 	/**
 	 * Returns the instance of type {@code T} if a valid {@code Provider} can be
-	 * found. Returns {@code Optional#empty()} otherwise.
+	 * found. Returns {@code Optional#empty()} otherwise. The instance is
+	 * memoized in the {@link RequestContext} of the request, so the {@code
+	 * Provider} is only called once per request.
 	 *
 	 * @param  clazz the class type {@code T}
 	 * @param  httpServletRequest the current request
@@ -50,13 +53,20 @@ public class ProviderManager extends BaseManager<Provider> {
 	public <T> Optional<T> provide(
 		Class<T> clazz, HttpServletRequest httpServletRequest) {
 
-		Optional<Provider> optional = getServiceOptional(clazz);
+		RequestContext requestContext = RequestContext.from(
+			httpServletRequest);
 
-		return optional.map(
-			service -> (Provider<T>)service
-		).map(
-			provider -> provider.createContext(httpServletRequest)
-		);
+		return requestContext.provide(
+			clazz,
+			() -> {
+				Optional<Provider> optional = getServiceOptional(clazz);
+
+				return optional.map(
+					service -> (Provider<T>)service
+				).map(
+					provider -> provider.createContext(httpServletRequest)
+				);
+			});
 	}
 
 	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
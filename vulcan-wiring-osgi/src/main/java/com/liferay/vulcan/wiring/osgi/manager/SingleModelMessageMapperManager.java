@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.manager;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.MULTIPLE;
+import static org.osgi.service.component.annotations.ReferencePolicy.DYNAMIC;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import com.liferay.vulcan.message.json.SingleModelMessageMapper;
+import com.liferay.vulcan.pagination.SingleModel;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+
+import org.osgi.framework.ServiceReference;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Provides methods to get the {@link SingleModelMessageMapper} that corresponds
+ * to a media type and a {@link SingleModel}.
+ *
+ * @author Alejandro Hernández
+ */
+@Component(immediate = true, service = SingleModelMessageMapperManager.class)
+public class SingleModelMessageMapperManager
+	extends BaseMessageMapperManager<SingleModelMessageMapper> {
+
+	public SingleModelMessageMapperManager() {
+		super(SingleModelMessageMapper::getMediaType);
+	}
+
+	/**
+	 * Returns the first {@code SingleModelMessageMapper} acceptable for the
+	 * request that supports the single model, if present. Returns {@code
+	 * Optional#empty()} otherwise. The mappers are tried in the order of the
+	 * request's {@code Accept} header.
+	 *
+	 * @param  singleModel the single model
+	 * @param  httpHeaders the current request's HTTP headers
+	 * @return the {@code SingleModelMessageMapper}, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public <T> Optional<SingleModelMessageMapper<T>>
+		getSingleModelMessageMapperOptional(
+			SingleModel<T> singleModel, HttpHeaders httpHeaders) {
+
+		List<SingleModelMessageMapper> singleModelMessageMappers =
+			getAcceptableMessageMappers(httpHeaders);
+
+		Stream<SingleModelMessageMapper> stream =
+			singleModelMessageMappers.stream();
+
+		return stream.map(
+			singleModelMessageMapper ->
+				(SingleModelMessageMapper<T>)singleModelMessageMapper
+		).filter(
+			singleModelMessageMapper -> singleModelMessageMapper.supports(
+				singleModel, httpHeaders)
+		).findFirst();
+	}
+
+	/**
+	 * Returns the {@code SingleModelMessageMapper} that corresponds to the
+	 * media type and supports the single model, if present. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  mediaType the media type
+	 * @param  singleModel the single model
+	 * @param  httpHeaders the current request's HTTP headers
+	 * @return the {@code SingleModelMessageMapper}, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public <T> Optional<SingleModelMessageMapper<T>>
+		getSingleModelMessageMapperOptional(
+			MediaType mediaType, SingleModel<T> singleModel,
+			HttpHeaders httpHeaders) {
+
+		List<SingleModelMessageMapper> singleModelMessageMappers =
+			getMessageMappers(mediaType);
+
+		Stream<SingleModelMessageMapper> stream =
+			singleModelMessageMappers.stream();
+
+		return stream.map(
+			singleModelMessageMapper ->
+				(SingleModelMessageMapper<T>)singleModelMessageMapper
+		).filter(
+			singleModelMessageMapper -> singleModelMessageMapper.supports(
+				singleModel, httpHeaders)
+		).findFirst();
+	}
+
+	@Reference(cardinality = MULTIPLE, policy = DYNAMIC, policyOption = GREEDY)
+	protected void setServiceReference(
+		ServiceReference<SingleModelMessageMapper> serviceReference,
+		SingleModelMessageMapper singleModelMessageMapper) {
+
+		addMessageMapper(serviceReference, singleModelMessageMapper);
+	}
+
+	@SuppressWarnings("unused")
+	protected void unsetServiceReference(
+		ServiceReference<SingleModelMessageMapper> serviceReference,
+		SingleModelMessageMapper singleModelMessageMapper) {
+
+		removeMessageMapper(serviceReference);
+	}
+
+}
\ No newline at end of file
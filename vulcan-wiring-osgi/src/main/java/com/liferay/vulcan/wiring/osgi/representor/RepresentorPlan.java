@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.representor;
+
+import com.liferay.vulcan.language.Language;
+import com.liferay.vulcan.resource.Representor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Holds an immutable, precompiled view of a {@link Representor}'s fields. The
+ * field names of each kind are stored in an array, and their functions in a
+ * list with the same order, so writing the fields of a model is a single loop
+ * over each kind, with no map lookups.
+ *
+ * <p>
+ * Instances of this class are created by {@link
+ * com.liferay.vulcan.wiring.osgi.manager.CollectionResourceManager} when a
+ * {@link com.liferay.vulcan.resource.CollectionResource} is registered.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class RepresentorPlan<T> {
+
+	public RepresentorPlan(Representor<T, ?> representor) {
+		Map<String, Function<T, Boolean>> booleanFunctions =
+			representor.getBooleanFunctions();
+
+		_booleanFieldNames = _getNames(booleanFunctions);
+		_booleanFunctions = new ArrayList<>(booleanFunctions.values());
+
+		Map<String, String> links = representor.getLinks();
+
+		_linkNames = _getNames(links);
+
+		Collection<String> linkURLs = links.values();
+
+		_linkURLs = linkURLs.toArray(new String[links.size()]);
+
+		Map<String, BiFunction<T, Language, String>> localizedStringFunctions =
+			representor.getLocalizedStringFunctions();
+
+		_localizedStringFieldNames = _getNames(localizedStringFunctions);
+		_localizedStringFunctions = new ArrayList<>(
+			localizedStringFunctions.values());
+
+		Map<String, Function<T, Number>> numberFunctions =
+			representor.getNumberFunctions();
+
+		_numberFieldNames = _getNames(numberFunctions);
+		_numberFunctions = new ArrayList<>(numberFunctions.values());
+
+		Map<String, Function<T, String>> stringFunctions =
+			representor.getStringFunctions();
+
+		_stringFieldNames = _getNames(stringFunctions);
+		_stringFunctions = new ArrayList<>(stringFunctions.values());
+
+		_types = Collections.unmodifiableList(
+			new ArrayList<>(representor.getTypes()));
+	}
+
+	/**
+	 * Returns the representor's types.
+	 *
+	 * @return the representor's types
+	 */
+	public List<String> getTypes() {
+		return _types;
+	}
+
+	/**
+	 * Writes the model's boolean, localized string, number, and string fields,
+	 * followed by its links. Only the fields whose names match the predicate
+	 * are written. Null values, and empty strings, are skipped.
+	 *
+	 * @param model the model
+	 * @param language the language requested by the user
+	 * @param fieldsPredicate the predicate that the field names must match
+	 * @param booleanBiConsumer the consumer called to write each boolean field
+	 * @param numberBiConsumer the consumer called to write each number field
+	 * @param stringBiConsumer the consumer called to write each string and
+	 *        localized string field
+	 * @param linkBiConsumer the consumer called to write each link
+	 */
+	public void writeFields(
+		T model, Language language, Predicate<String> fieldsPredicate,
+		BiConsumer<String, Boolean> booleanBiConsumer,
+		BiConsumer<String, Number> numberBiConsumer,
+		BiConsumer<String, String> stringBiConsumer,
+		BiConsumer<String, String> linkBiConsumer) {
+
+		for (int i = 0; i < _booleanFieldNames.length; i++) {
+			if (fieldsPredicate.test(_booleanFieldNames[i])) {
+				Boolean value = _booleanFunctions.get(i).apply(model);
+
+				if (value != null) {
+					booleanBiConsumer.accept(_booleanFieldNames[i], value);
+				}
+			}
+		}
+
+		for (int i = 0; i < _localizedStringFieldNames.length; i++) {
+			if (fieldsPredicate.test(_localizedStringFieldNames[i])) {
+				String value = _localizedStringFunctions.get(i).apply(
+					model, language);
+
+				if ((value != null) && !value.isEmpty()) {
+					stringBiConsumer.accept(
+						_localizedStringFieldNames[i], value);
+				}
+			}
+		}
+
+		for (int i = 0; i < _numberFieldNames.length; i++) {
+			if (fieldsPredicate.test(_numberFieldNames[i])) {
+				Number value = _numberFunctions.get(i).apply(model);
+
+				if (value != null) {
+					numberBiConsumer.accept(_numberFieldNames[i], value);
+				}
+			}
+		}
+
+		for (int i = 0; i < _stringFieldNames.length; i++) {
+			if (fieldsPredicate.test(_stringFieldNames[i])) {
+				String value = _stringFunctions.get(i).apply(model);
+
+				if ((value != null) && !value.isEmpty()) {
+					stringBiConsumer.accept(_stringFieldNames[i], value);
+				}
+			}
+		}
+
+		for (int i = 0; i < _linkNames.length; i++) {
+			if (fieldsPredicate.test(_linkNames[i]) && (_linkURLs[i] != null)) {
+				linkBiConsumer.accept(_linkNames[i], _linkURLs[i]);
+			}
+		}
+	}
+
+	private static String[] _getNames(Map<String, ?> map) {
+		Set<String> names = map.keySet();
+
+		return names.toArray(new String[map.size()]);
+	}
+
+	private final String[] _booleanFieldNames;
+	private final List<Function<T, Boolean>> _booleanFunctions;
+	private final String[] _linkNames;
+	private final String[] _linkURLs;
+	private final String[] _localizedStringFieldNames;
+	private final List<BiFunction<T, Language, String>>
+		_localizedStringFunctions;
+	private final String[] _numberFieldNames;
+	private final List<Function<T, Number>> _numberFunctions;
+	private final String[] _stringFieldNames;
+	private final List<Function<T, String>> _stringFunctions;
+	private final List<String> _types;
+
+}
\ No newline at end of file
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.util;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import java.util.Date;
+
+/**
+ * Formats dates as ISO-8601 strings with minute resolution in UTC (e.g.,
+ * {@code 2017-11-08T10:30Z}), the format used for the date fields of the
+ * representations.
+ *
+ * <p>
+ * The formatter is thread-safe and shared. Because the format has minute
+ * resolution, the strings of recently formatted minutes are kept in a small
+ * cache, so formatting the dates of the models in a page usually doesn't
+ * create any object.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public class DateFormatUtil {
+
+	/**
+	 * Returns the date formatted as an ISO-8601 string, or {@code null} if the
+	 * date is {@code null}.
+	 *
+	 * @param  date the date
+	 * @return the formatted date, or {@code null} if the date is {@code null}
+	 */
+	public static String format(Date date) {
+		if (date == null) {
+			return null;
+		}
+
+		return format(date.getTime());
+	}
+
+	/**
+	 * Returns the instant formatted as an ISO-8601 string, or {@code null} if
+	 * the instant is {@code null}.
+	 *
+	 * @param  instant the instant
+	 * @return the formatted instant, or {@code null} if the instant is {@code
+	 *         null}
+	 */
+	public static String format(Instant instant) {
+		if (instant == null) {
+			return null;
+		}
+
+		return format(instant.toEpochMilli());
+	}
+
+	/**
+	 * Returns the milliseconds since the epoch formatted as an ISO-8601
+	 * string.
+	 *
+	 * @param  epochMillis the milliseconds since the epoch
+	 * @return the formatted date
+	 */
+	public static String format(long epochMillis) {
+		long epochMinute = Math.floorDiv(epochMillis, _MILLIS_PER_MINUTE);
+
+		int index = (int)(epochMinute & (_CACHE_SIZE - 1));
+
+		FormattedMinute formattedMinute = _formattedMinutes[index];
+
+		if ((formattedMinute != null) &&
+			(formattedMinute._epochMinute == epochMinute)) {
+
+			return formattedMinute._string;
+		}
+
+		String string = _dateTimeFormatter.format(
+			Instant.ofEpochMilli(epochMinute * _MILLIS_PER_MINUTE));
+
+		_formattedMinutes[index] = new FormattedMinute(epochMinute, string);
+
+		return string;
+	}
+
+	private DateFormatUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final int _CACHE_SIZE = 64;
+
+	private static final long _MILLIS_PER_MINUTE = 60 * 1000;
+
+	private static final DateTimeFormatter _dateTimeFormatter =
+		DateTimeFormatter.ofPattern(
+			"yyyy-MM-dd'T'HH:mm'Z'"
+		).withZone(
+			ZoneOffset.UTC
+		);
+	private static final FormattedMinute[] _formattedMinutes =
+		new FormattedMinute[_CACHE_SIZE];
+
+	private static class FormattedMinute {
+
+		public FormattedMinute(long epochMinute, String string) {
+			_epochMinute = epochMinute;
+			_string = string;
+		}
+
+		private final long _epochMinute;
+		private final String _string;
+
+	}
+
+}
\ No newline at end of file
@@ -19,9 +19,20 @@ import com.liferay.vulcan.result.Try;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Provides methods for skipping problems related to the Java generics system.
  *
+ * <p>
+ * The type arguments of a class are only resolved the first time they are
+ * requested for each position. Subsequent calls return the memoized result,
+ * which is kept with the class, so it goes away with the class's loader. The
+ * type arguments of a {@code Type} are read directly from it, without walking
+ * any hierarchy, so they aren't memoized.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -61,21 +72,12 @@ public class GenericUtil {
 	public static <S> Try<Class<S>> getGenericTypeArgumentTry(
 		Class<?> clazz, int position) {
 
-		Type[] genericInterfaces = clazz.getGenericInterfaces();
-
-		Try<Class<S>> classTry = Try.fail(
-			new IllegalArgumentException(
-				"Class " + clazz + " does not implement any interfaces"));
+		Map<Integer, Try<Class<Object>>> classTries = _classTries.get(clazz);
 
-		for (Type genericInterface : genericInterfaces) {
-			classTry = classTry.recoverWith(
-				throwable -> getGenericTypeArgumentTry(
-					genericInterface, position));
-		}
+		Try<Class<Object>> classTry = classTries.computeIfAbsent(
+			position, key -> _getGenericTypeArgumentTry(clazz, key));
 
-		return classTry.recoverWith(
-			throwable -> getGenericTypeArgumentTry(
-				clazz.getSuperclass(), position));
+		return (Try<Class<S>>)(Try<?>)classTry;
 	}
 
 	/**
@@ -119,4 +121,36 @@ public class GenericUtil {
 		);
 	}
 
+	private static <S> Try<Class<S>> _getGenericTypeArgumentTry(
+		Class<?> clazz, int position) {
+
+		Type[] genericInterfaces = clazz.getGenericInterfaces();
+
+		Try<Class<S>> classTry = Try.fail(
+			new IllegalArgumentException(
+				"Class " + clazz + " does not implement any interfaces"));
+
+		for (Type genericInterface : genericInterfaces) {
+			classTry = classTry.recoverWith(
+				throwable -> getGenericTypeArgumentTry(
+					genericInterface, position));
+		}
+
+		return classTry.recoverWith(
+			throwable -> getGenericTypeArgumentTry(
+				clazz.getSuperclass(), position));
+	}
+
+	private static final ClassValue<Map<Integer, Try<Class<Object>>>>
+		_classTries = new ClassValue<Map<Integer, Try<Class<Object>>>>() {
+
+			@Override
+			protected Map<Integer, Try<Class<Object>>> computeValue(
+				Class<?> clazz) {
+
+				return new ConcurrentHashMap<>();
+			}
+
+		};
+
 }
\ No newline at end of file
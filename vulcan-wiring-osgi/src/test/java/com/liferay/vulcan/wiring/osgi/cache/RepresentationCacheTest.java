@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.vulcan.wiring.osgi.cache;
+
+import com.liferay.vulcan.uri.Path;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class RepresentationCacheTest {
+
+	@Test
+	public void testBigRepresentationsAreNotStored() {
+		Path path = new Path("people", "1");
+
+		_representationCache.put(
+			path, _VARIANT, new byte[_MEGABYTE + 1], 60000,
+			_representationCache.getGeneration(path));
+
+		Assert.assertFalse(_isPresent(path, _VARIANT));
+	}
+
+	@Test
+	public void testClearRemovesEveryRepresentation() {
+		Path path1 = new Path("people", "1");
+		Path path2 = new Path("blog-postings", "2");
+
+		long generation = _representationCache.getGeneration(path1);
+
+		_put(path1, _VARIANT);
+		_put(path2, _VARIANT);
+
+		_representationCache.clear();
+
+		Assert.assertFalse(_isPresent(path1, _VARIANT));
+		Assert.assertFalse(_isPresent(path2, _VARIANT));
+
+		_representationCache.put(
+			path1, _VARIANT, new byte[] {1}, 60000, generation);
+
+		Assert.assertFalse(_isPresent(path1, _VARIANT));
+	}
+
+	@Test
+	public void testExpiredRepresentationsAreNotReturned() throws Exception {
+		Path path = new Path("people", "1");
+
+		_representationCache.put(
+			path, _VARIANT, new byte[] {1}, 1,
+			_representationCache.getGeneration(path));
+
+		Thread.sleep(20);
+
+		Assert.assertFalse(_isPresent(path, _VARIANT));
+	}
+
+	@Test
+	public void testGetReturnsTheRepresentationOfTheVariant() {
+		Path path = new Path("people", "1");
+
+		_representationCache.put(
+			path, _VARIANT, new byte[] {1, 2}, 60000,
+			_representationCache.getGeneration(path));
+
+		Optional<byte[]> optional = _representationCache.get(path, _VARIANT);
+
+		Assert.assertArrayEquals(new byte[] {1, 2}, optional.get());
+
+		Assert.assertFalse(
+			_isPresent(path, Collections.singletonList("text/html")));
+		Assert.assertFalse(_isPresent(new Path("people", "2"), _VARIANT));
+	}
+
+	@Test
+	public void testInvalidateRemovesEveryVariant() {
+		Path path = new Path("people", "1");
+		List<String> variant = Collections.singletonList("text/html");
+
+		_put(path, _VARIANT);
+		_put(path, variant);
+		_put(new Path("people", "2"), _VARIANT);
+
+		_representationCache.invalidate(path);
+
+		Assert.assertFalse(_isPresent(path, _VARIANT));
+		Assert.assertFalse(_isPresent(path, variant));
+		Assert.assertTrue(_isPresent(new Path("people", "2"), _VARIANT));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedRepresentationsAreEvicted() {
+		for (int i = 0; i < 32; i++) {
+			_put(new Path("people", String.valueOf(i)), _MEGABYTE);
+		}
+
+		Assert.assertTrue(_isPresent(new Path("people", "0"), _VARIANT));
+
+		_put(new Path("people", "32"), _MEGABYTE);
+
+		Assert.assertTrue(_isPresent(new Path("people", "0"), _VARIANT));
+		Assert.assertFalse(_isPresent(new Path("people", "1"), _VARIANT));
+		Assert.assertFalse(_isPresent(new Path("people", "9"), _VARIANT));
+		Assert.assertTrue(_isPresent(new Path("people", "10"), _VARIANT));
+		Assert.assertTrue(_isPresent(new Path("people", "32"), _VARIANT));
+	}
+
+	@Test
+	public void testPutAfterInvalidateIsIgnored() {
+		Path path = new Path("people", "1");
+
+		long generation = _representationCache.getGeneration(path);
+
+		_representationCache.invalidate(path);
+
+		_representationCache.put(
+			path, _VARIANT, new byte[] {1}, 60000, generation);
+
+		Assert.assertFalse(_isPresent(path, _VARIANT));
+
+		_put(path, _VARIANT);
+
+		Assert.assertTrue(_isPresent(path, _VARIANT));
+	}
+
+	private boolean _isPresent(Path path, List<?> variant) {
+		Optional<byte[]> optional = _representationCache.get(path, variant);
+
+		return optional.isPresent();
+	}
+
+	private void _put(Path path, int size) {
+		_representationCache.put(
+			path, _VARIANT, new byte[size], 60000,
+			_representationCache.getGeneration(path));
+	}
+
+	private void _put(Path path, List<?> variant) {
+		_representationCache.put(
+			path, variant, new byte[] {1}, 60000,
+			_representationCache.getGeneration(path));
+	}
+
+	private static final int _MEGABYTE = 1024 * 1024;
+
+	private static final List<String> _VARIANT = Collections.singletonList(
+		"application/json");
+
+	private final RepresentationCache _representationCache =
+		new RepresentationCache();
+
+}
\ No newline at end of file
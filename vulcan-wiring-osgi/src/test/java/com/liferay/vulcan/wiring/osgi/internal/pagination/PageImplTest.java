@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.vulcan.wiring.osgi.internal.pagination;
+
+import com.liferay.vulcan.pagination.PageItems;
+import com.liferay.vulcan.uri.Path;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class PageImplTest {
+
+	@Test
+	public void testBatchPageHasNoNextPage() {
+		PageImpl<String> page = new PageImpl<>(
+			String.class, Arrays.asList("1", "2"), new Path());
+
+		Assert.assertTrue(page.isBatch());
+		Assert.assertFalse(page.hasNext());
+		Assert.assertFalse(page.hasPrevious());
+		Assert.assertEquals(2, page.getTotalCount());
+	}
+
+	@Test
+	public void testCalculatedTotalCountIsAlwaysReturned() {
+		PageItems<String> pageItems = new PageItems<>(
+			Arrays.asList("1", "2"), 5);
+
+		PageImpl<String> page = new PageImpl<>(
+			String.class, pageItems, 2, 1, false, new Path());
+
+		Assert.assertTrue(page.hasTotalCount());
+		Assert.assertEquals(5, page.getTotalCount());
+		Assert.assertEquals(3, page.getLastPageNumber());
+		Assert.assertTrue(page.hasNext());
+	}
+
+	@Test
+	public void testCursorPageHasNoTotalCount() {
+		PageImpl<String> page = new PageImpl<>(
+			String.class, Arrays.asList("1", "2"), 2, "a", "b", null,
+			new Path());
+
+		Assert.assertTrue(page.isCursorBased());
+		Assert.assertFalse(page.hasTotalCount());
+		Assert.assertTrue(page.hasNext());
+		Assert.assertFalse(page.hasPrevious());
+	}
+
+	@Test
+	public void testExtraItemIsTrimmedAndMeansNextPage() {
+		PageItems<String> pageItems = new PageItems<>(
+			Arrays.asList("1", "2", "3"));
+
+		PageImpl<String> page = new PageImpl<>(
+			String.class, pageItems, 2, 1, false, new Path());
+
+		Collection<String> items = page.getItems();
+
+		Assert.assertEquals(Arrays.asList("1", "2"), items);
+		Assert.assertTrue(page.hasNext());
+		Assert.assertFalse(page.hasTotalCount());
+	}
+
+	@Test
+	public void testFullPageWithoutExtraItemHasNoNextPage() {
+		List<String> list = Arrays.asList("1", "2");
+
+		PageItems<String> pageItems = new PageItems<>(list);
+
+		PageImpl<String> page = new PageImpl<>(
+			String.class, pageItems, 2, 2, false, new Path());
+
+		Assert.assertEquals(list, page.getItems());
+		Assert.assertFalse(page.hasNext());
+		Assert.assertTrue(page.hasPrevious());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testGetTotalCountWithoutTotalCountFails() {
+		PageItems<String> pageItems = new PageItems<>(Arrays.asList("1"));
+
+		PageImpl<String> page = new PageImpl<>(
+			String.class, pageItems, 2, 1, true, new Path());
+
+		page.getTotalCount();
+	}
+
+	@Test
+	public void testSupplierIsCalledOnlyWhenTotalCountIsRequested() {
+		AtomicInteger calls = new AtomicInteger();
+
+		PageItems<String> pageItems = new PageItems<>(
+			Arrays.asList("1", "2", "3"),
+			() -> {
+				calls.incrementAndGet();
+
+				return 10;
+			});
+
+		PageImpl<String> page = new PageImpl<>(
+			String.class, pageItems, 2, 1, false, new Path());
+
+		Assert.assertEquals(0, calls.get());
+		Assert.assertFalse(page.hasTotalCount());
+		Assert.assertTrue(page.hasNext());
+
+		page = new PageImpl<>(String.class, pageItems, 2, 1, true, new Path());
+
+		Assert.assertEquals(1, calls.get());
+		Assert.assertTrue(page.hasTotalCount());
+		Assert.assertEquals(10, page.getTotalCount());
+		Assert.assertEquals(5, page.getLastPageNumber());
+		Assert.assertEquals(1, calls.get());
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.vulcan.wiring.osgi.util;
+
+import java.time.Instant;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class DateFormatUtilTest {
+
+	@Test
+	public void testFormatAcrossAMinuteBoundary() {
+		long epochMillis = Instant.parse(
+			"2017-11-08T10:30:59.999Z"
+		).toEpochMilli();
+
+		Assert.assertEquals(
+			"2017-11-08T10:30Z", DateFormatUtil.format(epochMillis));
+		Assert.assertEquals(
+			"2017-11-08T10:31Z", DateFormatUtil.format(epochMillis + 1));
+		Assert.assertEquals(
+			"2017-11-08T10:30Z", DateFormatUtil.format(epochMillis - 59999));
+		Assert.assertEquals(
+			"2017-11-08T10:29Z", DateFormatUtil.format(epochMillis - 60000));
+	}
+
+	@Test
+	public void testFormatBeforeTheEpoch() {
+		Assert.assertEquals("1969-12-31T23:59Z", DateFormatUtil.format(-1L));
+		Assert.assertEquals("1970-01-01T00:00Z", DateFormatUtil.format(0L));
+	}
+
+	@Test
+	public void testFormatConcurrently() throws Exception {
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		List<Callable<Boolean>> callables = new ArrayList<>();
+
+		for (int i = 0; i < 8; i++) {
+			long offset = i;
+
+			callables.add(
+				() -> {
+					for (long minute = 0; minute < 10000; minute++) {
+						long epochMinute = _EPOCH_MINUTE + (minute * offset);
+
+						String string = DateFormatUtil.format(
+							(epochMinute * 60000) + 30000);
+
+						if (!string.equals(_format(epochMinute))) {
+							return false;
+						}
+					}
+
+					return true;
+				});
+		}
+
+		try {
+			List<Future<Boolean>> futures = executorService.invokeAll(
+				callables);
+
+			for (Future<Boolean> future : futures) {
+				Assert.assertTrue(future.get());
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testFormatMinutesSharingACacheSlot() {
+		for (int i = 0; i < 4; i++) {
+			long epochMinute = _EPOCH_MINUTE + (i * 64);
+
+			Assert.assertEquals(
+				_format(epochMinute),
+				DateFormatUtil.format(epochMinute * 60000));
+		}
+
+		Assert.assertEquals(
+			_format(_EPOCH_MINUTE),
+			DateFormatUtil.format(_EPOCH_MINUTE * 60000));
+	}
+
+	@Test
+	public void testFormatNullReturnsNull() {
+		Assert.assertNull(DateFormatUtil.format((Date)null));
+		Assert.assertNull(DateFormatUtil.format((Instant)null));
+	}
+
+	@Test
+	public void testFormatOfDateAndInstantMatchesEpochMillis() {
+		Instant instant = Instant.parse("2017-11-08T10:30:15Z");
+
+		Assert.assertEquals(
+			"2017-11-08T10:30Z", DateFormatUtil.format(instant));
+		Assert.assertEquals(
+			"2017-11-08T10:30Z", DateFormatUtil.format(Date.from(instant)));
+	}
+
+	private static String _format(long epochMinute) {
+		Instant instant = Instant.ofEpochSecond(epochMinute * 60);
+
+		String string = instant.toString();
+
+		return string.substring(0, 16) + "Z";
+	}
+
+	private static final long _EPOCH_MINUTE = 25000000;
+
+}
\ No newline at end of file
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+package com.liferay.vulcan.wiring.osgi.util;
+
+import com.liferay.vulcan.result.Try;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class GenericUtilTest {
+
+	@Test
+	public void testGetGenericTypeArgumentTryFailsWithoutInterfaces() {
+		Try<Class<Object>> classTry =
+			GenericUtil.getFirstGenericTypeArgumentTry(Object.class);
+
+		Assert.assertTrue(classTry.isFailure());
+	}
+
+	@Test
+	public void testGetGenericTypeArgumentTryIsMemoized() {
+		Try<Class<Object>> classTry = GenericUtil.getGenericTypeArgumentTry(
+			StringIntegerFunction.class, 1);
+
+		Assert.assertEquals(Integer.class, classTry.getUnchecked());
+		Assert.assertSame(
+			classTry,
+			GenericUtil.getGenericTypeArgumentTry(
+				StringIntegerFunction.class, 1));
+
+		Try<Class<Object>> failureTry =
+			GenericUtil.getFirstGenericTypeArgumentTry(Object.class);
+
+		Assert.assertSame(
+			failureTry,
+			GenericUtil.getFirstGenericTypeArgumentTry(Object.class));
+	}
+
+	@Test
+	public void testGetGenericTypeArgumentTryIsMemoizedConcurrently()
+		throws Exception {
+
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+		List<Callable<Try<Class<Object>>>> callables = new ArrayList<>();
+
+		for (int i = 0; i < 8; i++) {
+			callables.add(
+				() -> GenericUtil.getFirstGenericTypeArgumentTry(
+					ChildStringIntegerFunction.class));
+		}
+
+		try {
+			List<Future<Try<Class<Object>>>> futures =
+				executorService.invokeAll(callables);
+
+			Future<Try<Class<Object>>> firstFuture = futures.get(0);
+
+			Try<Class<Object>> classTry = firstFuture.get();
+
+			Assert.assertEquals(String.class, classTry.getUnchecked());
+
+			for (Future<Try<Class<Object>>> future : futures) {
+				Assert.assertSame(classTry, future.get());
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testGetGenericTypeArgumentTryOfAParameterizedType()
+		throws Exception {
+
+		Type type = _getGenericType("_listsByName");
+
+		Try<Class<Object>> keyClassTry =
+			GenericUtil.getFirstGenericTypeArgumentTry(type);
+		Try<Class<Object>> valueClassTry =
+			GenericUtil.getGenericTypeArgumentTry(type, 1);
+
+		Assert.assertEquals(String.class, keyClassTry.getUnchecked());
+		Assert.assertEquals(List.class, valueClassTry.getUnchecked());
+	}
+
+	@Test
+	public void testGetGenericTypeArgumentTryOfAPlainType() {
+		Try<Class<Object>> classTry =
+			GenericUtil.getFirstGenericTypeArgumentTry((Type)String.class);
+
+		Assert.assertTrue(classTry.isFailure());
+	}
+
+	@Test
+	public void testGetGenericTypeArgumentTryUsesTheSuperclass() {
+		Try<Class<Object>> classTry = GenericUtil.getGenericTypeArgumentTry(
+			ChildStringIntegerFunction.class, 1);
+
+		Assert.assertEquals(Integer.class, classTry.getUnchecked());
+	}
+
+	public static class ChildStringIntegerFunction
+		extends StringIntegerFunction {
+	}
+
+	public static class StringIntegerFunction
+		implements Function<String, Integer> {
+
+		@Override
+		public Integer apply(String string) {
+			return string.length();
+		}
+
+	}
+
+	private Type _getGenericType(String name) throws Exception {
+		Field field = GenericUtilTest.class.getDeclaredField(name);
+
+		return field.getGenericType();
+	}
+
+	private Map<String, List<Integer>> _listsByName;
+
+}
\ No newline at end of file